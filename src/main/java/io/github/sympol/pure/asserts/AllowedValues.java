@@ -0,0 +1,118 @@
+package io.github.sympol.pure.asserts;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.TreeSet;
+
+/**
+ * Immutable set of allowed string values used by
+ * {@link Assert.StringAsserter#oneOf(AllowedValues)}.
+ *
+ * <p>
+ * Values are bucketed by length and each bucket is a sorted array, so a
+ * lookup first rules out every value of another length, then runs a binary
+ * search using character comparisons. The candidate is never hashed.
+ * </p>
+ *
+ * <p>
+ * Instances are meant to be built once and shared as constants:
+ * </p>
+ *
+ * <pre>
+ * <code>
+ * private static final AllowedValues CURRENCIES = AllowedValues.of("EUR", "USD", "GBP");
+ * </code>
+ * </pre>
+ */
+public final class AllowedValues {
+
+    private static final String[] EMPTY = new String[0];
+
+    private final String[][] byLength;
+
+    private AllowedValues(String[][] byLength) {
+        this.byLength = byLength;
+    }
+
+    /**
+     * Create a set of allowed values.
+     *
+     * @param values
+     *               allowed values, duplicates are ignored
+     * @return the allowed values
+     * @throws MissingMandatoryValueException
+     *                                          if values is null
+     * @throws NullElementInCollectionException
+     *                                          if one of the values is null
+     */
+    public static AllowedValues of(String... values) {
+        Assert.field("values", values).notNull().noNullElement();
+
+        return of(Arrays.asList(values));
+    }
+
+    /**
+     * Create a set of allowed values.
+     *
+     * @param values
+     *               allowed values, duplicates are ignored
+     * @return the allowed values
+     * @throws MissingMandatoryValueException
+     *                                          if values is null
+     * @throws NullElementInCollectionException
+     *                                          if one of the values is null
+     */
+    public static AllowedValues of(Collection<String> values) {
+        Assert.field("values", values).notNull().noNullElement();
+
+        TreeSet<String> sorted = new TreeSet<>(values);
+        int maxLength = sorted.stream().mapToInt(String::length).max().orElse(-1);
+
+        String[][] byLength = new String[maxLength + 1][];
+        Arrays.fill(byLength, EMPTY);
+        for (String value : sorted) {
+            String[] bucket = byLength[value.length()];
+            bucket = Arrays.copyOf(bucket, bucket.length + 1);
+            bucket[bucket.length - 1] = value;
+            byLength[value.length()] = bucket;
+        }
+
+        return new AllowedValues(byLength);
+    }
+
+    /**
+     * Check whether the given value is allowed.
+     *
+     * @param value
+     *              value to check
+     * @return true if the value is one of the allowed values
+     */
+    public boolean contains(String value) {
+        if (value == null) {
+            return false;
+        }
+
+        int length = value.length();
+        if (length >= byLength.length) {
+            return false;
+        }
+
+        String[] bucket = byLength[length];
+        int low = 0;
+        int high = bucket.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = bucket[middle].compareTo(value);
+
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -1,15 +1,36 @@
 package io.github.sympol.pure.asserts;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.UUID;
+import java.util.function.DoublePredicate;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.regex.Pattern;
-import java.util.stream.Stream;
 
 /**
  * This class provides utilities for input assertions.
@@ -30,9 +51,197 @@ import java.util.stream.Stream;
  */
 public final class Assert {
 
+    private static final Comparator<?> NATURAL_ORDER = Comparator.naturalOrder();
+    private static final int MAX_PLAIN_ZEROS = 32;
+    private static final int MAX_RENDERED_BIT_LENGTH = 1024;
+    private static final int MAX_RENDERED_UUID_BYTES = 36;
+    private static final int DEFAULT_MAX_ERRORS = 100;
+
+    private static final long SYSTEM_ZONE_REFRESH_MILLIS = 1_000;
+
+    private static volatile Clock clock;
+    private static volatile SystemZone systemZone;
+
     private Assert() {
     }
 
+    /**
+     * Use the given clock for every assertion relative to the current time
+     * ({@code inPast()}, {@code inFuture()}, ...) instead of the system clock.
+     * This is a global setting, meant to be called once at startup (for example
+     * with {@link CoarseClock#systemUTC()}) or in tests to get deterministic
+     * results.
+     *
+     * @param clock
+     *              clock to use, its zone is used to get the current date
+     * @throws MissingMandatoryValueException
+     *                                        if the clock is null
+     */
+    public static void useClock(Clock clock) {
+        notNull("clock", clock);
+
+        Assert.clock = clock;
+    }
+
+    /**
+     * Go back to the system clock, in the system default zone, for assertions
+     * relative to the current time.
+     */
+    public static void useSystemClock() {
+        clock = null;
+    }
+
+    static Instant now() {
+        Clock current = clock;
+
+        if (current == null) {
+            return Instant.now();
+        }
+
+        return current.instant();
+    }
+
+    static long currentMillis() {
+        Clock current = clock;
+
+        if (current == null) {
+            return System.currentTimeMillis();
+        }
+
+        return current.millis();
+    }
+
+    private static void checkWindow(Duration window, Duration skew) {
+        notNull("window", window);
+        notNull("skew", skew);
+
+        if (window.isNegative() || skew.isNegative()) {
+            throw new IllegalArgumentException("Window and skew must be positive durations: " + window + ", " + skew);
+        }
+    }
+
+    /**
+     * Locate an instant, given as epoch second and nano adjustment, relative to
+     * the window going from now minus window to now plus skew without creating
+     * intermediate instants.
+     *
+     * @return a negative number if the instant is before the window, a positive
+     *         one if it is after and 0 if it is in the window
+     */
+    private static int windowPosition(long seconds, int nanos, long nowMillis, Duration window, Duration skew) {
+        // instants are within ±2^55 seconds so the offset can't overflow
+        long offsetSeconds = seconds - Math.floorDiv(nowMillis, 1000);
+        long offsetNanos = nanos - Math.floorMod(nowMillis, 1000) * 1_000_000L;
+        if (offsetNanos < 0) {
+            offsetNanos += 1_000_000_000L;
+            offsetSeconds--;
+        }
+
+        // -offset, normalized with nanos in [0, 1e9[, must not be over window
+        long backSeconds = offsetNanos == 0 ? -offsetSeconds : -offsetSeconds - 1;
+        long backNanos = offsetNanos == 0 ? 0 : 1_000_000_000L - offsetNanos;
+        if (compareDuration(backSeconds, backNanos, window) > 0) {
+            return -1;
+        }
+
+        if (compareDuration(offsetSeconds, offsetNanos, skew) > 0) {
+            return 1;
+        }
+
+        return 0;
+    }
+
+    private static int compareDuration(long seconds, long nanos, Duration duration) {
+        int result = Long.compare(seconds, duration.getSeconds());
+
+        if (result != 0) {
+            return result;
+        }
+
+        return Long.compare(nanos, duration.getNano());
+    }
+
+    private static Instant windowStart(long nowMillis, Duration window) {
+        Instant now = Instant.ofEpochMilli(nowMillis);
+
+        if (window.compareTo(Duration.between(Instant.MIN, now)) >= 0) {
+            return Instant.MIN;
+        }
+
+        return now.minus(window);
+    }
+
+    private static Instant windowEnd(long nowMillis, Duration skew) {
+        Instant now = Instant.ofEpochMilli(nowMillis);
+
+        if (skew.compareTo(Duration.between(now, Instant.MAX)) >= 0) {
+            return Instant.MAX;
+        }
+
+        return now.plus(skew);
+    }
+
+    static ZoneId clockZone() {
+        Clock current = clock;
+
+        if (current == null) {
+            return systemZone(System.currentTimeMillis());
+        }
+
+        return current.getZone();
+    }
+
+    private static int compareEpoch(long seconds, int nanos, long otherSeconds, int otherNanos) {
+        int result = Long.compare(seconds, otherSeconds);
+
+        if (result != 0) {
+            return result;
+        }
+
+        return Integer.compare(nanos, otherNanos);
+    }
+
+    static long todayEpochDay() {
+        Clock current = clock;
+
+        if (current == null) {
+            long now = System.currentTimeMillis();
+
+            return TodayCache.epochDay(systemZone(now), now);
+        }
+
+        return TodayCache.epochDay(current.getZone(), current.millis());
+    }
+
+    /**
+     * Default zone of the system clock. {@link ZoneId#systemDefault()} clones
+     * the default {@link java.util.TimeZone} on each call so it is read again at
+     * most once per second: a change of the default zone is seen by time
+     * assertions within a second.
+     */
+    private static ZoneId systemZone(long nowMillis) {
+        SystemZone current = systemZone;
+
+        if (current == null || nowMillis - current.readMillis >= SYSTEM_ZONE_REFRESH_MILLIS
+                || nowMillis < current.readMillis) {
+            current = new SystemZone(ZoneId.systemDefault(), nowMillis);
+            systemZone = current;
+        }
+
+        return current.zone;
+    }
+
+    private static final class SystemZone {
+
+        private final ZoneId zone;
+        private final long readMillis;
+
+        private SystemZone(ZoneId zone, long readMillis) {
+            this.zone = zone;
+            this.readMillis = readMillis;
+        }
+    }
+
     /**
      * Ensure that the input is not null
      *
@@ -99,6 +308,176 @@ public final class Assert {
         }
     }
 
+    private static void checkMean(String field, double mean, double min, double max) {
+        if (!(mean >= min)) {
+            throw NumberValueTooLowException.builder().field(field).minValue(String.valueOf(min))
+                    .value(String.valueOf(mean)).build();
+        }
+
+        if (!(mean <= max)) {
+            throw NumberValueTooHighException.builder().field(field).maxValue(String.valueOf(max))
+                    .value(String.valueOf(mean)).build();
+        }
+    }
+
+    /**
+     * Apply a rule to an element of an array or a collection
+     *
+     * @return the failure, with the indexed field name of the element, or null
+     *         if the element is valid
+     */
+    private static <T> AssertionException checkElement(ElementRule<? super T> rule, String field, int index,
+            T element) {
+        try {
+            rule.check(field, element);
+
+            return null;
+        } catch (AssertionException e) {
+            return recheckElement(rule, field + "[" + index + "]", element, e);
+        }
+    }
+
+    /**
+     * Apply a rule to the value of a map entry
+     *
+     * @return the failure, with the field name of the entry, or null if the
+     *         value is valid
+     */
+    private static <T> AssertionException checkEntry(ElementRule<? super T> rule, String field, Object key,
+            T element) {
+        try {
+            rule.check(field, element);
+
+            return null;
+        } catch (AssertionException e) {
+            return recheckElement(rule, field + "[" + key + "]", element, e);
+        }
+    }
+
+    private static <T> AssertionException recheckElement(ElementRule<? super T> rule, String path, T element,
+            AssertionException error) {
+        try {
+            rule.check(path, element);
+        } catch (AssertionException e) {
+            return e;
+        }
+
+        // the rule passed on the second run, keeping the failure without path
+        return error;
+    }
+
+    /**
+     * Render a decimal for exception messages, in plain form unless it would
+     * need many padding zeros: the plain form of {@code 1e-999999999} is a one
+     * billion characters string while its scientific form is bounded by its
+     * digits.
+     */
+    private static String decimalText(BigDecimal value) {
+        int scale = value.scale();
+
+        if (scale < -MAX_PLAIN_ZEROS || scale - value.precision() > MAX_PLAIN_ZEROS) {
+            return value.toString();
+        }
+
+        return value.toPlainString();
+    }
+
+    /**
+     * Render an integer for exception messages, by its bit length when its
+     * decimal conversion would be costly.
+     */
+    private static String integerText(BigInteger value) {
+        int bitLength = value.bitLength();
+
+        if (bitLength > MAX_RENDERED_BIT_LENGTH) {
+            return (value.signum() < 0 ? "-" : "") + "(integer of " + bitLength + " bits)";
+        }
+
+        return value.toString();
+    }
+
+    /**
+     * Render the ASCII bytes of a UUID for exception messages, keeping only the
+     * length of the input past the first 36 bytes.
+     */
+    private static String uuidText(byte[] bytes, int length) {
+        if (length > MAX_RENDERED_UUID_BYTES) {
+            return new String(bytes, 0, MAX_RENDERED_UUID_BYTES, StandardCharsets.US_ASCII) + "... (" + length
+                    + " bytes)";
+        }
+
+        return new String(bytes, 0, length, StandardCharsets.US_ASCII);
+    }
+
+    private static void checkMaxErrors(int maxErrors) {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("Invalid max errors: " + maxErrors);
+        }
+    }
+
+    private static ElementFailures addFailure(ElementFailures failures, int maxErrors, AssertionException error) {
+        if (error == null) {
+            return failures;
+        }
+
+        ElementFailures result = failures == null ? new ElementFailures(maxErrors) : failures;
+        result.add(error);
+
+        return result;
+    }
+
+    private static boolean isFull(ElementFailures failures) {
+        return failures != null && failures.errors.size() == failures.maxErrors;
+    }
+
+    private static void checkFailures(String field, ElementFailures failures) {
+        if (failures != null) {
+            throw InvalidElementsException.builder().field(field).errors(failures.errors).count(failures.count)
+                    .build();
+        }
+    }
+
+    /**
+     * Failures of the invalid elements, keeping at most the given number of
+     * errors while counting all of them
+     */
+    private static final class ElementFailures {
+
+        private final int maxErrors;
+        private final List<AssertionException> errors = new ArrayList<>();
+        private int count;
+
+        private ElementFailures(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void add(AssertionException error) {
+            if (errors.size() < maxErrors) {
+                errors.add(error);
+            }
+
+            count++;
+        }
+
+        /**
+         * Count the failure of an element once maxErrors failures are kept,
+         * applying the rule once without building the path of the element
+         */
+        private <T> void count(ElementRule<? super T> rule, String field, T element) {
+            try {
+                rule.check(field, element);
+            } catch (AssertionException e) {
+                count++;
+            }
+        }
+    }
+
+    private static void checkNotDuplicate(String field, int index, int firstIndex) {
+        if (firstIndex != -1) {
+            throw DuplicateElementException.builder().field(field).index(index).firstIndex(firstIndex).build();
+        }
+    }
+
     /**
      * Create a fluent asserter for {@link String}
      *
@@ -255,6 +634,64 @@ public final class Assert {
         return new BigDecimalAsserter(field, input);
     }
 
+    /**
+     * Create a fluent asserter for {@link BigInteger} values
+     *
+     * <p>
+     * Usage:
+     * </p>
+     *
+     * <pre>
+     * <code>
+     * Assert.field("modulus", modulus)
+     *   .strictlyPositive()
+     *   .maxBitLength(4096);
+     * </code>
+     * </pre>
+     *
+     * @param field
+     *              name of the field to check (will be displayed in exception
+     *              message)
+     * @param input
+     *              value to check
+     * @return A {@link BigIntegerAsserter} for this field and value
+     */
+    public static BigIntegerAsserter field(String field, BigInteger input) {
+        return new BigIntegerAsserter(field, input);
+    }
+
+    /**
+     * Create a fluent asserter for a fixed-point decimal stored as an unscaled
+     * long, such as an amount in minor units. The value is
+     * {@code unscaledValue × 10^-scale} and is checked without creating a
+     * {@link BigDecimal}.
+     *
+     * <p>
+     * Usage:
+     * </p>
+     *
+     * <pre>
+     * <code>
+     * Assert.decimal("amount", amountInCents, 2)
+     *   .strictlyPositive()
+     *   .max(10_000);
+     * </code>
+     * </pre>
+     *
+     * @param field
+     *                      name of the field to check (will be displayed in
+     *                      exception message)
+     * @param unscaledValue
+     *                      unscaled value to check
+     * @param scale
+     *                      number of digits of unscaledValue after the decimal
+     *                      point
+     * @return A {@link FixedDecimalAsserter} for this field and value
+     */
+    public static FixedDecimalAsserter decimal(String field, long unscaledValue, int scale) {
+        return new FixedDecimalAsserter(field, unscaledValue, scale);
+    }
+
     /**
      * Create a fluent asserter for {@link Collection}
      *
@@ -290,8 +727,8 @@ public final class Assert {
      *              map to check
      * @return A {@link MapAsserter} for this field and map
      */
-    public static MapAsserter field(String field, Map<?, ?> input) {
-        return new MapAsserter(field, input);
+    public static <K, V> MapAsserter<K, V> field(String field, Map<K, V> input) {
+        return new MapAsserter<>(field, input);
     }
 
     /**
@@ -321,7 +758,7 @@ public final class Assert {
     }
 
     /**
-     * Create a fluent asserter for an Instant
+     * Create a fluent asserter for an array of int
      *
      * <p>
      * Usage:
@@ -329,9 +766,10 @@ public final class Assert {
      *
      * <pre>
      * <code>
-     * Assert.field("date", date)
-     *   .inPast()
-     *   .after(otherDate);
+     * Assert.field("samples", samples)
+     *  .notEmpty()
+     *  .allBetween(0, 100)
+     *  .strictlyIncreasing();
      * </code>
      * </pre>
      *
@@ -339,15 +777,15 @@ public final class Assert {
      *              name of the field to check (will be displayed in exception
      *              message)
      * @param input
-     *              lastName to check
-     * @return An {@link InstantAsserter} for this field and lastName
+     *              array to check
+     * @return A {@link IntArrayAsserter} for this field and array
      */
-    public static InstantAsserter field(String field, Instant input) {
-        return new InstantAsserter(field, input);
+    public static IntArrayAsserter field(String field, int[] input) {
+        return new IntArrayAsserter(field, input);
     }
 
     /**
-     * Create a fluent asserter for {@link LocalDate}
+     * Create a fluent asserter for an array of long
      *
      * <p>
      * Usage:
@@ -355,24 +793,26 @@ public final class Assert {
      *
      * <pre>
      * <code>
-     * Assert.field("birthDate", birthDate)
-     *   .inPast()
-     *   .after(minDate);
+     * Assert.field("samples", samples)
+     *  .notEmpty()
+     *  .allBetween(0, 100)
+     *  .strictlyIncreasing();
      * </code>
      * </pre>
      *
      * @param field
-     *              name of the field to check
+     *              name of the field to check (will be displayed in exception
+     *              message)
      * @param input
-     *              date to check
-     * @return A {@link LocalDateAsserter} for this field and date
+     *              array to check
+     * @return A {@link LongArrayAsserter} for this field and array
      */
-    public static LocalDateAsserter field(String field, LocalDate input) {
-        return new LocalDateAsserter(field, input);
+    public static LongArrayAsserter field(String field, long[] input) {
+        return new LongArrayAsserter(field, input);
     }
 
     /**
-     * Create a fluent asserter for UUID values
+     * Create a fluent asserter for an array of double
      *
      * <p>
      * Usage:
@@ -380,260 +820,4922 @@ public final class Assert {
      *
      * <pre>
      * <code>
-     * Assert.field("accountId", uuid)
-     *   .isValid()
-     *   .isVersion(4)
-     *   .isNotNil();
+     * Assert.field("samples", samples)
+     *  .notEmpty()
+     *  .allBetween(0, 100)
+     *  .strictlyIncreasing();
      * </code>
      * </pre>
      *
      * @param field
-     *              name of the field to check
+     *              name of the field to check (will be displayed in exception
+     *              message)
      * @param input
-     *              UUID string to check
-     * @return A {@link UUIDAsserter} for this field and lastName
+     *              array to check
+     * @return A {@link DoubleArrayAsserter} for this field and array
      */
-    public static UUIDAsserter field(String field, UUID input) {
-        return new UUIDAsserter(field, input);
+    public static DoubleArrayAsserter field(String field, double[] input) {
+        return new DoubleArrayAsserter(field, input);
     }
 
     /**
-     * Asserter dedicated to {@link String} assertions
+     * Create a fluent asserter for an Instant
+     *
+     * <p>
+     * Usage:
+     * </p>
+     *
+     * <pre>
+     * <code>
+     * Assert.field("date", date)
+     *   .inPast()
+     *   .after(otherDate);
+     * </code>
+     * </pre>
+     *
+     * @param field
+     *              name of the field to check (will be displayed in exception
+     *              message)
+     * @param input
+     *              lastName to check
+     * @return An {@link InstantAsserter} for this field and lastName
      */
-    public static final class StringAsserter {
-
-        private final String field;
-        private final String value;
+    public static InstantAsserter field(String field, Instant input) {
+        return new InstantAsserter(field, input);
+    }
 
-        private StringAsserter(String field, String value) {
-            this.field = field;
-            this.value = value;
+    /**
+     * Create a fluent asserter for a timestamp given in milliseconds since the
+     * epoch, without allocating an {@link Instant}
+     *
+     * <p>
+     * Usage:
+     * </p>
+     *
+     * <pre>
+     * <code>
+     * Assert.epochMillis("timestamp", event.timestamp())
+     *   .inPast()
+     *   .after(previous.timestamp());
+     * </code>
+     * </pre>
+     *
+     * @param field
+     *                    name of the field to check (will be displayed in
+     *                    exception message)
+     * @param epochMillis
+     *                    milliseconds since 1970-01-01T00:00:00Z
+     * @return An {@link EpochMillisAsserter} for this field and timestamp
+     */
+    public static EpochMillisAsserter epochMillis(String field, long epochMillis) {
+        return new EpochMillisAsserter(field, epochMillis);
+    }
+
+    /**
+     * Create a fluent asserter for a timestamp given in nanoseconds since the
+     * epoch, without allocating an {@link Instant}
+     *
+     * <p>
+     * Usage:
+     * </p>
+     *
+     * <pre>
+     * <code>
+     * Assert.epochNanos("timestamp", event.timestampNanos())
+     *   .inPast()
+     *   .after(previous.timestampNanos());
+     * </code>
+     * </pre>
+     *
+     * @param field
+     *                   name of the field to check (will be displayed in
+     *                   exception message)
+     * @param epochNanos
+     *                   nanoseconds since 1970-01-01T00:00:00Z
+     * @return An {@link EpochNanosAsserter} for this field and timestamp
+     */
+    public static EpochNanosAsserter epochNanos(String field, long epochNanos) {
+        return new EpochNanosAsserter(field, epochNanos);
+    }
+
+    /**
+     * Create a fluent asserter for {@link LocalDate}
+     *
+     * <p>
+     * Usage:
+     * </p>
+     *
+     * <pre>
+     * <code>
+     * Assert.field("birthDate", birthDate)
+     *   .inPast()
+     *   .after(minDate);
+     * </code>
+     * </pre>
+     *
+     * @param field
+     *              name of the field to check
+     * @param input
+     *              date to check
+     * @return A {@link LocalDateAsserter} for this field and date
+     */
+    public static LocalDateAsserter field(String field, LocalDate input) {
+        return new LocalDateAsserter(field, input);
+    }
+
+    /**
+     * Create a fluent asserter for a LocalDateTime
+     *
+     * <p>
+     * Usage:
+     * </p>
+     *
+     * <pre>
+     * <code>
+     * Assert.field("date", date)
+     *   .inPast()
+     *   .after(otherDate);
+     * </code>
+     * </pre>
+     *
+     * @param field
+     *              name of the field to check (will be displayed in exception
+     *              message)
+     * @param input
+     *              value to check
+     * @return A {@link LocalDateTimeAsserter} for this field and value
+     */
+    public static LocalDateTimeAsserter field(String field, LocalDateTime input) {
+        return new LocalDateTimeAsserter(field, input);
+    }
+
+    /**
+     * Create a fluent asserter for an OffsetDateTime
+     *
+     * <p>
+     * Usage:
+     * </p>
+     *
+     * <pre>
+     * <code>
+     * Assert.field("date", date)
+     *   .inPast()
+     *   .after(otherDate);
+     * </code>
+     * </pre>
+     *
+     * @param field
+     *              name of the field to check (will be displayed in exception
+     *              message)
+     * @param input
+     *              value to check
+     * @return A {@link OffsetDateTimeAsserter} for this field and value
+     */
+    public static OffsetDateTimeAsserter field(String field, OffsetDateTime input) {
+        return new OffsetDateTimeAsserter(field, input);
+    }
+
+    /**
+     * Create a fluent asserter for a ZonedDateTime
+     *
+     * <p>
+     * Usage:
+     * </p>
+     *
+     * <pre>
+     * <code>
+     * Assert.field("date", date)
+     *   .inPast()
+     *   .after(otherDate);
+     * </code>
+     * </pre>
+     *
+     * @param field
+     *              name of the field to check (will be displayed in exception
+     *              message)
+     * @param input
+     *              value to check
+     * @return A {@link ZonedDateTimeAsserter} for this field and value
+     */
+    public static ZonedDateTimeAsserter field(String field, ZonedDateTime input) {
+        return new ZonedDateTimeAsserter(field, input);
+    }
+
+    /**
+     * Create a fluent asserter for a Duration
+     *
+     * <p>
+     * Usage:
+     * </p>
+     *
+     * <pre>
+     * <code>
+     * Assert.field("timeout", timeout)
+     *   .strictlyPositive()
+     *   .max(Duration.ofMinutes(5));
+     * </code>
+     * </pre>
+     *
+     * @param field
+     *              name of the field to check (will be displayed in exception
+     *              message)
+     * @param input
+     *              duration to check
+     * @return A {@link DurationAsserter} for this field and duration
+     */
+    public static DurationAsserter field(String field, Duration input) {
+        return new DurationAsserter(field, input);
+    }
+
+    /**
+     * Create a fluent asserter for a Period
+     *
+     * <p>
+     * Usage:
+     * </p>
+     *
+     * <pre>
+     * <code>
+     * Assert.field("retention", retention)
+     *   .positive()
+     *   .max(Period.ofYears(10));
+     * </code>
+     * </pre>
+     *
+     * @param field
+     *              name of the field to check (will be displayed in exception
+     *              message)
+     * @param input
+     *              period to check
+     * @return A {@link PeriodAsserter} for this field and period
+     */
+    public static PeriodAsserter field(String field, Period input) {
+        return new PeriodAsserter(field, input);
+    }
+
+    /**
+     * Create a fluent asserter for a duration given in milliseconds, without
+     * allocating a {@link Duration}
+     *
+     * <p>
+     * Usage:
+     * </p>
+     *
+     * <pre>
+     * <code>
+     * Assert.durationMillis("ttl", ttlMillis)
+     *   .strictlyPositive()
+     *   .max(Duration.ofHours(1));
+     * </code>
+     * </pre>
+     *
+     * @param field
+     *               name of the field to check (will be displayed in exception
+     *               message)
+     * @param millis
+     *               duration in milliseconds
+     * @return A {@link DurationMillisAsserter} for this field and duration
+     */
+    public static DurationMillisAsserter durationMillis(String field, long millis) {
+        return new DurationMillisAsserter(field, millis);
+    }
+
+    /**
+     * Create a fluent asserter for UUID values
+     *
+     * <p>
+     * Usage:
+     * </p>
+     *
+     * <pre>
+     * <code>
+     * Assert.field("accountId", uuid)
+     *   .isValid()
+     *   .isVersion(4)
+     *   .isNotNil();
+     * </code>
+     * </pre>
+     *
+     * @param field
+     *              name of the field to check
+     * @param input
+     *              UUID string to check
+     * @return A {@link UUIDAsserter} for this field and lastName
+     */
+    public static UUIDAsserter field(String field, UUID input) {
+        return new UUIDAsserter(field, input);
+    }
+
+    /**
+     * Create a fluent asserter for a UUID given as the ASCII bytes of its
+     * canonical form ({@code xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx}), for example
+     * straight from a network buffer, without creating a {@link String} or a
+     * {@link UUID}
+     *
+     * @param field
+     *              name of the field to check (will be displayed in exception
+     *              message)
+     * @param input
+     *              the 36 ASCII bytes of the UUID
+     * @return A {@link UUIDAsserter} for this field and UUID
+     * @throws MissingMandatoryValueException
+     *                                        if the input is null
+     * @throws MalformedValueException
+     *                                        if the input is not a canonical
+     *                                        UUID
+     */
+    public static UUIDAsserter uuid(String field, byte[] input) {
+        notNull(field, input);
+
+        if (!UUIDScanner.isCanonical(input, 0, input.length)) {
+            throw MalformedValueException.builder().field(field).value(uuidText(input, input.length))
+                    .format("UUID").build();
+        }
+
+        return new UUIDAsserter(field, UUIDScanner.mostSignificantBits(input, 0),
+                UUIDScanner.leastSignificantBits(input, 0));
+    }
+
+    /**
+     * Create a fluent asserter for a UUID given as the ASCII bytes of its
+     * canonical form ({@code xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx}), without
+     * creating a {@link String} or a {@link UUID}. The bytes are read from the
+     * position to the limit of the buffer, which are left unchanged
+     *
+     * @param field
+     *              name of the field to check (will be displayed in exception
+     *              message)
+     * @param input
+     *              buffer with the 36 ASCII bytes of the UUID remaining
+     * @return A {@link UUIDAsserter} for this field and UUID
+     * @throws MissingMandatoryValueException
+     *                                        if the input is null
+     * @throws MalformedValueException
+     *                                        if the input is not a canonical
+     *                                        UUID
+     */
+    public static UUIDAsserter uuid(String field, ByteBuffer input) {
+        notNull(field, input);
+
+        if (!UUIDScanner.isCanonical(input)) {
+            byte[] head = new byte[Math.min(input.remaining(), MAX_RENDERED_UUID_BYTES)];
+            input.duplicate().get(head);
+
+            throw MalformedValueException.builder().field(field).value(uuidText(head, input.remaining()))
+                    .format("UUID").build();
+        }
+
+        return new UUIDAsserter(field, UUIDScanner.mostSignificantBits(input),
+                UUIDScanner.leastSignificantBits(input));
+    }
+
+    /**
+     * Create a fluent asserter for a collection of UUIDs, checking elements in a
+     * single pass without boxing or hashing UUIDs as objects
+     *
+     * <p>
+     * Like the element checks of {@link CollectionAsserter}, the element checks
+     * don't fail on a null collection: chain {@code notNull()} or
+     * {@code notEmpty()} to require it.
+     * </p>
+     *
+     * <p>
+     * Usage:
+     * </p>
+     *
+     * <pre>
+     * <code>
+     * Assert.uuids("ids", ids)
+     *   .maxSize(100_000)
+     *   .allValid(7);
+     * </code>
+     * </pre>
+     *
+     * @param field
+     *              name of the field to check (will be displayed in exception
+     *              message)
+     * @param input
+     *              UUIDs to check
+     * @return A {@link UUIDCollectionAsserter} for this field and UUIDs
+     */
+    public static UUIDCollectionAsserter uuids(String field, Collection<UUID> input) {
+        return new UUIDCollectionAsserter(field, input);
+    }
+
+    /**
+     * Asserter dedicated to {@link String} assertions
+     */
+    public static final class StringAsserter {
+
+        private final String field;
+        private final String value;
+
+        private StringAsserter(String field, String value) {
+            this.field = field;
+            this.value = value;
+        }
+
+        /**
+         * Get the validated value.
+         *
+         * @return The validated value
+         */
+        public String value() {
+            return value;
+        }
+
+        /**
+         * Ensure that the lastName is not null
+         *
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the lastName is null
+         */
+        public StringAsserter notNull() {
+            Assert.notNull(field, value);
+
+            return this;
+        }
+
+        /**
+         * Ensure that the lastName is not blank (null, empty or only whitespace)
+         *
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the lastName is blank
+         */
+        public StringAsserter notBlank() {
+            notNull();
+
+            if (value.isBlank()) {
+                throw MissingMandatoryValueException.forBlankValue(field);
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input lastName is at least of the given length
+         *
+         * @param length
+         *               inclusive min length of the {@link String}
+         *
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the expected length is strictly
+         *                                        positive and the lastName is null
+         * @throws StringTooShortException
+         *                                        if the lastName is shorter than min
+         *                                        length
+         */
+        public StringAsserter minLength(int length) {
+            if (length <= 0 && value == null) {
+                return this;
+            }
+
+            notNull();
+
+            if (value.length() < length) {
+                throw StringTooShortException.builder().field(field).value(value).minLength(length).build();
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the given input lastName is not over the given length
+         *
+         * @param length
+         *               inclusive max length of the {@link String}
+         * @return The current asserter
+         * @throws StringTooLongException
+         *                                if the lastName is longer than the max length
+         */
+        public StringAsserter maxLength(int length) {
+            if (value == null) {
+                return this;
+            }
+
+            if (value.length() > length) {
+                throw StringTooLongException.builder().field(field).value(value).maxLength(length).build();
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input length is between the given bounds, optionally
+         * rejecting blank values. This is the fused form of
+         * {@code notBlank().minLength(min).maxLength(max)}, failing in the same
+         * order: null and blank values are reported before the length bounds. The
+         * whitespace scan stops at the first non whitespace character.
+         *
+         * @param min
+         *                     inclusive min length of the {@link String}
+         * @param max
+         *                     inclusive max length of the {@link String}
+         * @param blankAllowed
+         *                     false to reject null, empty and whitespace only
+         *                     values
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the value is null while it is
+         *                                        mandatory, or blank while blank
+         *                                        values are not allowed
+         * @throws StringTooShortException
+         *                                        if the value is shorter than min
+         * @throws StringTooLongException
+         *                                        if the value is longer than max
+         */
+        public StringAsserter lengthBetween(int min, int max, boolean blankAllowed) {
+            if (min > max) {
+                throw new IllegalArgumentException("Invalid length bounds: " + min + " > " + max);
+            }
+
+            if (value == null) {
+                if (blankAllowed && min <= 0) {
+                    return this;
+                }
+
+                throw MissingMandatoryValueException.forNullValue(field);
+            }
+
+            // same failure as notBlank() for blank values, whatever their length
+            if (!blankAllowed && value.isBlank()) {
+                throw MissingMandatoryValueException.forBlankValue(field);
+            }
+
+            int length = value.length();
+            if (length < min) {
+                throw StringTooShortException.builder().field(field).value(value).minLength(min).build();
+            }
+
+            if (length > max) {
+                throw StringTooLongException.builder().field(field).value(value).maxLength(max).build();
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the value matches the given pattern.
+         *
+         * @param pattern
+         *                     pattern to match
+         * @param errorMessage
+         *                     error message if not matching
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the value is null or does not match
+         */
+        public StringAsserter matches(Pattern pattern, String errorMessage) {
+            if (value == null || !pattern.matcher(value).find()) {
+                throw MissingMandatoryValueException.forBadValue(field, errorMessage);
+            }
+            return this;
+        }
+
+        /**
+         * Ensure that the value satisfies the given condition.
+         *
+         * @param condition
+         *                     condition to satisfy
+         * @param errorMessage
+         *                     error message if not satisfied
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the value is null or condition is
+         *                                        false
+         */
+        public StringAsserter satisfies(Predicate<String> condition, String errorMessage) {
+            if (value == null || !condition.test(value)) {
+                throw MissingMandatoryValueException.forBadValue(field, errorMessage);
+            }
+            return this;
+        }
+
+        /**
+         * Read the value as an int, without going through exceptions for invalid
+         * input.
+         *
+         * @return An {@link IntegerAsserter} for this field and the parsed value
+         * @throws MissingMandatoryValueException
+         *                                        if the value is null
+         * @throws MalformedValueException
+         *                                        if the value is not an optionally
+         *                                        signed decimal int
+         */
+        public IntegerAsserter asInt() {
+            notNull();
+
+            if (!NumberScanner.isInteger(value, Integer.MIN_VALUE, Integer.MAX_VALUE)) {
+                throw malformed("int");
+            }
+
+            return new IntegerAsserter(field, (int) NumberScanner.parseInteger(value));
+        }
+
+        /**
+         * Read the value as a long, without going through exceptions for invalid
+         * input.
+         *
+         * @return A {@link LongAsserter} for this field and the parsed value
+         * @throws MissingMandatoryValueException
+         *                                        if the value is null
+         * @throws MalformedValueException
+         *                                        if the value is not an optionally
+         *                                        signed decimal long
+         */
+        public LongAsserter asLong() {
+            notNull();
+
+            if (!NumberScanner.isInteger(value, Long.MIN_VALUE, Long.MAX_VALUE)) {
+                throw malformed("long");
+            }
+
+            return new LongAsserter(field, NumberScanner.parseInteger(value));
+        }
+
+        /**
+         * Read the value as a {@link BigDecimal}, without going through exceptions
+         * for invalid input.
+         *
+         * @return A {@link BigDecimalAsserter} for this field and the parsed value
+         * @throws MissingMandatoryValueException
+         *                                        if the value is null
+         * @throws MalformedValueException
+         *                                        if the value is not a decimal
+         *                                        number
+         */
+        public BigDecimalAsserter asDecimal() {
+            notNull();
+
+            if (!NumberScanner.isDecimal(value)) {
+                throw malformed("decimal");
+            }
+
+            return new BigDecimalAsserter(field, new BigDecimal(value));
+        }
+
+        /**
+         * Read the value as an ISO-8601 instant, such as
+         * {@code 2026-03-01T10:15:30.120Z} or {@code 2026-03-01T11:15:30+01:00},
+         * with a fixed layout scanner. The year must have four digits, the
+         * fraction of second at most nine digits (truncated to milliseconds), and
+         * {@code T} and {@code Z} must be uppercase.
+         *
+         * @return An {@link EpochMillisAsserter} for this field and the read
+         *         instant
+         * @throws MissingMandatoryValueException
+         *                                        if the value is null
+         * @throws MalformedValueException
+         *                                        if the value is not a valid
+         *                                        ISO-8601 instant
+         */
+        public EpochMillisAsserter isoInstant() {
+            notNull();
+
+            long epochMillis = IsoScanner.epochMillis(value);
+            if (epochMillis == IsoScanner.INVALID) {
+                throw malformed("ISO-8601 instant");
+            }
+
+            return new EpochMillisAsserter(field, epochMillis);
+        }
+
+        /**
+         * Read the value as an ISO-8601 date ({@code yyyy-MM-dd}) with a fixed
+         * layout scanner, checking month lengths and leap years.
+         *
+         * @return An {@link EpochDayAsserter} for this field and the read date
+         * @throws MissingMandatoryValueException
+         *                                        if the value is null
+         * @throws MalformedValueException
+         *                                        if the value is not a valid
+         *                                        ISO-8601 date
+         */
+        public EpochDayAsserter isoDate() {
+            notNull();
+
+            long epochDay = IsoScanner.epochDay(value);
+            if (epochDay == IsoScanner.INVALID) {
+                throw malformed("ISO-8601 date");
+            }
+
+            return new EpochDayAsserter(field, epochDay);
+        }
+
+        /**
+         * Read the value as a UUID in its canonical form
+         * ({@code xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx}, hexadecimal digits in any
+         * case). Unlike {@link UUID#fromString(String)} shorter groups are
+         * rejected and no {@link UUID} is created.
+         *
+         * @return A {@link UUIDAsserter} for this field and the read UUID
+         * @throws MissingMandatoryValueException
+         *                                        if the value is null
+         * @throws MalformedValueException
+         *                                        if the value is not a canonical
+         *                                        UUID
+         */
+        public UUIDAsserter uuid() {
+            notNull();
+
+            if (!UUIDScanner.isCanonical(value)) {
+                throw malformed("UUID");
+            }
+
+            return new UUIDAsserter(field, UUIDScanner.mostSignificantBits(value),
+                    UUIDScanner.leastSignificantBits(value));
+        }
+
+        private MalformedValueException malformed(String format) {
+            return MalformedValueException.builder().field(field).value(value).format(format).build();
+        }
+
+        /**
+         * Ensure that the value has a valid email format.
+         *
+         * @return The current asserter
+         */
+        public StringAsserter email() {
+            return matches(Pattern.compile("^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,6}$"),
+                    "Invalid email format");
+        }
+
+        /**
+         * Ensure that the value has a valid URL format.
+         *
+         * @return The current asserter
+         */
+        public StringAsserter url() {
+            return matches(Pattern.compile("^(https?|ftp)://[^\\s/$.?#].[^\\s]*$"), "Invalid URL format");
+        }
+
+        /**
+         * Ensure that the value only contains characters of the given class.
+         *
+         * @param allowed
+         *                allowed characters
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the value is null
+         * @throws InvalidCharacterException
+         *                                        if the value contains a character
+         *                                        outside of the class
+         */
+        public StringAsserter allowedChars(CharClass allowed) {
+            notNull();
+
+            int index = allowed.firstRejected(value);
+            if (index >= 0) {
+                throw InvalidCharacterException.builder().field(field).value(value).index(index).build();
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the value only contains ASCII letters and digits.
+         *
+         * @return The current asserter
+         * @see CharClass#ALPHANUMERIC
+         */
+        public StringAsserter alphanumeric() {
+            return allowedChars(CharClass.ALPHANUMERIC);
+        }
+
+        /**
+         * Ensure that the value only contains hexadecimal digits.
+         *
+         * @return The current asserter
+         * @see CharClass#HEX
+         */
+        public StringAsserter hex() {
+            return allowedChars(CharClass.HEX);
+        }
+
+        /**
+         * Ensure that the value only contains characters of the base64 alphabet.
+         *
+         * @return The current asserter
+         * @see CharClass#BASE64
+         */
+        public StringAsserter base64() {
+            return allowedChars(CharClass.BASE64);
+        }
+
+        /**
+         * Ensure that the value is one of the given allowed values.
+         *
+         * @param allowed
+         *                allowed values
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the value is null
+         * @throws ValueNotAllowedException
+         *                                        if the value is not allowed
+         */
+        public StringAsserter oneOf(AllowedValues allowed) {
+            notNull();
+
+            if (!allowed.contains(value)) {
+                throw ValueNotAllowedException.forValue(field, value);
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the value contains none of the tokens of the given denylist.
+         * The value is scanned once, whatever the size of the denylist.
+         *
+         * @param denylist
+         *                 forbidden tokens
+         * @return The current asserter
+         * @throws ForbiddenTokenException
+         *                                 if the value contains a forbidden token
+         */
+        public StringAsserter doesNotContainAny(Denylist denylist) {
+            if (value == null) {
+                return this;
+            }
+
+            long match = denylist.firstMatch(value);
+            if (match >= 0) {
+                throw ForbiddenTokenException.builder()
+                        .field(field)
+                        .token(denylist.token((int) match))
+                        .offset((int) (match >>> 32))
+                        .build();
+            }
+
+            return this;
+        }
+    }
+
+    /**
+     * Asserter dedicated to Integer values (int and {@link Integer})
+     */
+    public static final class IntegerAsserter {
+
+        private final String field;
+        private final Integer value;
+
+        private IntegerAsserter(String field, Integer value) {
+            this.field = field;
+            this.value = value;
+        }
+
+        public Integer value() {
+            return value;
+        }
+
+        /**
+         * Ensure that the input lastName is positive (0 is positive)
+         *
+         * @return The current asserters
+         * @throws MissingMandatoryValueException
+         *                                        if the lastName is null
+         * @throws NumberValueTooLowException
+         *                                        if the lastName is negative
+         */
+        public IntegerAsserter positive() {
+            return min(0);
+        }
+
+        public IntegerAsserter strictlyPositive() {
+            return min(1);
+        }
+
+        /**
+         * Ensure that the input lastName is over the given lastName
+         *
+         * @param minValue
+         *                 inclusive min lastName
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if lastName is null
+         * @throws NumberValueTooLowException
+         *                                        if the lastName is under min
+         */
+        public IntegerAsserter min(int minValue) {
+            notNull(field, value);
+
+            if (value.intValue() < minValue) {
+                throw NumberValueTooLowException.builder().field(field).minValue(String.valueOf(minValue))
+                        .value(String.valueOf(value)).build();
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input lastName is under the given lastName
+         *
+         * @param maxValue
+         *                 inclusive max lastName
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if lastName is null
+         * @throws NumberValueTooHighException
+         *                                        if the lastName is over max
+         */
+        public IntegerAsserter max(int maxValue) {
+            notNull(field, value);
+
+            if (value.intValue() > maxValue) {
+                throw NumberValueTooHighException.builder().field(field).maxValue(String.valueOf(maxValue))
+                        .value(String.valueOf(value)).build();
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input is within the given range. Both bounds are checked
+         * with a single unsigned comparison on the success path.
+         *
+         * @param range
+         *              inclusive range
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input is null
+         * @throws NumberValueTooLowException
+         *                                        if the input is under the range
+         * @throws NumberValueTooHighException
+         *                                        if the input is over the range
+         */
+        public IntegerAsserter between(IntRange range) {
+            notNull(field, value);
+
+            int current = value;
+            if (!range.contains(current)) {
+                if (current < range.min()) {
+                    throw NumberValueTooLowException.builder().field(field).minValue(range.minText)
+                            .value(String.valueOf(current)).build();
+                }
+
+                throw NumberValueTooHighException.builder().field(field).maxValue(range.maxText)
+                        .value(String.valueOf(current)).build();
+            }
+
+            return this;
+        }
+
+        public IntegerAsserter satisfies(Predicate<Integer> condition, String errorMessage) {
+            if (value == null || !condition.test(value)) {
+                throw MissingMandatoryValueException.forBadValue(field, errorMessage);
+            }
+            return this;
+        }
+
+        /**
+         * Ensure that the value satisfies the given condition, evaluated on the
+         * unboxed int.
+         *
+         * @param condition
+         *                     condition to satisfy
+         * @param errorMessage
+         *                     error message if not satisfied
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the value is null or condition is
+         *                                        false
+         */
+        public IntegerAsserter satisfiesInt(IntPredicate condition, String errorMessage) {
+            if (value == null || !condition.test(value)) {
+                throw MissingMandatoryValueException.forBadValue(field, errorMessage);
+            }
+            return this;
+        }
+
+        /**
+         * Ensure that the value satisfies the given condition, evaluated on the
+         * unboxed int. The error message is only computed if the condition
+         * fails.
+         *
+         * @param condition
+         *                     condition to satisfy
+         * @param errorMessage
+         *                     supplier of the error message if not satisfied
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the value is null or condition is
+         *                                        false
+         */
+        public IntegerAsserter satisfiesInt(IntPredicate condition, Supplier<String> errorMessage) {
+            if (value == null || !condition.test(value)) {
+                throw MissingMandatoryValueException.forBadValue(field, errorMessage.get());
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Asserter dedicated to long values (long and {@link Long})
+     */
+    public static final class LongAsserter {
+
+        private final String field;
+        private final Long value;
+
+        private LongAsserter(String field, Long value) {
+            this.field = field;
+            this.value = value;
+        }
+
+        public Long value() {
+            return value;
+        }
+
+        /**
+         * Ensure that the input lastName is positive (0 is positive)
+         *
+         * @return The current asserters
+         * @throws MissingMandatoryValueException
+         *                                        if the lastName is null
+         * @throws NumberValueTooLowException
+         *                                        if the lastName is negative
+         */
+        public LongAsserter positive() {
+            return min(0L);
+        }
+
+        public LongAsserter strictlyPositive() {
+            return min(1L);
+        }
+
+        /**
+         * Ensure that the input lastName is over the given lastName
+         *
+         * @param minValue
+         *                 inclusive min lastName
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if lastName is null
+         * @throws NumberValueTooLowException
+         *                                        if the lastName is under min
+         */
+        public LongAsserter min(long minValue) {
+            notNull(field, value);
+
+            if (value.longValue() < minValue) {
+                throw NumberValueTooLowException.builder().field(field).minValue(String.valueOf(minValue))
+                        .value(String.valueOf(value)).build();
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input lastName is under the given lastName
+         *
+         * @param maxValue
+         *                 inclusive max lastName
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if lastName is null
+         * @throws NumberValueTooHighException
+         *                                        if the lastName is over max
+         */
+        public LongAsserter max(long maxValue) {
+            notNull(field, value);
+
+            if (value.longValue() > maxValue) {
+                throw NumberValueTooHighException.builder().field(field).maxValue(String.valueOf(maxValue))
+                        .value(String.valueOf(value)).build();
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input is within the given range. Both bounds are checked
+         * with a single unsigned comparison on the success path.
+         *
+         * @param range
+         *              inclusive range
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input is null
+         * @throws NumberValueTooLowException
+         *                                        if the input is under the range
+         * @throws NumberValueTooHighException
+         *                                        if the input is over the range
+         */
+        public LongAsserter between(LongRange range) {
+            notNull(field, value);
+
+            long current = value;
+            if (!range.contains(current)) {
+                if (current < range.min()) {
+                    throw NumberValueTooLowException.builder().field(field).minValue(range.minText)
+                            .value(String.valueOf(current)).build();
+                }
+
+                throw NumberValueTooHighException.builder().field(field).maxValue(range.maxText)
+                        .value(String.valueOf(current)).build();
+            }
+
+            return this;
+        }
+
+        public LongAsserter satisfies(Predicate<Long> condition, String errorMessage) {
+            if (value == null || !condition.test(value)) {
+                throw MissingMandatoryValueException.forBadValue(field, errorMessage);
+            }
+            return this;
+        }
+
+        /**
+         * Ensure that the value satisfies the given condition, evaluated on the
+         * unboxed long.
+         *
+         * @param condition
+         *                     condition to satisfy
+         * @param errorMessage
+         *                     error message if not satisfied
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the value is null or condition is
+         *                                        false
+         */
+        public LongAsserter satisfiesLong(LongPredicate condition, String errorMessage) {
+            if (value == null || !condition.test(value)) {
+                throw MissingMandatoryValueException.forBadValue(field, errorMessage);
+            }
+            return this;
+        }
+
+        /**
+         * Ensure that the value satisfies the given condition, evaluated on the
+         * unboxed long. The error message is only computed if the condition
+         * fails.
+         *
+         * @param condition
+         *                     condition to satisfy
+         * @param errorMessage
+         *                     supplier of the error message if not satisfied
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the value is null or condition is
+         *                                        false
+         */
+        public LongAsserter satisfiesLong(LongPredicate condition, Supplier<String> errorMessage) {
+            if (value == null || !condition.test(value)) {
+                throw MissingMandatoryValueException.forBadValue(field, errorMessage.get());
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Asserter dedicated to float values (float and {@link Float})
+     */
+    public static final class FloatAsserter {
+
+        private final String field;
+        private final Float value;
+
+        FloatAsserter(String field, Float value) {
+            this.field = field;
+            this.value = value;
+        }
+
+        public Float value() {
+            return value;
+        }
+
+        /**
+         * Ensure that the input lastName is positive (0 is positive)
+         *
+         * @return The current asserters
+         * @throws MissingMandatoryValueException
+         *                                        if the lastName is null
+         * @throws NumberValueTooLowException
+         *                                        if the lastName is negative
+         */
+        public FloatAsserter positive() {
+            return min(0);
+        }
+
+        /**
+         * Ensure that the input lastName is strictly positive (0 is not strictly
+         * positive)
+         *
+         * @return The current asserters
+         * @throws MissingMandatoryValueException
+         *                                        if the lastName is null
+         * @throws NumberValueTooLowException
+         *                                        if the lastName is negative
+         */
+        public FloatAsserter strictlyPositive() {
+            return over(0);
+        }
+
+        /**
+         * Ensure that the input lastName is over the given lastName
+         *
+         * @param minValue
+         *                 inclusive min lastName
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if lastName is null
+         * @throws NumberValueTooLowException
+         *                                        if the lastName is under min
+         */
+        public FloatAsserter min(float minValue) {
+            notNull(field, value);
+
+            if (value.floatValue() < minValue) {
+                throw tooLow(minValue);
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input lastName is over the given floor
+         *
+         * @param floor
+         *              exclusive floor lastName
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if lastName is null
+         * @throws NumberValueTooHighException
+         *                                        if the lastName is under floor
+         */
+        public FloatAsserter over(float floor) {
+            notNull(field, value);
+
+            if (value.floatValue() <= floor) {
+                throw tooLow(floor);
+            }
+
+            return this;
+        }
+
+        private NumberValueTooLowException tooLow(float floor) {
+            return NumberValueTooLowException.builder().field(field).minValue(String.valueOf(floor))
+                    .value(String.valueOf(value)).build();
+        }
+
+        /**
+         * Ensure that the input lastName is under the given lastName
+         *
+         * @param maxValue
+         *                 inclusive max lastName
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if lastName is null
+         * @throws NumberValueTooHighException
+         *                                        if the lastName is over max
+         */
+        public FloatAsserter max(float maxValue) {
+            notNull(field, value);
+
+            if (value.floatValue() > maxValue) {
+                throw tooHigh(maxValue);
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input lastName is under the given ceil
+         *
+         * @param ceil
+         *             exclusive ceil lastName
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if lastName is null
+         * @throws NumberValueTooHighException
+         *                                        if the lastName is over ceil
+         */
+        public FloatAsserter under(float ceil) {
+            notNull(field, value);
+
+            if (value.floatValue() >= ceil) {
+                throw tooHigh(ceil);
+            }
+
+            return this;
+        }
+
+        private NumberValueTooHighException tooHigh(float ceil) {
+            return NumberValueTooHighException.builder().field(field).maxValue(String.valueOf(ceil))
+                    .value(String.valueOf(value)).build();
+        }
+
+        /**
+         * Ensure that the input is within the given range.
+         *
+         * @param range
+         *              inclusive range
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input is null
+         * @throws NumberValueTooLowException
+         *                                        if the input is under the range
+         *                                        or NaN
+         * @throws NumberValueTooHighException
+         *                                        if the input is over the range
+         */
+        public FloatAsserter between(DoubleRange range) {
+            notNull(field, value);
+
+            float current = value;
+            // NaN is reported as too low, as it is not contained in any range
+            if (!(current >= range.min())) {
+                throw NumberValueTooLowException.builder().field(field).minValue(range.minText)
+                        .value(String.valueOf(current)).build();
+            }
+
+            if (current > range.max()) {
+                throw NumberValueTooHighException.builder().field(field).maxValue(range.maxText)
+                        .value(String.valueOf(current)).build();
+            }
+
+            return this;
+        }
+
+        public FloatAsserter satisfies(Predicate<Float> condition, String errorMessage) {
+            if (value == null || !condition.test(value)) {
+                throw MissingMandatoryValueException.forBadValue(field, errorMessage);
+            }
+            return this;
+        }
+
+        /**
+         * Ensure that the value satisfies the given condition, evaluated on the
+         * unboxed float.
+         *
+         * @param condition
+         *                     condition to satisfy
+         * @param errorMessage
+         *                     error message if not satisfied
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the value is null or condition is
+         *                                        false
+         */
+        public FloatAsserter satisfiesFloat(FloatPredicate condition, String errorMessage) {
+            if (value == null || !condition.test(value)) {
+                throw MissingMandatoryValueException.forBadValue(field, errorMessage);
+            }
+            return this;
+        }
+
+        /**
+         * Ensure that the value satisfies the given condition, evaluated on the
+         * unboxed float. The error message is only computed if the condition
+         * fails.
+         *
+         * @param condition
+         *                     condition to satisfy
+         * @param errorMessage
+         *                     supplier of the error message if not satisfied
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the value is null or condition is
+         *                                        false
+         */
+        public FloatAsserter satisfiesFloat(FloatPredicate condition, Supplier<String> errorMessage) {
+            if (value == null || !condition.test(value)) {
+                throw MissingMandatoryValueException.forBadValue(field, errorMessage.get());
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Asserter dedicated to double values (double and {@link Double})
+     */
+    public static final class DoubleAsserter {
+
+        private final String field;
+        private final Double value;
+
+        DoubleAsserter(String field, Double value) {
+            this.field = field;
+            this.value = value;
+        }
+
+        public Double value() {
+            return value;
+        }
+
+        /**
+         * Ensure that the input lastName is positive (0 is positive)
+         *
+         * @return The current asserters
+         * @throws MissingMandatoryValueException
+         *                                        if the lastName is null
+         * @throws NumberValueTooLowException
+         *                                        if the lastName is negative
+         */
+        public DoubleAsserter positive() {
+            return min(0);
+        }
+
+        /**
+         * Ensure that the input lastName is strictly positive (0 is not strictly
+         * positive)
+         *
+         * @return The current asserters
+         * @throws MissingMandatoryValueException
+         *                                        if the lastName is null
+         * @throws NumberValueTooLowException
+         *                                        if the lastName is negative
+         */
+        public DoubleAsserter strictlyPositive() {
+            return over(0);
+        }
+
+        /**
+         * Ensure that the input lastName is over the given lastName
+         *
+         * @param minValue
+         *                 inclusive min lastName
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if lastName is null
+         * @throws NumberValueTooLowException
+         *                                        if the lastName is under min
+         */
+        public DoubleAsserter min(double minValue) {
+            notNull(field, value);
+
+            if (value.doubleValue() < minValue) {
+                throw tooLow(minValue);
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input lastName is over the given floor
+         *
+         * @param floor
+         *              exclusive floor lastName
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if lastName is null
+         * @throws NumberValueTooHighException
+         *                                        if the lastName is under floor
+         */
+        public DoubleAsserter over(double floor) {
+            notNull(field, value);
+
+            if (value.doubleValue() <= floor) {
+                throw tooLow(floor);
+            }
+
+            return this;
+        }
+
+        private NumberValueTooLowException tooLow(double floor) {
+            return NumberValueTooLowException.builder().field(field).minValue(String.valueOf(floor))
+                    .value(String.valueOf(value)).build();
+        }
+
+        /**
+         * Ensure that the input lastName is under the given lastName
+         *
+         * @param maxValue
+         *                 inclusive max lastName
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if lastName is null
+         * @throws NumberValueTooHighException
+         *                                        if the lastName is over max
+         */
+        public DoubleAsserter max(double maxValue) {
+            notNull(field, value);
+
+            if (value.doubleValue() > maxValue) {
+                throw tooHigh(maxValue);
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input lastName is under the given ceil
+         *
+         * @param ceil
+         *             exclusive ceil lastName
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if lastName is null
+         * @throws NumberValueTooHighException
+         *                                        if the lastName is over ceil
+         */
+        public DoubleAsserter under(double ceil) {
+            notNull(field, value);
+
+            if (value.doubleValue() >= ceil) {
+                throw tooHigh(ceil);
+            }
+
+            return this;
+        }
+
+        private NumberValueTooHighException tooHigh(double ceil) {
+            return NumberValueTooHighException.builder().field(field).maxValue(String.valueOf(ceil))
+                    .value(String.valueOf(value)).build();
+        }
+
+        /**
+         * Ensure that the input is within the given range.
+         *
+         * @param range
+         *              inclusive range
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input is null
+         * @throws NumberValueTooLowException
+         *                                        if the input is under the range
+         *                                        or NaN
+         * @throws NumberValueTooHighException
+         *                                        if the input is over the range
+         */
+        public DoubleAsserter between(DoubleRange range) {
+            notNull(field, value);
+
+            double current = value;
+            // NaN is reported as too low, as it is not contained in any range
+            if (!(current >= range.min())) {
+                throw NumberValueTooLowException.builder().field(field).minValue(range.minText)
+                        .value(String.valueOf(current)).build();
+            }
+
+            if (current > range.max()) {
+                throw NumberValueTooHighException.builder().field(field).maxValue(range.maxText)
+                        .value(String.valueOf(current)).build();
+            }
+
+            return this;
+        }
+
+        public DoubleAsserter satisfies(Predicate<Double> condition, String errorMessage) {
+            if (value == null || !condition.test(value)) {
+                throw MissingMandatoryValueException.forBadValue(field, errorMessage);
+            }
+            return this;
+        }
+
+        /**
+         * Ensure that the value satisfies the given condition, evaluated on the
+         * unboxed double.
+         *
+         * @param condition
+         *                     condition to satisfy
+         * @param errorMessage
+         *                     error message if not satisfied
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the value is null or condition is
+         *                                        false
+         */
+        public DoubleAsserter satisfiesDouble(DoublePredicate condition, String errorMessage) {
+            if (value == null || !condition.test(value)) {
+                throw MissingMandatoryValueException.forBadValue(field, errorMessage);
+            }
+            return this;
+        }
+
+        /**
+         * Ensure that the value satisfies the given condition, evaluated on the
+         * unboxed double. The error message is only computed if the condition
+         * fails.
+         *
+         * @param condition
+         *                     condition to satisfy
+         * @param errorMessage
+         *                     supplier of the error message if not satisfied
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the value is null or condition is
+         *                                        false
+         */
+        public DoubleAsserter satisfiesDouble(DoublePredicate condition, Supplier<String> errorMessage) {
+            if (value == null || !condition.test(value)) {
+                throw MissingMandatoryValueException.forBadValue(field, errorMessage.get());
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Asserter dedicated to {@link BigDecimal} assertions
+     */
+    public static final class BigDecimalAsserter {
+
+        private final String field;
+        private final BigDecimal value;
+
+        private BigDecimalAsserter(String field, BigDecimal value) {
+            this.field = field;
+            this.value = value;
+        }
+
+        public BigDecimal value() {
+            return value;
+        }
+
+        /**
+         * Ensure that the input lastName is positive (0 is positive)
+         *
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input lastName is null
+         * @throws NumberValueTooLowException
+         *                                        if the input lastName is negative
+         */
+        public BigDecimalAsserter positive() {
+            return min(0);
+        }
+
+        /**
+         * Ensure that the input lastName is strictly positive (0 is not strictly
+         * positive)
+         *
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input lastName is null
+         * @throws NumberValueTooLowException
+         *                                        if the input lastName is negative
+         */
+        public BigDecimalAsserter strictlyPositive() {
+            return over(0);
+        }
+
+        /**
+         * Ensure that the input lastName is at least at min lastName
+         *
+         * @param minValue
+         *                 inclusive min lastName
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input lastName is null
+         * @throws NumberValueTooLowException
+         *                                        if the input lastName is under the min
+         *                                        lastName
+         */
+        public BigDecimalAsserter min(long minValue) {
+            notNull();
+
+            if (compare(value, minValue) < 0) {
+                throw tooLow(String.valueOf(minValue));
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input lastName is at least at min lastName
+         *
+         * @param minValue
+         *                 inclusive min lastName
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input or min lastName is null
+         * @throws NumberValueTooLowException
+         *                                        if the input lastName is under the min
+         *                                        lastName
+         */
+        public BigDecimalAsserter min(BigDecimal minValue) {
+            notNull();
+            Assert.notNull("minValue", minValue);
+
+            if (value.compareTo(minValue) < 0) {
+                throw tooLow(String.valueOf(minValue));
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input lastName is over the given floor
+         *
+         * @param floor
+         *              exclusive floor lastName
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if lastName is null
+         * @throws NumberValueTooLowException
+         *                                        if the lastName is under floor
+         */
+        public BigDecimalAsserter over(long floor) {
+            notNull();
+
+            if (compare(value, floor) <= 0) {
+                throw tooLow(String.valueOf(floor));
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input lastName is over the given floor
+         *
+         * @param floor
+         *              exclusive floor lastName
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if lastName or floor is null
+         * @throws NumberValueTooLowException
+         *                                        if the lastName is under floor
+         */
+        public BigDecimalAsserter over(BigDecimal floor) {
+            notNull();
+            Assert.notNull("floor", floor);
+
+            if (value.compareTo(floor) <= 0) {
+                throw tooLow(String.valueOf(floor));
+            }
+
+            return this;
+        }
+
+        private NumberValueTooLowException tooLow(String floor) {
+            return NumberValueTooLowException.builder().field(field).minValue(floor)
+                    .value(decimalText(value)).build();
+        }
+
+        /**
+         * Ensure that the input lastName is at most at max lastName
+         *
+         * @param maxValue
+         *                 inclusive max lastName
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input lastName is null
+         * @throws NumberValueTooHighException
+         *                                        if the input lastName is over max
+         */
+        public BigDecimalAsserter max(long maxValue) {
+            notNull();
+
+            if (compare(value, maxValue) > 0) {
+                throw tooHigh(String.valueOf(maxValue));
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input lastName is at most at max lastName
+         *
+         * @param maxValue
+         *                 inclusive max lastName
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input or max lastName is null
+         * @throws NumberValueTooHighException
+         *                                        if the input lastName is over max
+         */
+        public BigDecimalAsserter max(BigDecimal maxValue) {
+            notNull();
+            Assert.notNull("maxValue", maxValue);
+
+            if (value.compareTo(maxValue) > 0) {
+                throw tooHigh(String.valueOf(maxValue));
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input lastName is under the given ceil
+         *
+         * @param ceil
+         *             exclusive ceil lastName
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if lastName is null
+         * @throws NumberValueTooHighException
+         *                                        if the lastName is under floor
+         */
+        public BigDecimalAsserter under(long ceil) {
+            notNull();
+
+            if (compare(value, ceil) >= 0) {
+                throw tooHigh(String.valueOf(ceil));
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input lastName is under the given ceil
+         *
+         * @param ceil
+         *             exclusive ceil lastName
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if lastName or ceil is null
+         * @throws NumberValueTooHighException
+         *                                        if the lastName is under floor
+         */
+        public BigDecimalAsserter under(BigDecimal ceil) {
+            notNull();
+            Assert.notNull("ceil", ceil);
+
+            if (value.compareTo(ceil) >= 0) {
+                throw tooHigh(String.valueOf(ceil));
+            }
+
+            return this;
+        }
+
+        private NumberValueTooHighException tooHigh(String ceil) {
+            return NumberValueTooHighException.builder().field(field).maxValue(ceil)
+                    .value(decimalText(value)).build();
+        }
+
+        /**
+         * Ensure that the input has at most the given number of digits after the
+         * decimal point, as given by {@link BigDecimal#scale()}: trailing zeros
+         * count, so {@code 1.50} has a scale of 2.
+         *
+         * @param maxScale
+         *                 inclusive max scale
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input is null
+         * @throws TooManyDigitsException
+         *                                        if the scale is over maxScale
+         */
+        public BigDecimalAsserter maxScale(int maxScale) {
+            notNull();
+
+            if (value.scale() > maxScale) {
+                throw TooManyDigitsException.forScale(field, decimalText(value), maxScale, value.scale());
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input has at most the given number of significant
+         * digits, as given by {@link BigDecimal#precision()}.
+         *
+         * @param maxPrecision
+         *                     inclusive max precision
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input is null
+         * @throws TooManyDigitsException
+         *                                        if the precision is over
+         *                                        maxPrecision
+         */
+        public BigDecimalAsserter maxPrecision(int maxPrecision) {
+            notNull();
+
+            if (value.precision() > maxPrecision) {
+                throw TooManyDigitsException.forPrecision(field, decimalText(value), maxPrecision,
+                        value.precision());
+            }
+
+            return this;
+        }
+
+        /**
+         * Compare a decimal with a long, deciding from the signs and digit counts
+         * when possible. A {@link BigDecimal} is only created for the bound when
+         * the value has a fraction or more than 18 digits and as many integer
+         * digits as the bound.
+         */
+        private static int compare(BigDecimal value, long bound) {
+            int signum = value.signum();
+            int boundSignum = Long.signum(bound);
+            if (signum != boundSignum || signum == 0) {
+                return Integer.compare(signum, boundSignum);
+            }
+
+            if (value.scale() == 0 && value.precision() <= 18) {
+                return Long.compare(value.longValue(), bound);
+            }
+
+            // |value| is in [10^(integerDigits - 1), 10^integerDigits[
+            // and |bound| in [10^(boundDigits - 1), 10^boundDigits[
+            long integerDigits = (long) value.precision() - value.scale();
+            int boundDigits = digits(bound);
+            if (integerDigits < boundDigits) {
+                return -signum;
+            }
+            if (integerDigits > boundDigits) {
+                return signum;
+            }
+
+            return value.compareTo(BigDecimal.valueOf(bound));
+        }
+
+        private static int digits(long value) {
+            int digits = 1;
+            for (long magnitude = Math.abs(value / 10); magnitude != 0; magnitude /= 10) {
+                digits++;
+            }
+
+            return digits;
+        }
+
+        /**
+         * Ensure that the input lastName is not null
+         *
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input lastName is null
+         */
+        public BigDecimalAsserter notNull() {
+            Assert.notNull(field, value);
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input is within the given range.
+         *
+         * @param range
+         *              inclusive range
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input is null
+         * @throws NumberValueTooLowException
+         *                                        if the input is under the range
+         * @throws NumberValueTooHighException
+         *                                        if the input is over the range
+         */
+        public BigDecimalAsserter between(DecimalRange range) {
+            notNull();
+
+            if (value.compareTo(range.min()) < 0) {
+                throw tooLow(range.minText);
+            }
+
+            if (value.compareTo(range.max()) > 0) {
+                throw tooHigh(range.maxText);
+            }
+
+            return this;
+        }
+
+        public BigDecimalAsserter satisfies(Predicate<BigDecimal> condition, String errorMessage) {
+            if (value == null || !condition.test(value)) {
+                throw MissingMandatoryValueException.forBadValue(field, errorMessage);
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Asserter dedicated to {@link BigInteger} assertions. Bounds are decided
+     * from {@link BigInteger#signum()} and {@link BigInteger#bitLength()}
+     * whenever they differ, so huge values are rejected in constant time.
+     */
+    public static final class BigIntegerAsserter {
+
+        private final String field;
+        private final BigInteger value;
+
+        private BigIntegerAsserter(String field, BigInteger value) {
+            this.field = field;
+            this.value = value;
+        }
+
+        public BigInteger value() {
+            return value;
+        }
+
+        /**
+         * Ensure that the input is not null
+         *
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input is null
+         */
+        public BigIntegerAsserter notNull() {
+            Assert.notNull(field, value);
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input is positive (0 is positive)
+         *
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input is null
+         * @throws NumberValueTooLowException
+         *                                        if the input is negative
+         */
+        public BigIntegerAsserter positive() {
+            return min(0);
+        }
+
+        /**
+         * Ensure that the input is strictly positive (0 is not strictly positive)
+         *
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input is null
+         * @throws NumberValueTooLowException
+         *                                        if the input is negative or zero
+         */
+        public BigIntegerAsserter strictlyPositive() {
+            return over(0);
+        }
+
+        /**
+         * Ensure that the input is at least the given value
+         *
+         * @param minValue
+         *                 inclusive min value
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input is null
+         * @throws NumberValueTooLowException
+         *                                        if the input is under min
+         */
+        public BigIntegerAsserter min(long minValue) {
+            notNull();
+
+            if (compare(value, minValue) < 0) {
+                throw tooLow(String.valueOf(minValue));
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input is at least the given value
+         *
+         * @param minValue
+         *                 inclusive min value
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input or min is null
+         * @throws NumberValueTooLowException
+         *                                        if the input is under min
+         */
+        public BigIntegerAsserter min(BigInteger minValue) {
+            notNull();
+            Assert.notNull("minValue", minValue);
+
+            if (compare(value, minValue) < 0) {
+                throw tooLow(integerText(minValue));
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input is over the given floor
+         *
+         * @param floor
+         *              exclusive floor value
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input is null
+         * @throws NumberValueTooLowException
+         *                                        if the input is under floor
+         */
+        public BigIntegerAsserter over(long floor) {
+            notNull();
+
+            if (compare(value, floor) <= 0) {
+                throw tooLow(String.valueOf(floor));
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input is over the given floor
+         *
+         * @param floor
+         *              exclusive floor value
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input or floor is null
+         * @throws NumberValueTooLowException
+         *                                        if the input is under floor
+         */
+        public BigIntegerAsserter over(BigInteger floor) {
+            notNull();
+            Assert.notNull("floor", floor);
+
+            if (compare(value, floor) <= 0) {
+                throw tooLow(integerText(floor));
+            }
+
+            return this;
+        }
+
+        private NumberValueTooLowException tooLow(String floor) {
+            return NumberValueTooLowException.builder().field(field).minValue(floor)
+                    .value(integerText(value)).build();
+        }
+
+        /**
+         * Ensure that the input is at most the given value
+         *
+         * @param maxValue
+         *                 inclusive max value
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input is null
+         * @throws NumberValueTooHighException
+         *                                        if the input is over max
+         */
+        public BigIntegerAsserter max(long maxValue) {
+            notNull();
+
+            if (compare(value, maxValue) > 0) {
+                throw tooHigh(String.valueOf(maxValue));
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input is at most the given value
+         *
+         * @param maxValue
+         *                 inclusive max value
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input or max is null
+         * @throws NumberValueTooHighException
+         *                                        if the input is over max
+         */
+        public BigIntegerAsserter max(BigInteger maxValue) {
+            notNull();
+            Assert.notNull("maxValue", maxValue);
+
+            if (compare(value, maxValue) > 0) {
+                throw tooHigh(integerText(maxValue));
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input is under the given ceil
+         *
+         * @param ceil
+         *             exclusive ceil value
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input is null
+         * @throws NumberValueTooHighException
+         *                                        if the input is over ceil
+         */
+        public BigIntegerAsserter under(long ceil) {
+            notNull();
+
+            if (compare(value, ceil) >= 0) {
+                throw tooHigh(String.valueOf(ceil));
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input is under the given ceil
+         *
+         * @param ceil
+         *             exclusive ceil value
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input or ceil is null
+         * @throws NumberValueTooHighException
+         *                                        if the input is over ceil
+         */
+        public BigIntegerAsserter under(BigInteger ceil) {
+            notNull();
+            Assert.notNull("ceil", ceil);
+
+            if (compare(value, ceil) >= 0) {
+                throw tooHigh(integerText(ceil));
+            }
+
+            return this;
+        }
+
+        private NumberValueTooHighException tooHigh(String ceil) {
+            return NumberValueTooHighException.builder().field(field).maxValue(ceil)
+                    .value(integerText(value)).build();
+        }
+
+        /**
+         * Ensure that the input fits in the given number of bits, as given by
+         * {@link BigInteger#bitLength()} (sign bit excluded).
+         *
+         * @param maxBitLength
+         *                     inclusive max bit length
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input is null
+         * @throws TooManyDigitsException
+         *                                        if the bit length is over
+         *                                        maxBitLength
+         */
+        public BigIntegerAsserter maxBitLength(int maxBitLength) {
+            notNull();
+
+            if (value.bitLength() > maxBitLength) {
+                throw TooManyDigitsException.forBitLength(field, integerText(value), maxBitLength,
+                        value.bitLength());
+            }
+
+            return this;
+        }
+
+        public BigIntegerAsserter satisfies(Predicate<BigInteger> condition, String errorMessage) {
+            if (value == null || !condition.test(value)) {
+                throw MissingMandatoryValueException.forBadValue(field, errorMessage);
+            }
+            return this;
+        }
+
+        private static int compare(BigInteger value, long bound) {
+            int signum = value.signum();
+            int boundSignum = Long.signum(bound);
+            if (signum != boundSignum || signum == 0) {
+                return Integer.compare(signum, boundSignum);
+            }
+
+            // out of the long range, so further from zero than any bound
+            if (value.bitLength() > 63) {
+                return signum;
+            }
+
+            return Long.compare(value.longValue(), bound);
+        }
+
+        private static int compare(BigInteger value, BigInteger bound) {
+            int signum = value.signum();
+            int boundSignum = bound.signum();
+            if (signum != boundSignum || signum == 0) {
+                return Integer.compare(signum, boundSignum);
+            }
+
+            // with a shared sign a longer bit length means further from zero
+            int bitLength = value.bitLength();
+            int boundBitLength = bound.bitLength();
+            if (bitLength != boundBitLength) {
+                return bitLength > boundBitLength ? signum : -signum;
+            }
+
+            return value.compareTo(bound);
+        }
+    }
+
+    /**
+     * Asserter dedicated to fixed-point decimals stored as an unscaled long and a
+     * scale. Bounds are compared through rescaled long arithmetic with overflow
+     * checks, a {@link BigDecimal} is only created to describe a failure.
+     */
+    public static final class FixedDecimalAsserter {
+
+        private static final long[] POWERS_OF_TEN = {
+                1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+                1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+                10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L,
+                10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L };
+
+        private final String field;
+        private final long unscaledValue;
+        private final int scale;
+
+        private FixedDecimalAsserter(String field, long unscaledValue, int scale) {
+            this.field = field;
+            this.unscaledValue = unscaledValue;
+            this.scale = scale;
+        }
+
+        /**
+         * Get the validated value, this creates a {@link BigDecimal}.
+         *
+         * @return The validated value
+         */
+        public BigDecimal value() {
+            return BigDecimal.valueOf(unscaledValue, scale);
+        }
+
+        /**
+         * @return The validated unscaled value
+         */
+        public long unscaledValue() {
+            return unscaledValue;
+        }
+
+        /**
+         * @return The scale of the validated value
+         */
+        public int scale() {
+            return scale;
+        }
+
+        /**
+         * Ensure that the input is positive (0 is positive)
+         *
+         * @return The current asserter
+         * @throws NumberValueTooLowException
+         *                                    if the input is negative
+         */
+        public FixedDecimalAsserter positive() {
+            return min(0);
+        }
+
+        /**
+         * Ensure that the input is strictly positive (0 is not strictly positive)
+         *
+         * @return The current asserter
+         * @throws NumberValueTooLowException
+         *                                    if the input is negative or zero
+         */
+        public FixedDecimalAsserter strictlyPositive() {
+            return over(0);
+        }
+
+        /**
+         * Ensure that the input is at least the given value
+         *
+         * @param minValue
+         *                 inclusive min value
+         * @return The current asserter
+         * @throws NumberValueTooLowException
+         *                                    if the input is under min
+         */
+        public FixedDecimalAsserter min(long minValue) {
+            if (compare(unscaledValue, scale, minValue, 0) < 0) {
+                throw tooLow(String.valueOf(minValue));
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input is at least the given fixed-point value
+         *
+         * @param unscaledMin
+         *                    unscaled inclusive min value
+         * @param minScale
+         *                    scale of the min value
+         * @return The current asserter
+         * @throws NumberValueTooLowException
+         *                                    if the input is under min
+         */
+        public FixedDecimalAsserter min(long unscaledMin, int minScale) {
+            if (compare(unscaledValue, scale, unscaledMin, minScale) < 0) {
+                throw tooLow(String.valueOf(BigDecimal.valueOf(unscaledMin, minScale)));
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input is over the given floor
+         *
+         * @param floor
+         *              exclusive floor value
+         * @return The current asserter
+         * @throws NumberValueTooLowException
+         *                                    if the input is under floor
+         */
+        public FixedDecimalAsserter over(long floor) {
+            if (compare(unscaledValue, scale, floor, 0) <= 0) {
+                throw tooLow(String.valueOf(floor));
+            }
+
+            return this;
+        }
+
+        private NumberValueTooLowException tooLow(String floor) {
+            return NumberValueTooLowException.builder().field(field).minValue(floor)
+                    .value(decimalText(value())).build();
+        }
+
+        /**
+         * Ensure that the input is at most the given value
+         *
+         * @param maxValue
+         *                 inclusive max value
+         * @return The current asserter
+         * @throws NumberValueTooHighException
+         *                                     if the input is over max
+         */
+        public FixedDecimalAsserter max(long maxValue) {
+            if (compare(unscaledValue, scale, maxValue, 0) > 0) {
+                throw tooHigh(String.valueOf(maxValue));
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input is at most the given fixed-point value
+         *
+         * @param unscaledMax
+         *                    unscaled inclusive max value
+         * @param maxScale
+         *                    scale of the max value
+         * @return The current asserter
+         * @throws NumberValueTooHighException
+         *                                     if the input is over max
+         */
+        public FixedDecimalAsserter max(long unscaledMax, int maxScale) {
+            if (compare(unscaledValue, scale, unscaledMax, maxScale) > 0) {
+                throw tooHigh(String.valueOf(BigDecimal.valueOf(unscaledMax, maxScale)));
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input is under the given ceil
+         *
+         * @param ceil
+         *             exclusive ceil value
+         * @return The current asserter
+         * @throws NumberValueTooHighException
+         *                                     if the input is over ceil
+         */
+        public FixedDecimalAsserter under(long ceil) {
+            if (compare(unscaledValue, scale, ceil, 0) >= 0) {
+                throw tooHigh(String.valueOf(ceil));
+            }
+
+            return this;
+        }
+
+        private NumberValueTooHighException tooHigh(String ceil) {
+            return NumberValueTooHighException.builder().field(field).maxValue(ceil)
+                    .value(decimalText(value())).build();
+        }
+
+        /**
+         * Ensure that the input has at most the given number of digits after the
+         * decimal point. As for {@link BigDecimalAsserter#maxScale(int)} trailing
+         * zeros count.
+         *
+         * @param maxScale
+         *                 inclusive max scale
+         * @return The current asserter
+         * @throws TooManyDigitsException
+         *                                if the scale is over maxScale
+         */
+        public FixedDecimalAsserter maxScale(int maxScale) {
+            if (scale > maxScale) {
+                throw TooManyDigitsException.forScale(field, decimalText(value()), maxScale, scale);
+            }
+
+            return this;
+        }
+
+        /**
+         * Compare two fixed-point values by rescaling the one with the smallest
+         * scale. If that rescaling overflows, the rescaled value is further from
+         * zero than any long so its sign decides.
+         */
+        private static int compare(long unscaled, int scale, long otherUnscaled, int otherScale) {
+            if (scale == otherScale) {
+                return Long.compare(unscaled, otherUnscaled);
+            }
+
+            if (scale < otherScale) {
+                return -compare(otherUnscaled, otherScale, unscaled, scale);
+            }
+
+            long difference = (long) scale - otherScale;
+            if (otherUnscaled == 0) {
+                return Long.signum(unscaled);
+            }
+
+            if (difference >= POWERS_OF_TEN.length) {
+                return otherUnscaled > 0 ? -1 : 1;
+            }
+
+            long power = POWERS_OF_TEN[(int) difference];
+            long high = Math.multiplyHigh(otherUnscaled, power);
+            long rescaled = otherUnscaled * power;
+            if (high != (rescaled >> 63)) {
+                return otherUnscaled > 0 ? -1 : 1;
+            }
+
+            return Long.compare(unscaled, rescaled);
+        }
+    }
+
+    /**
+     * Asserter dedicated to {@link Collection} assertions
+     */
+    public static final class CollectionAsserter<T> {
+
+        private final String field;
+        private final Collection<T> value;
+
+        private CollectionAsserter(String field, Collection<T> value) {
+            this.field = field;
+            this.value = value;
+        }
+
+        public Collection<T> value() {
+            return value;
+        }
+
+        /**
+         * Ensure that the lastName is not null
+         *
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the lastName is null
+         */
+        public CollectionAsserter<T> notNull() {
+            Assert.notNull(field, value);
+
+            return this;
+        }
+
+        /**
+         * Ensure that the lastName is not empty (null or empty)
+         *
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the lastName is null or empty
+         */
+        public CollectionAsserter<T> notEmpty() {
+            notNull();
+
+            if (value.isEmpty()) {
+                throw MissingMandatoryValueException.forEmptyValue(field);
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the size of the given input lastName is not over the given size
+         *
+         * @param maxSize
+         *                inclusive max size of the {@link Collection}
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the expected size is strictly
+         *                                        positive and the lastName is null
+         * @throws TooManyElementsException
+         *                                        if the size of lastName is over the
+         *                                        max size
+         */
+        public CollectionAsserter<T> maxSize(int maxSize) {
+            if (maxSize <= 0 && value == null) {
+                return this;
+            }
+
+            notNull();
+
+            if (value.size() > maxSize) {
+                throw TooManyElementsException.builder().field(field).maxSize(maxSize).size(value.size()).build();
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that no element in this {@link Collection} is null
+         *
+         * @return The current asserter
+         * @throws NullElementInCollectionException
+         *                                          if an element is null
+         */
+        public CollectionAsserter<T> noNullElement() {
+            if (value == null) {
+                return this;
+            }
+
+            if (NullElements.containsNull(value)) {
+                throw new NullElementInCollectionException(field);
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the number extracted from each element is between the given
+         * bounds. Nothing is checked on a null collection
+         *
+         * @param extractor
+         *                  function reading the number of an element
+         * @param min
+         *                  inclusive min value
+         * @param max
+         *                  inclusive max value
+         * @return The current asserter
+         * @throws NullElementInCollectionException
+         *                                          if an element is null
+         * @throws NumberValueTooLowException
+         *                                          if a number is under min, with
+         *                                          its index as parameter
+         * @throws NumberValueTooHighException
+         *                                          if a number is over max, with
+         *                                          its index as parameter
+         */
+        public CollectionAsserter<T> allBetween(ToLongFunction<? super T> extractor, long min, long max) {
+            if (value == null) {
+                return this;
+            }
+
+            int index = 0;
+            for (T element : value) {
+                if (element == null) {
+                    throw new NullElementInCollectionException(field);
+                }
+
+                long number = extractor.applyAsLong(element);
+                if (number < min) {
+                    throw NumberValueTooLowException.builder().field(field).minValue(String.valueOf(min))
+                            .value(String.valueOf(number)).index(index).build();
+                }
+
+                if (number > max) {
+                    throw NumberValueTooHighException.builder().field(field).maxValue(String.valueOf(max))
+                            .value(String.valueOf(number)).index(index).build();
+                }
+
+                index++;
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the sum of the numbers extracted from the elements is not
+         * over the given value. The sum is computed in a single pass and can't
+         * overflow. Nothing is checked on a null collection.
+         *
+         * @param extractor
+         *                  function reading the number of an element
+         * @param max
+         *                  inclusive max sum
+         * @return The current asserter
+         * @throws NullElementInCollectionException
+         *                                          if an element is null
+         * @throws NumberValueTooHighException
+         *                                          if the sum is over max, with the
+         *                                          sum as value
+         */
+        public CollectionAsserter<T> sumAtMost(ToLongFunction<? super T> extractor, long max) {
+            if (value == null) {
+                return this;
+            }
+
+            LongSum sum = new LongSum();
+            for (T element : value) {
+                if (element == null) {
+                    throw new NullElementInCollectionException(field);
+                }
+
+                sum.add(extractor.applyAsLong(element));
+            }
+
+            if (sum.isOver(max)) {
+                throw NumberValueTooHighException.builder().field(field).maxValue(String.valueOf(max))
+                        .value(sum.toString()).build();
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the mean of the numbers extracted from the elements is
+         * between the given bounds. The mean is computed in a single pass. Unlike
+         * the other element checks, this one fails on a null or empty collection:
+         * it has no mean to compare, and passing would accept any bounds.
+         *
+         * @param extractor
+         *                  function reading the number of an element
+         * @param min
+         *                  inclusive min mean
+         * @param max
+         *                  inclusive max mean
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                          if the collection is null or
+         *                                          empty
+         * @throws NullElementInCollectionException
+         *                                          if an element is null
+         * @throws NumberValueTooLowException
+         *                                          if the mean is under min, with
+         *                                          the mean as value
+         * @throws NumberValueTooHighException
+         *                                          if the mean is over max, with
+         *                                          the mean as value
+         */
+        public CollectionAsserter<T> meanBetween(ToDoubleFunction<? super T> extractor, double min, double max) {
+            notEmpty();
+
+            double mean = 0;
+            int count = 0;
+            for (T element : value) {
+                if (element == null) {
+                    throw new NullElementInCollectionException(field);
+                }
+
+                count++;
+                mean += (extractor.applyAsDouble(element) - mean) / count;
+            }
+
+            checkMean(field, mean, min, max);
+
+            return this;
+        }
+
+        /**
+         * Ensure that this collection doesn't contain two equal elements. Nothing
+         * is checked on a null collection
+         *
+         * @return The current asserter
+         * @throws NullElementInCollectionException
+         *                                          if an element is null
+         * @throws DuplicateElementException
+         *                                          if an element is found twice,
+         *                                          with both indexes
+         */
+        public CollectionAsserter<T> noDuplicates() {
+            return noDuplicatesBy(Function.identity());
+        }
+
+        /**
+         * Ensure that no two elements of this collection have equal keys. Nothing
+         * is checked on a null collection
+         *
+         * @param keyExtractor
+         *                     function reading the key of an element, compared
+         *                     with {@link Object#equals(Object)}
+         * @return The current asserter
+         * @throws NullElementInCollectionException
+         *                                          if an element is null
+         * @throws DuplicateElementException
+         *                                          if two elements have the same
+         *                                          key, with both indexes
+         */
+        public CollectionAsserter<T> noDuplicatesBy(Function<? super T, ?> keyExtractor) {
+            if (value == null) {
+                return this;
+            }
+
+            DuplicateFinder.ObjectFinder duplicates = DuplicateFinder.forObjects(value.size());
+            int index = 0;
+            for (T element : value) {
+                if (element == null) {
+                    throw new NullElementInCollectionException(field);
+                }
+
+                checkNotDuplicate(field, index, duplicates.add(keyExtractor.apply(element), index));
+                index++;
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that no two elements of this collection have the same int key,
+         * without boxing the keys. Nothing is checked on a null collection
+         *
+         * @param keyExtractor
+         *                     function reading the key of an element
+         * @return The current asserter
+         * @throws NullElementInCollectionException
+         *                                          if an element is null
+         * @throws DuplicateElementException
+         *                                          if two elements have the same
+         *                                          key, with both indexes
+         */
+        public CollectionAsserter<T> noDuplicatesByInt(ToIntFunction<? super T> keyExtractor) {
+            if (value == null) {
+                return this;
+            }
+
+            DuplicateFinder.LongFinder duplicates = DuplicateFinder.forLongs(value.size());
+            int index = 0;
+            for (T element : value) {
+                if (element == null) {
+                    throw new NullElementInCollectionException(field);
+                }
+
+                checkNotDuplicate(field, index, duplicates.add(keyExtractor.applyAsInt(element), index));
+                index++;
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that no two elements of this collection have the same long key,
+         * without boxing the keys. Nothing is checked on a null collection
+         *
+         * @param keyExtractor
+         *                     function reading the key of an element
+         * @return The current asserter
+         * @throws NullElementInCollectionException
+         *                                          if an element is null
+         * @throws DuplicateElementException
+         *                                          if two elements have the same
+         *                                          key, with both indexes
+         */
+        public CollectionAsserter<T> noDuplicatesByLong(ToLongFunction<? super T> keyExtractor) {
+            if (value == null) {
+                return this;
+            }
+
+            DuplicateFinder.LongFinder duplicates = DuplicateFinder.forLongs(value.size());
+            int index = 0;
+            for (T element : value) {
+                if (element == null) {
+                    throw new NullElementInCollectionException(field);
+                }
+
+                checkNotDuplicate(field, index, duplicates.add(keyExtractor.applyAsLong(element), index));
+                index++;
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure, in a single pass, that the elements of this collection are in
+         * their natural order, equal elements being allowed.
+         * Nothing is checked on a null collection
+         *
+         * @return The current asserter
+         * @throws NullElementInCollectionException
+         *                                          if an element is null
+         * @throws ClassCastException
+         *                                          if the elements are not
+         *                                          {@link Comparable}
+         * @throws ElementOutOfOrderException
+         *                                          if an element is lower than the
+         *                                          previous one, with its index
+         */
+        @SuppressWarnings("unchecked")
+        public CollectionAsserter<T> sorted() {
+            return checkOrder((Comparator<? super T>) NATURAL_ORDER, false, "sorted");
+        }
+
+        /**
+         * Ensure, in a single pass, that the elements of this collection are in
+         * the order of the given comparator, equal elements being allowed.
+         * Nothing is checked on a null collection
+         *
+         * @param comparator
+         *                   comparator of the elements, null elements are given
+         *                   to it
+         * @return The current asserter
+         * @throws ElementOutOfOrderException
+         *                                        if an element is lower than the
+         *                                        previous one, with its index
+         */
+        public CollectionAsserter<T> sorted(Comparator<? super T> comparator) {
+            return checkOrder(comparator, false, "sorted");
+        }
+
+        /**
+         * Ensure, in a single pass, that each element of this collection is
+         * strictly greater than the previous one in their natural order.
+         * Nothing is checked on a null collection
+         *
+         * @return The current asserter
+         * @throws NullElementInCollectionException
+         *                                          if an element is null
+         * @throws ClassCastException
+         *                                          if the elements are not
+         *                                          {@link Comparable}
+         * @throws ElementOutOfOrderException
+         *                                          if an element is not greater
+         *                                          than the previous one, with its
+         *                                          index
+         */
+        @SuppressWarnings("unchecked")
+        public CollectionAsserter<T> strictlyIncreasing() {
+            return checkOrder((Comparator<? super T>) NATURAL_ORDER, true, "strictly increasing");
+        }
+
+        /**
+         * Ensure, in a single pass, that the keys of the elements of this
+         * collection are in their natural order, equal keys being allowed. The
+         * key of each element is read once.
+         * Nothing is checked on a null collection.
+         *
+         * @param keyExtractor
+         *                     function reading the key of an element
+         * @return The current asserter
+         * @throws NullElementInCollectionException
+         *                                          if an element is null
+         * @throws MissingMandatoryValueException
+         *                                          if the key of an element is
+         *                                          null, with the field name of
+         *                                          the element
+         * @throws ElementOutOfOrderException
+         *                                          if the key of an element is
+         *                                          lower than the previous one,
+         *                                          with its index
+         */
+        public <U extends Comparable<? super U>> CollectionAsserter<T> sortedBy(
+                Function<? super T, ? extends U> keyExtractor) {
+            if (value == null) {
+                return this;
+            }
+
+            U previous = null;
+            int index = 0;
+            for (T element : value) {
+                if (element == null) {
+                    throw new NullElementInCollectionException(field);
+                }
+
+                U key = keyExtractor.apply(element);
+                if (key == null) {
+                    throw MissingMandatoryValueException.forNullValue(field + "[" + index + "]");
+                }
+
+                if (index > 0 && previous.compareTo(key) > 0) {
+                    throw ElementOutOfOrderException.builder().field(field).order("sorted").index(index).build();
+                }
+
+                previous = key;
+                index++;
+            }
+
+            return this;
+        }
+
+        private CollectionAsserter<T> checkOrder(Comparator<? super T> comparator, boolean strict, String order) {
+            if (value == null) {
+                return this;
+            }
+
+            Iterator<T> elements = value.iterator();
+            if (!elements.hasNext()) {
+                return this;
+            }
+
+            T previous = elements.next();
+            checkOrderedElement(previous, comparator);
+            for (int index = 1; elements.hasNext(); index++) {
+                T element = elements.next();
+                checkOrderedElement(element, comparator);
+
+                int comparison = comparator.compare(previous, element);
+                if (comparison > 0 || strict && comparison == 0) {
+                    throw ElementOutOfOrderException.builder().field(field).order(order).index(index).build();
+                }
+
+                previous = element;
+            }
+
+            return this;
+        }
+
+        private void checkOrderedElement(T element, Comparator<? super T> comparator) {
+            if (element == null && comparator == NATURAL_ORDER) {
+                throw new NullElementInCollectionException(field);
+            }
+        }
+
+        /**
+         * Ensure that each element of this collection satisfies the given rule.
+         * Nothing is checked on a null collection.
+         *
+         * @param rule
+         *             rule to apply to each element
+         * @return The current asserter
+         * @throws AssertionException
+         *                            the failure of the first invalid element,
+         *                            with the indexed field name of the element
+         */
+        public CollectionAsserter<T> each(ElementRule<? super T> rule) {
+            if (value == null) {
+                return this;
+            }
+
+            int index = 0;
+            for (T element : value) {
+                AssertionException error = checkElement(rule, field, index++, element);
+
+                if (error != null) {
+                    throw error;
+                }
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that each element of this collection satisfies the given rule,
+         * checking all the elements before failing and keeping the failures of
+         * the first 100 invalid elements. Nothing is checked on a null
+         * collection.
+         *
+         * @param rule
+         *             rule to apply to each element
+         * @return The current asserter
+         * @throws InvalidElementsException
+         *                                  if at least one element is invalid
+         */
+        public CollectionAsserter<T> eachReportingAll(ElementRule<? super T> rule) {
+            return eachReportingAll(rule, DEFAULT_MAX_ERRORS);
+        }
+
+        /**
+         * Ensure that each element of this collection satisfies the given rule,
+         * checking all the elements before failing. Nothing is checked on a null
+         * collection.
+         *
+         * @param rule
+         *                  rule to apply to each element
+         * @param maxErrors
+         *                  max number of failures kept in the exception, the
+         *                  invalid elements are still all counted
+         * @return The current asserter
+         * @throws IllegalArgumentException
+         *                                  if maxErrors is not strictly
+         *                                  positive
+         * @throws InvalidElementsException
+         *                                  if at least one element is invalid,
+         *                                  with the failures of the first
+         *                                  maxErrors invalid elements
+         */
+        public CollectionAsserter<T> eachReportingAll(ElementRule<? super T> rule, int maxErrors) {
+            checkMaxErrors(maxErrors);
+
+            if (value == null) {
+                return this;
+            }
+
+            ElementFailures failures = null;
+            int index = 0;
+            for (T element : value) {
+                if (isFull(failures)) {
+                    failures.count(rule, field, element);
+                } else {
+                    failures = addFailure(failures, maxErrors, checkElement(rule, field, index, element));
+                }
+
+                index++;
+            }
+
+            checkFailures(field, failures);
+
+            return this;
+        }
+
+        public CollectionAsserter<T> satisfies(Predicate<Collection<T>> condition, String errorMessage) {
+            if (value == null || !condition.test(value)) {
+                throw MissingMandatoryValueException.forBadValue(field, errorMessage);
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Asserter dedicated to arrays assertions
+     */
+    public static final class ArrayAsserter<T> {
+
+        private final String field;
+        private final T[] value;
+
+        private ArrayAsserter(String field, T[] value) {
+            this.field = field;
+            this.value = value;
+        }
+
+        public T[] value() {
+            return value;
+        }
+
+        /**
+         * Ensure that the lastName is not null
+         *
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the lastName is null
+         */
+        public ArrayAsserter<T> notNull() {
+            Assert.notNull(field, value);
+
+            return this;
+        }
+
+        /**
+         * Ensure that the lastName is not empty (null or empty)
+         *
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the lastName is null or empty
+         */
+        public ArrayAsserter<T> notEmpty() {
+            notNull();
+
+            if (value.length == 0) {
+                throw MissingMandatoryValueException.forEmptyValue(field);
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the size of the given input lastName is not over the given size
+         *
+         * @param maxSize
+         *                inclusive max size of the array
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the expected size is strictly
+         *                                        positive and the lastName is null
+         * @throws TooManyElementsException
+         *                                        if the size of lastName is over the
+         *                                        max size
+         */
+        public ArrayAsserter<T> maxSize(int maxSize) {
+            if (maxSize <= 0 && value == null) {
+                return this;
+            }
+
+            notNull();
+
+            if (value.length > maxSize) {
+                throw TooManyElementsException.builder().field(field).maxSize(maxSize).size(value.length).build();
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that no element in this array is null
+         *
+         * @return The current asserter
+         * @throws NullElementInCollectionException
+         *                                          if an element is null
+         */
+        public ArrayAsserter<T> noNullElement() {
+            if (value == null) {
+                return this;
+            }
+
+            if (NullElements.containsNull(value)) {
+                throw new NullElementInCollectionException(field);
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that this array doesn't contain two equal elements. Nothing is
+         * checked on a null array
+         *
+         * @return The current asserter
+         * @throws NullElementInCollectionException
+         *                                          if an element is null
+         * @throws DuplicateElementException
+         *                                          if an element is found twice,
+         *                                          with both indexes
+         */
+        public ArrayAsserter<T> noDuplicates() {
+            return noDuplicatesBy(Function.identity());
+        }
+
+        /**
+         * Ensure that no two elements of this array have equal keys. Nothing is
+         * checked on a null array
+         *
+         * @param keyExtractor
+         *                     function reading the key of an element, compared
+         *                     with {@link Object#equals(Object)}
+         * @return The current asserter
+         * @throws NullElementInCollectionException
+         *                                          if an element is null
+         * @throws DuplicateElementException
+         *                                          if two elements have the same
+         *                                          key, with both indexes
+         */
+        public ArrayAsserter<T> noDuplicatesBy(Function<? super T, ?> keyExtractor) {
+            if (value == null) {
+                return this;
+            }
+
+            DuplicateFinder.ObjectFinder duplicates = DuplicateFinder.forObjects(value.length);
+            for (int i = 0; i < value.length; i++) {
+                if (value[i] == null) {
+                    throw new NullElementInCollectionException(field);
+                }
+
+                checkNotDuplicate(field, i, duplicates.add(keyExtractor.apply(value[i]), i));
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that no two elements of this array have the same int key,
+         * without boxing the keys. Nothing is checked on a null array
+         *
+         * @param keyExtractor
+         *                     function reading the key of an element
+         * @return The current asserter
+         * @throws NullElementInCollectionException
+         *                                          if an element is null
+         * @throws DuplicateElementException
+         *                                          if two elements have the same
+         *                                          key, with both indexes
+         */
+        public ArrayAsserter<T> noDuplicatesByInt(ToIntFunction<? super T> keyExtractor) {
+            if (value == null) {
+                return this;
+            }
+
+            DuplicateFinder.LongFinder duplicates = DuplicateFinder.forLongs(value.length);
+            for (int i = 0; i < value.length; i++) {
+                if (value[i] == null) {
+                    throw new NullElementInCollectionException(field);
+                }
+
+                checkNotDuplicate(field, i, duplicates.add(keyExtractor.applyAsInt(value[i]), i));
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that no two elements of this array have the same long key,
+         * without boxing the keys. Nothing is checked on a null array
+         *
+         * @param keyExtractor
+         *                     function reading the key of an element
+         * @return The current asserter
+         * @throws NullElementInCollectionException
+         *                                          if an element is null
+         * @throws DuplicateElementException
+         *                                          if two elements have the same
+         *                                          key, with both indexes
+         */
+        public ArrayAsserter<T> noDuplicatesByLong(ToLongFunction<? super T> keyExtractor) {
+            if (value == null) {
+                return this;
+            }
+
+            DuplicateFinder.LongFinder duplicates = DuplicateFinder.forLongs(value.length);
+            for (int i = 0; i < value.length; i++) {
+                if (value[i] == null) {
+                    throw new NullElementInCollectionException(field);
+                }
+
+                checkNotDuplicate(field, i, duplicates.add(keyExtractor.applyAsLong(value[i]), i));
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure, in a single pass, that the elements of this array are in
+         * their natural order, equal elements being allowed.
+         * Nothing is checked on a null array
+         *
+         * @return The current asserter
+         * @throws NullElementInCollectionException
+         *                                          if an element is null
+         * @throws ClassCastException
+         *                                          if the elements are not
+         *                                          {@link Comparable}
+         * @throws ElementOutOfOrderException
+         *                                          if an element is lower than the
+         *                                          previous one, with its index
+         */
+        @SuppressWarnings("unchecked")
+        public ArrayAsserter<T> sorted() {
+            return checkOrder((Comparator<? super T>) NATURAL_ORDER, false, "sorted");
+        }
+
+        /**
+         * Ensure, in a single pass, that the elements of this array are in
+         * the order of the given comparator, equal elements being allowed.
+         * Nothing is checked on a null array
+         *
+         * @param comparator
+         *                   comparator of the elements, null elements are given
+         *                   to it
+         * @return The current asserter
+         * @throws ElementOutOfOrderException
+         *                                        if an element is lower than the
+         *                                        previous one, with its index
+         */
+        public ArrayAsserter<T> sorted(Comparator<? super T> comparator) {
+            return checkOrder(comparator, false, "sorted");
+        }
+
+        /**
+         * Ensure, in a single pass, that each element of this array is
+         * strictly greater than the previous one in their natural order.
+         * Nothing is checked on a null array
+         *
+         * @return The current asserter
+         * @throws NullElementInCollectionException
+         *                                          if an element is null
+         * @throws ClassCastException
+         *                                          if the elements are not
+         *                                          {@link Comparable}
+         * @throws ElementOutOfOrderException
+         *                                          if an element is not greater
+         *                                          than the previous one, with its
+         *                                          index
+         */
+        @SuppressWarnings("unchecked")
+        public ArrayAsserter<T> strictlyIncreasing() {
+            return checkOrder((Comparator<? super T>) NATURAL_ORDER, true, "strictly increasing");
+        }
+
+        /**
+         * Ensure, in a single pass, that the keys of the elements of this
+         * array are in their natural order, equal keys being allowed. The
+         * key of each element is read once. Nothing is checked on a null array.
+         *
+         * @param keyExtractor
+         *                     function reading the key of an element
+         * @return The current asserter
+         * @throws NullElementInCollectionException
+         *                                          if an element is null
+         * @throws MissingMandatoryValueException
+         *                                          if the key of an element is
+         *                                          null, with the field name of
+         *                                          the element
+         * @throws ElementOutOfOrderException
+         *                                          if the key of an element is
+         *                                          lower than the previous one,
+         *                                          with its index
+         */
+        public <U extends Comparable<? super U>> ArrayAsserter<T> sortedBy(
+                Function<? super T, ? extends U> keyExtractor) {
+            if (value == null) {
+                return this;
+            }
+
+            U previous = null;
+            for (int i = 0; i < value.length; i++) {
+                if (value[i] == null) {
+                    throw new NullElementInCollectionException(field);
+                }
+
+                U key = keyExtractor.apply(value[i]);
+                if (key == null) {
+                    throw MissingMandatoryValueException.forNullValue(field + "[" + i + "]");
+                }
+
+                if (i > 0 && previous.compareTo(key) > 0) {
+                    throw ElementOutOfOrderException.builder().field(field).order("sorted").index(i).build();
+                }
+
+                previous = key;
+            }
+
+            return this;
+        }
+
+        private ArrayAsserter<T> checkOrder(Comparator<? super T> comparator, boolean strict, String order) {
+            if (value == null) {
+                return this;
+            }
+
+            for (int i = 0; i < value.length; i++) {
+                checkOrderedElement(value[i], comparator);
+
+                if (i > 0) {
+                    int comparison = comparator.compare(value[i - 1], value[i]);
+
+                    if (comparison > 0 || strict && comparison == 0) {
+                        throw ElementOutOfOrderException.builder().field(field).order(order).index(i).build();
+                    }
+                }
+            }
+
+            return this;
+        }
+
+        private void checkOrderedElement(T element, Comparator<? super T> comparator) {
+            if (element == null && comparator == NATURAL_ORDER) {
+                throw new NullElementInCollectionException(field);
+            }
+        }
+
+        /**
+         * Ensure that each element of this array satisfies the given rule.
+         * Nothing is checked on a null array.
+         *
+         * @param rule
+         *             rule to apply to each element
+         * @return The current asserter
+         * @throws AssertionException
+         *                            the failure of the first invalid element,
+         *                            with the indexed field name of the element
+         */
+        public ArrayAsserter<T> each(ElementRule<? super T> rule) {
+            if (value == null) {
+                return this;
+            }
+
+            for (int i = 0; i < value.length; i++) {
+                AssertionException error = checkElement(rule, field, i, value[i]);
+
+                if (error != null) {
+                    throw error;
+                }
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that each element of this array satisfies the given rule,
+         * checking all the elements before failing and keeping the failures of
+         * the first 100 invalid elements. Nothing is checked on a null array.
+         *
+         * @param rule
+         *             rule to apply to each element
+         * @return The current asserter
+         * @throws InvalidElementsException
+         *                                  if at least one element is invalid
+         */
+        public ArrayAsserter<T> eachReportingAll(ElementRule<? super T> rule) {
+            return eachReportingAll(rule, DEFAULT_MAX_ERRORS);
+        }
+
+        /**
+         * Ensure that each element of this array satisfies the given rule,
+         * checking all the elements before failing. Nothing is checked on a null
+         * array.
+         *
+         * @param rule
+         *                  rule to apply to each element
+         * @param maxErrors
+         *                  max number of failures kept in the exception, the
+         *                  invalid elements are still all counted
+         * @return The current asserter
+         * @throws IllegalArgumentException
+         *                                  if maxErrors is not strictly
+         *                                  positive
+         * @throws InvalidElementsException
+         *                                  if at least one element is invalid,
+         *                                  with the failures of the first
+         *                                  maxErrors invalid elements
+         */
+        public ArrayAsserter<T> eachReportingAll(ElementRule<? super T> rule, int maxErrors) {
+            checkMaxErrors(maxErrors);
+
+            if (value == null) {
+                return this;
+            }
+
+            ElementFailures failures = null;
+            for (int i = 0; i < value.length; i++) {
+                if (isFull(failures)) {
+                    failures.count(rule, field, value[i]);
+                } else {
+                    failures = addFailure(failures, maxErrors, checkElement(rule, field, i, value[i]));
+                }
+            }
+
+            checkFailures(field, failures);
+
+            return this;
+        }
+    }
+
+    /**
+     * Asserter dedicated to arrays of int, with single pass aggregate
+     * assertions
+     */
+    public static final class IntArrayAsserter {
+
+        private final String field;
+        private final int[] value;
+
+        private IntArrayAsserter(String field, int[] value) {
+            this.field = field;
+            this.value = value;
+        }
+
+        public int[] value() {
+            return value;
+        }
+
+        /**
+         * Ensure that the array is not null
+         *
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the array is null
+         */
+        public IntArrayAsserter notNull() {
+            Assert.notNull(field, value);
+
+            return this;
+        }
+
+        /**
+         * Ensure that the array is not empty (null or empty)
+         *
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the array is null or empty
+         */
+        public IntArrayAsserter notEmpty() {
+            notNull();
+
+            if (value.length == 0) {
+                throw MissingMandatoryValueException.forEmptyValue(field);
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the size of the array is not over the given size
+         *
+         * @param maxSize
+         *                inclusive max size of the array
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the expected size is strictly
+         *                                        positive and the array is null
+         * @throws TooManyElementsException
+         *                                        if the size of the array is over
+         *                                        the max size
+         */
+        public IntArrayAsserter maxSize(int maxSize) {
+            if (maxSize <= 0 && value == null) {
+                return this;
+            }
+
+            notNull();
+
+            if (value.length > maxSize) {
+                throw TooManyElementsException.builder().field(field).maxSize(maxSize).size(value.length).build();
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that every element is between the given bounds.
+         * Nothing is checked on a null array
+         *
+         * @param min
+         *            inclusive min value
+         * @param max
+         *            inclusive max value
+         * @return The current asserter
+         * @throws NumberValueTooLowException
+         *                                        if an element is under min, with
+         *                                        its index as parameter
+         * @throws NumberValueTooHighException
+         *                                        if an element is over max, with
+         *                                        its index as parameter
+         */
+        public IntArrayAsserter allBetween(int min, int max) {
+            if (value == null) {
+                return this;
+            }
+
+            for (int i = 0; i < value.length; i++) {
+                if (value[i] < min) {
+                    throw NumberValueTooLowException.builder().field(field).minValue(String.valueOf(min))
+                            .value(String.valueOf(value[i])).index(i).build();
+                }
+
+                if (value[i] > max) {
+                    throw NumberValueTooHighException.builder().field(field).maxValue(String.valueOf(max))
+                            .value(String.valueOf(value[i])).index(i).build();
+                }
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the sum of the elements is not over the given value. The sum
+         * can't overflow. Nothing is checked on a null array.
+         *
+         * @param max
+         *            inclusive max sum
+         * @return The current asserter
+         * @throws NumberValueTooHighException
+         *                                        if the sum is over max, with the
+         *                                        sum as value
+         */
+        public IntArrayAsserter sumAtMost(long max) {
+            if (value == null) {
+                return this;
+            }
+
+            LongSum sum = new LongSum();
+            for (int element : value) {
+                sum.add(element);
+            }
+
+            if (sum.isOver(max)) {
+                throw NumberValueTooHighException.builder().field(field).maxValue(String.valueOf(max))
+                        .value(sum.toString()).build();
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the mean of the elements is between the given bounds. Unlike
+         * the other element checks, this one fails on a null or empty array: it
+         * has no mean to compare, and passing would accept any bounds.
+         *
+         * @param min
+         *            inclusive min mean
+         * @param max
+         *            inclusive max mean
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the array is null or empty
+         * @throws NumberValueTooLowException
+         *                                        if the mean is under min, with the
+         *                                        mean as value
+         * @throws NumberValueTooHighException
+         *                                        if the mean is over max, with the
+         *                                        mean as value
+         */
+        public IntArrayAsserter meanBetween(double min, double max) {
+            notEmpty();
+
+            LongSum sum = new LongSum();
+            for (int element : value) {
+                sum.add(element);
+            }
+            double mean = sum.mean(value.length);
+
+            checkMean(field, mean, min, max);
+
+            return this;
+        }
+
+        /**
+         * Ensure that each element is greater than or equal to the previous one.
+         * Nothing is checked on a null array
+         *
+         * @return The current asserter
+         * @throws ElementOutOfOrderException
+         *                                        if an element is lower than the
+         *                                        previous one, with its index
+         */
+        public IntArrayAsserter sorted() {
+            if (value == null) {
+                return this;
+            }
+
+            for (int i = 1; i < value.length; i++) {
+                if (value[i] < value[i - 1]) {
+                    throw ElementOutOfOrderException.builder().field(field).order("sorted").index(i).build();
+                }
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that each element is strictly greater than the previous one.
+         * Nothing is checked on a null array
+         *
+         * @return The current asserter
+         * @throws ElementOutOfOrderException
+         *                                        if an element is not greater than
+         *                                        the previous one, with its index
+         */
+        public IntArrayAsserter strictlyIncreasing() {
+            if (value == null) {
+                return this;
+            }
+
+            for (int i = 1; i < value.length; i++) {
+                if (value[i] <= value[i - 1]) {
+                    throw ElementOutOfOrderException.builder().field(field).order("strictly increasing").index(i)
+                            .build();
+                }
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that this array doesn't contain the same value twice. Nothing is
+         * checked on a null array
+         *
+         * @return The current asserter
+         * @throws DuplicateElementException
+         *                                        if a value is found twice, with
+         *                                        both indexes
+         */
+        public IntArrayAsserter noDuplicates() {
+            if (value == null) {
+                return this;
+            }
+
+            DuplicateFinder.LongFinder duplicates = DuplicateFinder.forLongs(value.length);
+            for (int i = 0; i < value.length; i++) {
+                checkNotDuplicate(field, i, duplicates.add(value[i], i));
+            }
+
+            return this;
+        }
+    }
+
+    /**
+     * Asserter dedicated to arrays of long, with single pass aggregate
+     * assertions
+     */
+    public static final class LongArrayAsserter {
+
+        private final String field;
+        private final long[] value;
+
+        private LongArrayAsserter(String field, long[] value) {
+            this.field = field;
+            this.value = value;
+        }
+
+        public long[] value() {
+            return value;
+        }
+
+        /**
+         * Ensure that the array is not null
+         *
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the array is null
+         */
+        public LongArrayAsserter notNull() {
+            Assert.notNull(field, value);
+
+            return this;
+        }
+
+        /**
+         * Ensure that the array is not empty (null or empty)
+         *
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the array is null or empty
+         */
+        public LongArrayAsserter notEmpty() {
+            notNull();
+
+            if (value.length == 0) {
+                throw MissingMandatoryValueException.forEmptyValue(field);
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the size of the array is not over the given size
+         *
+         * @param maxSize
+         *                inclusive max size of the array
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the expected size is strictly
+         *                                        positive and the array is null
+         * @throws TooManyElementsException
+         *                                        if the size of the array is over
+         *                                        the max size
+         */
+        public LongArrayAsserter maxSize(int maxSize) {
+            if (maxSize <= 0 && value == null) {
+                return this;
+            }
+
+            notNull();
+
+            if (value.length > maxSize) {
+                throw TooManyElementsException.builder().field(field).maxSize(maxSize).size(value.length).build();
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that every element is between the given bounds.
+         * Nothing is checked on a null array
+         *
+         * @param min
+         *            inclusive min value
+         * @param max
+         *            inclusive max value
+         * @return The current asserter
+         * @throws NumberValueTooLowException
+         *                                        if an element is under min, with
+         *                                        its index as parameter
+         * @throws NumberValueTooHighException
+         *                                        if an element is over max, with
+         *                                        its index as parameter
+         */
+        public LongArrayAsserter allBetween(long min, long max) {
+            if (value == null) {
+                return this;
+            }
+
+            for (int i = 0; i < value.length; i++) {
+                if (value[i] < min) {
+                    throw NumberValueTooLowException.builder().field(field).minValue(String.valueOf(min))
+                            .value(String.valueOf(value[i])).index(i).build();
+                }
+
+                if (value[i] > max) {
+                    throw NumberValueTooHighException.builder().field(field).maxValue(String.valueOf(max))
+                            .value(String.valueOf(value[i])).index(i).build();
+                }
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the sum of the elements is not over the given value. The sum
+         * can't overflow. Nothing is checked on a null array.
+         *
+         * @param max
+         *            inclusive max sum
+         * @return The current asserter
+         * @throws NumberValueTooHighException
+         *                                        if the sum is over max, with the
+         *                                        sum as value
+         */
+        public LongArrayAsserter sumAtMost(long max) {
+            if (value == null) {
+                return this;
+            }
+
+            LongSum sum = new LongSum();
+            for (long element : value) {
+                sum.add(element);
+            }
+
+            if (sum.isOver(max)) {
+                throw NumberValueTooHighException.builder().field(field).maxValue(String.valueOf(max))
+                        .value(sum.toString()).build();
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the mean of the elements is between the given bounds. Unlike
+         * the other element checks, this one fails on a null or empty array: it
+         * has no mean to compare, and passing would accept any bounds.
+         *
+         * @param min
+         *            inclusive min mean
+         * @param max
+         *            inclusive max mean
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the array is null or empty
+         * @throws NumberValueTooLowException
+         *                                        if the mean is under min, with the
+         *                                        mean as value
+         * @throws NumberValueTooHighException
+         *                                        if the mean is over max, with the
+         *                                        mean as value
+         */
+        public LongArrayAsserter meanBetween(double min, double max) {
+            notEmpty();
+
+            LongSum sum = new LongSum();
+            for (long element : value) {
+                sum.add(element);
+            }
+            double mean = sum.mean(value.length);
+
+            checkMean(field, mean, min, max);
+
+            return this;
+        }
+
+        /**
+         * Ensure that each element is greater than or equal to the previous one.
+         * Nothing is checked on a null array
+         *
+         * @return The current asserter
+         * @throws ElementOutOfOrderException
+         *                                        if an element is lower than the
+         *                                        previous one, with its index
+         */
+        public LongArrayAsserter sorted() {
+            if (value == null) {
+                return this;
+            }
+
+            for (int i = 1; i < value.length; i++) {
+                if (value[i] < value[i - 1]) {
+                    throw ElementOutOfOrderException.builder().field(field).order("sorted").index(i).build();
+                }
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that each element is strictly greater than the previous one.
+         * Nothing is checked on a null array
+         *
+         * @return The current asserter
+         * @throws ElementOutOfOrderException
+         *                                        if an element is not greater than
+         *                                        the previous one, with its index
+         */
+        public LongArrayAsserter strictlyIncreasing() {
+            if (value == null) {
+                return this;
+            }
+
+            for (int i = 1; i < value.length; i++) {
+                if (value[i] <= value[i - 1]) {
+                    throw ElementOutOfOrderException.builder().field(field).order("strictly increasing").index(i)
+                            .build();
+                }
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that this array doesn't contain the same value twice. Nothing is
+         * checked on a null array
+         *
+         * @return The current asserter
+         * @throws DuplicateElementException
+         *                                        if a value is found twice, with
+         *                                        both indexes
+         */
+        public LongArrayAsserter noDuplicates() {
+            if (value == null) {
+                return this;
+            }
+
+            DuplicateFinder.LongFinder duplicates = DuplicateFinder.forLongs(value.length);
+            for (int i = 0; i < value.length; i++) {
+                checkNotDuplicate(field, i, duplicates.add(value[i], i));
+            }
+
+            return this;
+        }
+    }
+
+    /**
+     * Asserter dedicated to arrays of double, with single pass aggregate
+     * assertions
+     */
+    public static final class DoubleArrayAsserter {
+
+        private final String field;
+        private final double[] value;
+
+        private DoubleArrayAsserter(String field, double[] value) {
+            this.field = field;
+            this.value = value;
+        }
+
+        public double[] value() {
+            return value;
+        }
+
+        /**
+         * Ensure that the array is not null
+         *
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the array is null
+         */
+        public DoubleArrayAsserter notNull() {
+            Assert.notNull(field, value);
+
+            return this;
+        }
+
+        /**
+         * Ensure that the array is not empty (null or empty)
+         *
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the array is null or empty
+         */
+        public DoubleArrayAsserter notEmpty() {
+            notNull();
+
+            if (value.length == 0) {
+                throw MissingMandatoryValueException.forEmptyValue(field);
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the size of the array is not over the given size
+         *
+         * @param maxSize
+         *                inclusive max size of the array
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the expected size is strictly
+         *                                        positive and the array is null
+         * @throws TooManyElementsException
+         *                                        if the size of the array is over
+         *                                        the max size
+         */
+        public DoubleArrayAsserter maxSize(int maxSize) {
+            if (maxSize <= 0 && value == null) {
+                return this;
+            }
+
+            notNull();
+
+            if (value.length > maxSize) {
+                throw TooManyElementsException.builder().field(field).maxSize(maxSize).size(value.length).build();
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that every element is between the given bounds. NaN elements are
+         * reported as under min. Nothing is checked on a null array.
+         *
+         * @param min
+         *            inclusive min value
+         * @param max
+         *            inclusive max value
+         * @return The current asserter
+         * @throws NumberValueTooLowException
+         *                                        if an element is under min, with
+         *                                        its index as parameter
+         * @throws NumberValueTooHighException
+         *                                        if an element is over max, with
+         *                                        its index as parameter
+         */
+        public DoubleArrayAsserter allBetween(double min, double max) {
+            if (value == null) {
+                return this;
+            }
+
+            for (int i = 0; i < value.length; i++) {
+                if (!(value[i] >= min)) {
+                    throw NumberValueTooLowException.builder().field(field).minValue(String.valueOf(min))
+                            .value(String.valueOf(value[i])).index(i).build();
+                }
+
+                if (!(value[i] <= max)) {
+                    throw NumberValueTooHighException.builder().field(field).maxValue(String.valueOf(max))
+                            .value(String.valueOf(value[i])).index(i).build();
+                }
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the sum of the elements is not over the given value. The sum
+         * is compensated to limit rounding errors, a sum overflowing to infinity
+         * or NaN is over any max. Nothing is checked on a null array.
+         *
+         * @param max
+         *            inclusive max sum
+         * @return The current asserter
+         * @throws NumberValueTooHighException
+         *                                        if the sum is over max, with the
+         *                                        sum as value
+         */
+        public DoubleArrayAsserter sumAtMost(double max) {
+            if (value == null) {
+                return this;
+            }
+
+            // Neumaier summation, to keep the rounding error independent of the length
+            double sum = 0;
+            double compensation = 0;
+            for (double element : value) {
+                double total = sum + element;
+
+                if (Math.abs(sum) >= Math.abs(element)) {
+                    compensation += (sum - total) + element;
+                } else {
+                    compensation += (element - total) + sum;
+                }
+
+                sum = total;
+            }
+            // an overflowing sum makes the compensation infinite or NaN
+            if (Double.isFinite(compensation)) {
+                sum += compensation;
+            }
+
+            if (!(sum <= max)) {
+                throw NumberValueTooHighException.builder().field(field).maxValue(String.valueOf(max))
+                        .value(String.valueOf(sum)).build();
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the mean of the elements is between the given bounds. Unlike
+         * the other element checks, this one fails on a null or empty array: it
+         * has no mean to compare, and passing would accept any bounds.
+         *
+         * @param min
+         *            inclusive min mean
+         * @param max
+         *            inclusive max mean
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the array is null or empty
+         * @throws NumberValueTooLowException
+         *                                        if the mean is under min, with the
+         *                                        mean as value
+         * @throws NumberValueTooHighException
+         *                                        if the mean is over max, with the
+         *                                        mean as value
+         */
+        public DoubleArrayAsserter meanBetween(double min, double max) {
+            notEmpty();
+
+            double mean = 0;
+            for (int i = 0; i < value.length; i++) {
+                mean += (value[i] - mean) / (i + 1);
+            }
+
+            checkMean(field, mean, min, max);
+
+            return this;
+        }
+
+        /**
+         * Ensure that each element is greater than or equal to the previous one.
+         * NaN values are out of order. Nothing is checked on a null array.
+         *
+         * @return The current asserter
+         * @throws ElementOutOfOrderException
+         *                                        if an element is lower than the
+         *                                        previous one, with its index
+         */
+        public DoubleArrayAsserter sorted() {
+            if (value == null) {
+                return this;
+            }
+
+            if (value.length > 0 && Double.isNaN(value[0])) {
+                throw ElementOutOfOrderException.builder().field(field).order("sorted").index(0).build();
+            }
+
+            for (int i = 1; i < value.length; i++) {
+                if (!(value[i] >= value[i - 1])) {
+                    throw ElementOutOfOrderException.builder().field(field).order("sorted").index(i).build();
+                }
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that each element is strictly greater than the previous one. NaN
+         * values are out of order. Nothing is checked on a null array.
+         *
+         * @return The current asserter
+         * @throws ElementOutOfOrderException
+         *                                        if an element is not greater than
+         *                                        the previous one, with its index
+         */
+        public DoubleArrayAsserter strictlyIncreasing() {
+            if (value == null) {
+                return this;
+            }
+
+            if (value.length > 0 && Double.isNaN(value[0])) {
+                throw ElementOutOfOrderException.builder().field(field).order("strictly increasing").index(0).build();
+            }
+
+            for (int i = 1; i < value.length; i++) {
+                if (!(value[i] > value[i - 1])) {
+                    throw ElementOutOfOrderException.builder().field(field).order("strictly increasing").index(i)
+                            .build();
+                }
+            }
+
+            return this;
+        }
+    }
+
+    /**
+     * Asserter dedicated to time assertions
+     */
+    public static final class InstantAsserter {
+
+        private static final String OTHER_FIELD_NAME = "other";
+
+        private final String field;
+        private final Instant value;
+
+        private InstantAsserter(String field, Instant value) {
+            this.field = field;
+            this.value = value;
+        }
+
+        public Instant value() {
+            return value;
+        }
+
+        /**
+         * Ensure that the given expirationTime is in the future or at current Instant
+         * (considering this method invocation time and the clock given to
+         * {@link Assert#useClock(Clock)})
+         *
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input lastName is null
+         * @throws NotAfterTimeException
+         *                                        if the input expirationTime is in past
+         */
+        public InstantAsserter inFuture() {
+            return afterOrAt(Assert.now());
+        }
+
+        /**
+         * Ensure that the input expirationTime is after the given expirationTime
+         *
+         * @param other
+         *              exclusive after expirationTime
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if input or other are null
+         * @throws NotAfterTimeException
+         *                                        if the input expirationTime is not
+         *                                        after the other expirationTime
+         */
+        public InstantAsserter after(Instant other) {
+            notNull();
+            Assert.notNull(OTHER_FIELD_NAME, other);
+
+            if (value.compareTo(other) <= 0) {
+                throw NotAfterTimeException.strictlyNotAfter().value(value).field(field).other(other);
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the input expirationTime is after the given expirationTime
+         *
+         * @param other
+         *              inclusive after expirationTime
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if input or other are null
+         * @throws NotAfterTimeException
+         *                                        if the input expirationTime is not
+         *                                        after the other expirationTime
+         */
+        public InstantAsserter afterOrAt(Instant other) {
+            notNull();
+            Assert.notNull(OTHER_FIELD_NAME, other);
+
+            if (value.compareTo(other) < 0) {
+                throw NotAfterTimeException.notAfter().value(value).field(field).other(other);
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the given expirationTime is in the past or at current Instant
+         * (considering this method invocation time and the clock given to
+         * {@link Assert#useClock(Clock)})
+         *
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the input lastName is null
+         * @throws NotBeforeTimeException
+         *                                        if the input expirationTime is in
+         *                                        future
+         */
+        public InstantAsserter inPast() {
+            return beforeOrAt(Assert.now());
+        }
+
+        /**
+         * Ensure that the input expirationTime is before the given expirationTime
+         *
+         * @param other
+         *              exclusive before expirationTime
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if input or other are null
+         * @throws NotBeforeTimeException
+         *                                        if the input expirationTime is not
+         *                                        before the other expirationTime
+         */
+        public InstantAsserter before(Instant other) {
+            notNull();
+            Assert.notNull(OTHER_FIELD_NAME, other);
+
+            if (value.compareTo(other) >= 0) {
+                throw NotBeforeTimeException.strictlyNotBefore().value(value).field(field).other(other);
+            }
+
+            return this;
         }
 
         /**
-         * Get the validated value.
+         * Ensure that the input expirationTime is before the given expirationTime
          *
-         * @return The validated value
+         * @param other
+         *              inclusive before expirationTime
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if input or other are null
+         * @throws NotBeforeTimeException
+         *                                        if the input expirationTime is not
+         *                                        before the other expirationTime
          */
-        public String value() {
-            return value;
+        public InstantAsserter beforeOrAt(Instant other) {
+            notNull();
+            Assert.notNull(OTHER_FIELD_NAME, other);
+
+            if (value.compareTo(other) > 0) {
+                throw NotBeforeTimeException.notBefore().value(value).field(field).other(other);
+            }
+
+            return this;
         }
 
         /**
-         * Ensure that the lastName is not null
+         * Ensure that the instant is in the given window around the current time:
+         * not older than window and not ahead of more than skew (to tolerate
+         * clocks differences). The current time is read once from the clock given
+         * to {@link Assert#useClock(Clock)} and no intermediate instant is created
+         *
+         * <p>
+         * Usage:
+         * </p>
          *
+         * <pre>
+         * <code>
+         * Assert.field("sentAt", request.sentAt())
+         *   .within(Duration.ofMinutes(5), Duration.ofSeconds(30));
+         * </code>
+         * </pre>
+         *
+         * @param window
+         *               max age of the instant
+         * @param skew
+         *               max time the instant can be in future
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if the lastName is null
+         *                                        if the instant, window or skew
+         *                                        are null
+         * @throws IllegalArgumentException
+         *                                        if window or skew are negative
+         * @throws OutsideTimeWindowException
+         *                                        if the instant is not in the
+         *                                        window
          */
-        public StringAsserter notNull() {
-            Assert.notNull(field, value);
+        public InstantAsserter within(Duration window, Duration skew) {
+            notNull();
+            checkWindow(window, skew);
+
+            long now = currentMillis();
+            if (windowPosition(value.getEpochSecond(), value.getNano(), now, window, skew) != 0) {
+                throw OutsideTimeWindowException.builder().field(field).value(value).from(windowStart(now, window))
+                        .to(windowEnd(now, skew)).build();
+            }
 
             return this;
         }
 
         /**
-         * Ensure that the lastName is not blank (null, empty or only whitespace)
+         * Ensure that the instant is in the past but not older than the given
+         * window, see {@link #within(Duration, Duration)}
          *
+         * @param window
+         *               max age of the instant
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if the lastName is blank
+         *                                        if the instant or window are
+         *                                        null
+         * @throws IllegalArgumentException
+         *                                        if window is negative
+         * @throws OutsideTimeWindowException
+         *                                        if the instant is not in the
+         *                                        window
          */
-        public StringAsserter notBlank() {
-            notNull();
+        public InstantAsserter within(Duration window) {
+            return within(window, Duration.ZERO);
+        }
 
-            if (value.isBlank()) {
-                throw MissingMandatoryValueException.forBlankValue(field);
+        /**
+         * Ensure that the expirationTime is not null
+         *
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the expirationTime is null
+         */
+        public InstantAsserter notNull() {
+            Assert.notNull(field, value);
+
+            return this;
+        }
+
+        public InstantAsserter satisfies(Predicate<Instant> condition, String errorMessage) {
+            if (value == null || !condition.test(value)) {
+                throw MissingMandatoryValueException.forBadValue(field, errorMessage);
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Asserter dedicated to timestamps in milliseconds since the epoch. Comparisons are
+     * done on the primitive value, an {@link Instant} is only created to build
+     * the exception message
+     */
+    public static final class EpochMillisAsserter {
+
+        private final String field;
+        private final long value;
+
+        private EpochMillisAsserter(String field, long value) {
+            this.field = field;
+            this.value = value;
+        }
+
+        public long value() {
+            return value;
+        }
+
+        /**
+         * Ensure that the timestamp is in the future or at the current time (read
+         * from the clock given to {@link Assert#useClock(Clock)})
+         *
+         * @return The current asserter
+         * @throws NotAfterTimeException
+         *                               if the timestamp is in past
+         */
+        public EpochMillisAsserter inFuture() {
+            return afterOrAt(currentMillis());
+        }
+
+        /**
+         * Ensure that the timestamp is in the past or at the current time (read
+         * from the clock given to {@link Assert#useClock(Clock)})
+         *
+         * @return The current asserter
+         * @throws NotBeforeTimeException
+         *                                if the timestamp is in future
+         */
+        public EpochMillisAsserter inPast() {
+            return beforeOrAt(currentMillis());
+        }
+
+        /**
+         * Ensure that the timestamp is after the given one
+         *
+         * @param other
+         *              exclusive after timestamp, in milliseconds since the epoch
+         * @return The current asserter
+         * @throws NotAfterTimeException
+         *                               if the timestamp is not after the other
+         *                               one
+         */
+        public EpochMillisAsserter after(long other) {
+            if (value <= other) {
+                throw NotAfterTimeException.strictlyNotAfter().value(Instant.ofEpochMilli(value)).field(field)
+                        .other(Instant.ofEpochMilli(other));
             }
 
             return this;
         }
 
         /**
-         * Ensure that the input lastName is at least of the given length
+         * Ensure that the timestamp is after or at the given one
          *
-         * @param length
-         *               inclusive min length of the {@link String}
+         * @param other
+         *              inclusive after timestamp, in milliseconds since the epoch
+         * @return The current asserter
+         * @throws NotAfterTimeException
+         *                               if the timestamp is before the other one
+         */
+        public EpochMillisAsserter afterOrAt(long other) {
+            if (value < other) {
+                throw NotAfterTimeException.notAfter().value(Instant.ofEpochMilli(value)).field(field)
+                        .other(Instant.ofEpochMilli(other));
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the timestamp is before the given one
+         *
+         * @param other
+         *              exclusive before timestamp, in milliseconds since the epoch
+         * @return The current asserter
+         * @throws NotBeforeTimeException
+         *                                if the timestamp is not before the other
+         *                                one
+         */
+        public EpochMillisAsserter before(long other) {
+            if (value >= other) {
+                throw NotBeforeTimeException.strictlyNotBefore().value(Instant.ofEpochMilli(value)).field(field)
+                        .other(Instant.ofEpochMilli(other));
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the timestamp is before or at the given one
+         *
+         * @param other
+         *              inclusive before timestamp, in milliseconds since the epoch
+         * @return The current asserter
+         * @throws NotBeforeTimeException
+         *                                if the timestamp is after the other one
+         */
+        public EpochMillisAsserter beforeOrAt(long other) {
+            if (value > other) {
+                throw NotBeforeTimeException.notBefore().value(Instant.ofEpochMilli(value)).field(field)
+                        .other(Instant.ofEpochMilli(other));
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the timestamp is in the given window around the current
+         * time: not older than window and not ahead of more than skew (to
+         * tolerate clocks differences). The current time is read once from the
+         * clock given to {@link Assert#useClock(Clock)}
          *
+         * @param window
+         *               max age of the timestamp
+         * @param skew
+         *               max time the timestamp can be in future
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if the expected length is strictly
-         *                                        positive and the lastName is null
-         * @throws StringTooShortException
-         *                                        if the lastName is shorter than min
-         *                                        length
+         *                                        if window or skew are null
+         * @throws IllegalArgumentException
+         *                                        if window or skew are negative
+         * @throws OutsideTimeWindowException
+         *                                        if the timestamp is not in the
+         *                                        window
          */
-        public StringAsserter minLength(int length) {
-            if (length <= 0 && value == null) {
-                return this;
+        public EpochMillisAsserter within(Duration window, Duration skew) {
+            checkWindow(window, skew);
+
+            long now = currentMillis();
+            long seconds = Math.floorDiv(value, 1000);
+            int nanos = Math.floorMod(value, 1000) * 1_000_000;
+            if (windowPosition(seconds, nanos, now, window, skew) != 0) {
+                throw OutsideTimeWindowException.builder().field(field).value(Instant.ofEpochMilli(value))
+                        .from(windowStart(now, window)).to(windowEnd(now, skew)).build();
             }
 
-            notNull();
+            return this;
+        }
 
-            if (value.length() < length) {
-                throw StringTooShortException.builder().field(field).value(value).minLength(length).build();
+        /**
+         * Ensure that the timestamp is in the past but not older than the given
+         * window, see {@link #within(Duration, Duration)}
+         *
+         * @param window
+         *               max age of the timestamp
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if window is null
+         * @throws IllegalArgumentException
+         *                                        if window is negative
+         * @throws OutsideTimeWindowException
+         *                                        if the timestamp is not in the
+         *                                        window
+         */
+        public EpochMillisAsserter within(Duration window) {
+            return within(window, Duration.ZERO);
+        }
+    }
+
+    /**
+     * Asserter dedicated to timestamps in nanoseconds since the epoch. Comparisons are
+     * done on the primitive value, an {@link Instant} is only created to build
+     * the exception message
+     */
+    public static final class EpochNanosAsserter {
+
+        private static final long NANOS_PER_SECOND = 1_000_000_000L;
+        private static final long MAX_SECOND = Long.MAX_VALUE / NANOS_PER_SECOND;
+        private static final long MAX_SECOND_NANOS = Long.MAX_VALUE % NANOS_PER_SECOND;
+        private static final long MIN_SECOND = Long.MIN_VALUE / NANOS_PER_SECOND;
+
+        private final String field;
+        private final long value;
+
+        private EpochNanosAsserter(String field, long value) {
+            this.field = field;
+            this.value = value;
+        }
+
+        public long value() {
+            return value;
+        }
+
+        /**
+         * Epoch nanos only cover years 1677 to 2262: the current time of a clock
+         * out of this range saturates to {@link Long#MIN_VALUE} or
+         * {@link Long#MAX_VALUE}.
+         */
+        private static long currentNanos() {
+            Instant now = Assert.now();
+            long seconds = now.getEpochSecond();
+            int nanos = now.getNano();
+
+            if (seconds > MAX_SECOND || seconds == MAX_SECOND && nanos > MAX_SECOND_NANOS) {
+                return Long.MAX_VALUE;
+            }
+
+            if (seconds < MIN_SECOND) {
+                return Long.MIN_VALUE;
+            }
+
+            return seconds * NANOS_PER_SECOND + nanos;
+        }
+
+        private static Instant toInstant(long epochNanos) {
+            return Instant.ofEpochSecond(Math.floorDiv(epochNanos, NANOS_PER_SECOND),
+                    Math.floorMod(epochNanos, NANOS_PER_SECOND));
+        }
+
+        /**
+         * Ensure that the timestamp is in the future or at the current time (read
+         * from the clock given to {@link Assert#useClock(Clock)})
+         *
+         * @return The current asserter
+         * @throws NotAfterTimeException
+         *                               if the timestamp is in past
+         */
+        public EpochNanosAsserter inFuture() {
+            return afterOrAt(currentNanos());
+        }
+
+        /**
+         * Ensure that the timestamp is in the past or at the current time (read
+         * from the clock given to {@link Assert#useClock(Clock)})
+         *
+         * @return The current asserter
+         * @throws NotBeforeTimeException
+         *                                if the timestamp is in future
+         */
+        public EpochNanosAsserter inPast() {
+            return beforeOrAt(currentNanos());
+        }
+
+        /**
+         * Ensure that the timestamp is after the given one
+         *
+         * @param other
+         *              exclusive after timestamp, in nanoseconds since the epoch
+         * @return The current asserter
+         * @throws NotAfterTimeException
+         *                               if the timestamp is not after the other
+         *                               one
+         */
+        public EpochNanosAsserter after(long other) {
+            if (value <= other) {
+                throw NotAfterTimeException.strictlyNotAfter().value(toInstant(value)).field(field)
+                        .other(toInstant(other));
             }
 
             return this;
         }
 
         /**
-         * Ensure that the given input lastName is not over the given length
+         * Ensure that the timestamp is after or at the given one
          *
-         * @param length
-         *               inclusive max length of the {@link String}
+         * @param other
+         *              inclusive after timestamp, in nanoseconds since the epoch
          * @return The current asserter
-         * @throws StringTooLongException
-         *                                if the lastName is longer than the max length
+         * @throws NotAfterTimeException
+         *                               if the timestamp is before the other one
          */
-        public StringAsserter maxLength(int length) {
-            if (value == null) {
-                return this;
+        public EpochNanosAsserter afterOrAt(long other) {
+            if (value < other) {
+                throw NotAfterTimeException.notAfter().value(toInstant(value)).field(field)
+                        .other(toInstant(other));
             }
 
-            if (value.length() > length) {
-                throw StringTooLongException.builder().field(field).value(value).maxLength(length).build();
+            return this;
+        }
+
+        /**
+         * Ensure that the timestamp is before the given one
+         *
+         * @param other
+         *              exclusive before timestamp, in nanoseconds since the epoch
+         * @return The current asserter
+         * @throws NotBeforeTimeException
+         *                                if the timestamp is not before the other
+         *                                one
+         */
+        public EpochNanosAsserter before(long other) {
+            if (value >= other) {
+                throw NotBeforeTimeException.strictlyNotBefore().value(toInstant(value)).field(field)
+                        .other(toInstant(other));
             }
 
             return this;
         }
 
         /**
-         * Ensure that the value matches the given pattern.
+         * Ensure that the timestamp is before or at the given one
          *
-         * @param pattern
-         *                     pattern to match
-         * @param errorMessage
-         *                     error message if not matching
+         * @param other
+         *              inclusive before timestamp, in nanoseconds since the epoch
          * @return The current asserter
-         * @throws MissingMandatoryValueException
-         *                                        if the value is null or does not match
+         * @throws NotBeforeTimeException
+         *                                if the timestamp is after the other one
          */
-        public StringAsserter matches(Pattern pattern, String errorMessage) {
-            if (value == null || !pattern.matcher(value).find()) {
-                throw MissingMandatoryValueException.forBadValue(field, errorMessage);
+        public EpochNanosAsserter beforeOrAt(long other) {
+            if (value > other) {
+                throw NotBeforeTimeException.notBefore().value(toInstant(value)).field(field)
+                        .other(toInstant(other));
+            }
+
+            return this;
+        }
+    }
+
+    /**
+     * Asserter dedicated to dates given as days since 1970-01-01. Comparisons
+     * are done on the primitive value, a {@link LocalDate} is only created to
+     * build the exception
+     */
+    public static final class EpochDayAsserter {
+
+        private final String field;
+        private final long value;
+
+        private EpochDayAsserter(String field, long value) {
+            this.field = field;
+            this.value = value;
+        }
+
+        public long value() {
+            return value;
+        }
+
+        /**
+         * Ensure that the date is today or in the past, in the zone of the clock
+         * given to {@link Assert#useClock(Clock)}
+         *
+         * @return The current asserter
+         * @throws RequiredValueException
+         *                                if the date is in future
+         */
+        public EpochDayAsserter inPast() {
+            if (value > todayEpochDay()) {
+                throw new RequiredValueException(field, LocalDate.ofEpochDay(value), "Must be in the past");
             }
+
             return this;
         }
 
         /**
-         * Ensure that the value satisfies the given condition.
+         * Ensure that the date is today or in the future, in the zone of the clock
+         * given to {@link Assert#useClock(Clock)}
          *
-         * @param condition
-         *                     condition to satisfy
-         * @param errorMessage
-         *                     error message if not satisfied
          * @return The current asserter
-         * @throws MissingMandatoryValueException
-         *                                        if the value is null or condition is
-         *                                        false
+         * @throws RequiredValueException
+         *                                if the date is in past
          */
-        public StringAsserter satisfies(Predicate<String> condition, String errorMessage) {
-            if (value == null || !condition.test(value)) {
-                throw MissingMandatoryValueException.forBadValue(field, errorMessage);
+        public EpochDayAsserter inFuture() {
+            if (value < todayEpochDay()) {
+                throw new RequiredValueException(field, LocalDate.ofEpochDay(value), "Must be in the future");
             }
+
             return this;
         }
 
         /**
-         * Ensure that the value has a valid email format.
+         * Ensure that the date is after the given one
          *
+         * @param other
+         *              exclusive after date, in days since 1970-01-01
          * @return The current asserter
+         * @throws RequiredValueException
+         *                                if the date is not after the other one
          */
-        public StringAsserter email() {
-            return matches(Pattern.compile("^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,6}$"),
-                    "Invalid email format");
+        public EpochDayAsserter after(long other) {
+            if (value <= other) {
+                throw new RequiredValueException(field, LocalDate.ofEpochDay(value),
+                        "Must be after " + LocalDate.ofEpochDay(other));
+            }
+
+            return this;
         }
 
         /**
-         * Ensure that the value has a valid URL format.
+         * Ensure that the date is before the given one
          *
+         * @param other
+         *              exclusive before date, in days since 1970-01-01
          * @return The current asserter
+         * @throws RequiredValueException
+         *                                if the date is not before the other one
          */
-        public StringAsserter url() {
-            return matches(Pattern.compile("^(https?|ftp)://[^\\s/$.?#].[^\\s]*$"), "Invalid URL format");
+        public EpochDayAsserter before(long other) {
+            if (value >= other) {
+                throw new RequiredValueException(field, LocalDate.ofEpochDay(value),
+                        "Must be before " + LocalDate.ofEpochDay(other));
+            }
+
+            return this;
         }
     }
 
     /**
-     * Asserter dedicated to Integer values (int and {@link Integer})
+     * Asserter dedicated to LocalDate assertions
      */
-    public static final class IntegerAsserter {
+    public static final class LocalDateAsserter {
+
+        private static final String OTHER_FIELD_NAME = "other";
 
         private final String field;
-        private final Integer value;
+        private final LocalDate value;
 
-        private IntegerAsserter(String field, Integer value) {
+        private LocalDateAsserter(String field, LocalDate value) {
             this.field = field;
             this.value = value;
         }
 
-        public Integer value() {
+        public LocalDate value() {
             return value;
         }
 
-        /**
-         * Ensure that the input lastName is positive (0 is positive)
-         *
-         * @return The current asserters
-         * @throws MissingMandatoryValueException
-         *                                        if the lastName is null
-         * @throws NumberValueTooLowException
-         *                                        if the lastName is negative
-         */
-        public IntegerAsserter positive() {
-            return min(0);
+        public LocalDateAsserter notNull() {
+            Assert.notNull(field, value);
+            return this;
         }
 
-        public IntegerAsserter strictlyPositive() {
-            return min(1);
+        public LocalDateAsserter inPast() {
+            notNull();
+            if (value.toEpochDay() > todayEpochDay()) {
+                throw new RequiredValueException(field, value, "Must be in the past");
+            }
+            return this;
         }
 
-        /**
-         * Ensure that the input lastName is over the given lastName
-         *
-         * @param minValue
-         *                 inclusive min lastName
-         * @return The current asserter
-         * @throws MissingMandatoryValueException
-         *                                        if lastName is null
-         * @throws NumberValueTooLowException
-         *                                        if the lastName is under min
-         */
-        public IntegerAsserter min(int minValue) {
-            notNull(field, value);
-
-            if (value.intValue() < minValue) {
-                throw NumberValueTooLowException.builder().field(field).minValue(String.valueOf(minValue))
-                        .value(String.valueOf(value)).build();
+        public LocalDateAsserter inFuture() {
+            notNull();
+            if (value.toEpochDay() < todayEpochDay()) {
+                throw new RequiredValueException(field, value, "Must be in the future");
             }
-
             return this;
         }
 
-        /**
-         * Ensure that the input lastName is under the given lastName
-         *
-         * @param maxValue
-         *                 inclusive max lastName
-         * @return The current asserter
-         * @throws MissingMandatoryValueException
-         *                                        if lastName is null
-         * @throws NumberValueTooHighException
-         *                                        if the lastName is over max
-         */
-        public IntegerAsserter max(int maxValue) {
-            notNull(field, value);
-
-            if (value.intValue() > maxValue) {
-                throw NumberValueTooHighException.builder().field(field).maxValue(String.valueOf(maxValue))
-                        .value(String.valueOf(value)).build();
+        public LocalDateAsserter after(LocalDate other) {
+            notNull();
+            Assert.notNull(OTHER_FIELD_NAME, other);
+            if (!value.isAfter(other)) {
+                throw new RequiredValueException(field, value, "Must be after " + other);
             }
+            return this;
+        }
 
+        public LocalDateAsserter before(LocalDate other) {
+            notNull();
+            Assert.notNull(OTHER_FIELD_NAME, other);
+            if (!value.isBefore(other)) {
+                throw new RequiredValueException(field, value, "Must be before " + other);
+            }
             return this;
         }
 
-        public IntegerAsserter satisfies(Predicate<Integer> condition, String errorMessage) {
+        public LocalDateAsserter satisfies(Predicate<LocalDate> condition, String errorMessage) {
             if (value == null || !condition.test(value)) {
                 throw MissingMandatoryValueException.forBadValue(field, errorMessage);
             }
@@ -642,1132 +5744,1455 @@ public final class Assert {
     }
 
     /**
-     * Asserter dedicated to long values (long and {@link Long})
+     * Asserter dedicated to LocalDateTime assertions. Comparisons with other
+     * local date-times are done on their epoch second and nano in UTC and the
+     * current date-time is computed with a cached zone offset
      */
-    public static final class LongAsserter {
+    public static final class LocalDateTimeAsserter {
+
+        private static final String OTHER_FIELD_NAME = "other";
 
         private final String field;
-        private final Long value;
+        private final LocalDateTime value;
 
-        private LongAsserter(String field, Long value) {
+        private LocalDateTimeAsserter(String field, LocalDateTime value) {
             this.field = field;
             this.value = value;
         }
 
-        public Long value() {
+        public LocalDateTime value() {
             return value;
         }
 
         /**
-         * Ensure that the input lastName is positive (0 is positive)
+         * Ensure that the value is not null
          *
-         * @return The current asserters
+         * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if the lastName is null
-         * @throws NumberValueTooLowException
-         *                                        if the lastName is negative
+         *                                        if the value is null
          */
-        public LongAsserter positive() {
-            return min(0L);
+        public LocalDateTimeAsserter notNull() {
+            Assert.notNull(field, value);
+
+            return this;
         }
 
-        public LongAsserter strictlyPositive() {
-            return min(1L);
+        /**
+         * Ensure that the value is in the past or now, according to the local
+         * date-time of the clock given to {@link Assert#useClock(Clock)}, in its
+         * zone
+         *
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the value is null
+         * @throws NotBeforeTimeException
+         *                                        if the value is in future
+         */
+        public LocalDateTimeAsserter inPast() {
+            notNull();
+
+            Instant now = Assert.now();
+            long localNow = now.getEpochSecond() + ZoneOffsetCache.offsetSeconds(clockZone(), now.getEpochSecond());
+
+            if (compareEpoch(value.toEpochSecond(ZoneOffset.UTC), value.getNano(), localNow, now.getNano()) > 0) {
+                throw NotBeforeTimeException.notBefore().value(value).field(field)
+                        .other(LocalDateTime.ofEpochSecond(localNow, now.getNano(), ZoneOffset.UTC));
+            }
+
+            return this;
         }
 
         /**
-         * Ensure that the input lastName is over the given lastName
+         * Ensure that the value is in the future or now, according to the local
+         * date-time of the clock given to {@link Assert#useClock(Clock)}, in its
+         * zone
          *
-         * @param minValue
-         *                 inclusive min lastName
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if lastName is null
-         * @throws NumberValueTooLowException
-         *                                        if the lastName is under min
+         *                                        if the value is null
+         * @throws NotAfterTimeException
+         *                                        if the value is in past
          */
-        public LongAsserter min(long minValue) {
-            notNull(field, value);
+        public LocalDateTimeAsserter inFuture() {
+            notNull();
 
-            if (value.longValue() < minValue) {
-                throw NumberValueTooLowException.builder().field(field).minValue(String.valueOf(minValue))
-                        .value(String.valueOf(value)).build();
+            Instant now = Assert.now();
+            long localNow = now.getEpochSecond() + ZoneOffsetCache.offsetSeconds(clockZone(), now.getEpochSecond());
+
+            if (compareEpoch(value.toEpochSecond(ZoneOffset.UTC), value.getNano(), localNow, now.getNano()) < 0) {
+                throw NotAfterTimeException.notAfter().value(value).field(field)
+                        .other(LocalDateTime.ofEpochSecond(localNow, now.getNano(), ZoneOffset.UTC));
             }
 
             return this;
         }
 
         /**
-         * Ensure that the input lastName is under the given lastName
+         * Ensure that the value is after the given one
          *
-         * @param maxValue
-         *                 inclusive max lastName
+         * @param other
+         *              exclusive after value
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if lastName is null
-         * @throws NumberValueTooHighException
-         *                                        if the lastName is over max
+         *                                        if value or other are null
+         * @throws NotAfterTimeException
+         *                                        if the value is not after
+         *                                        the other one
          */
-        public LongAsserter max(long maxValue) {
-            notNull(field, value);
+        public LocalDateTimeAsserter after(LocalDateTime other) {
+            notNull();
+            Assert.notNull(OTHER_FIELD_NAME, other);
 
-            if (value.longValue() > maxValue) {
-                throw NumberValueTooHighException.builder().field(field).maxValue(String.valueOf(maxValue))
-                        .value(String.valueOf(value)).build();
+            if (compareTo(other) <= 0) {
+                throw NotAfterTimeException.strictlyNotAfter().value(value).field(field).other(other);
             }
 
             return this;
         }
 
-        public LongAsserter satisfies(Predicate<Long> condition, String errorMessage) {
-            if (value == null || !condition.test(value)) {
-                throw MissingMandatoryValueException.forBadValue(field, errorMessage);
+        /**
+         * Ensure that the value is after or at the given one
+         *
+         * @param other
+         *              inclusive after value
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if value or other are null
+         * @throws NotAfterTimeException
+         *                                        if the value is not after or at
+         *                                        the other one
+         */
+        public LocalDateTimeAsserter afterOrAt(LocalDateTime other) {
+            notNull();
+            Assert.notNull(OTHER_FIELD_NAME, other);
+
+            if (compareTo(other) < 0) {
+                throw NotAfterTimeException.notAfter().value(value).field(field).other(other);
             }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the value is before the given one
+         *
+         * @param other
+         *              exclusive before value
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if value or other are null
+         * @throws NotBeforeTimeException
+         *                                        if the value is not before
+         *                                        the other one
+         */
+        public LocalDateTimeAsserter before(LocalDateTime other) {
+            notNull();
+            Assert.notNull(OTHER_FIELD_NAME, other);
+
+            if (compareTo(other) >= 0) {
+                throw NotBeforeTimeException.strictlyNotBefore().value(value).field(field).other(other);
+            }
+
+            return this;
+        }
+
+        /**
+         * Ensure that the value is before or at the given one
+         *
+         * @param other
+         *              inclusive before value
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if value or other are null
+         * @throws NotBeforeTimeException
+         *                                        if the value is not before or at
+         *                                        the other one
+         */
+        public LocalDateTimeAsserter beforeOrAt(LocalDateTime other) {
+            notNull();
+            Assert.notNull(OTHER_FIELD_NAME, other);
+
+            if (compareTo(other) > 0) {
+                throw NotBeforeTimeException.notBefore().value(value).field(field).other(other);
+            }
+
             return this;
         }
+
+        private int compareTo(LocalDateTime other) {
+            return compareEpoch(value.toEpochSecond(ZoneOffset.UTC), value.getNano(),
+                    other.toEpochSecond(ZoneOffset.UTC), other.getNano());
+        }
     }
 
     /**
-     * Asserter dedicated to float values (float and {@link Float})
+     * Asserter dedicated to OffsetDateTime assertions. Comparisons are done on the instants, as epoch second and nano
      */
-    public static final class FloatAsserter {
+    public static final class OffsetDateTimeAsserter {
+
+        private static final String OTHER_FIELD_NAME = "other";
 
         private final String field;
-        private final Float value;
+        private final OffsetDateTime value;
 
-        FloatAsserter(String field, Float value) {
+        private OffsetDateTimeAsserter(String field, OffsetDateTime value) {
             this.field = field;
             this.value = value;
         }
 
-        public Float value() {
+        public OffsetDateTime value() {
             return value;
         }
 
         /**
-         * Ensure that the input lastName is positive (0 is positive)
+         * Ensure that the value is not null
          *
-         * @return The current asserters
+         * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if the lastName is null
-         * @throws NumberValueTooLowException
-         *                                        if the lastName is negative
+         *                                        if the value is null
          */
-        public FloatAsserter positive() {
-            return min(0);
+        public OffsetDateTimeAsserter notNull() {
+            Assert.notNull(field, value);
+
+            return this;
         }
 
         /**
-         * Ensure that the input lastName is strictly positive (0 is not strictly
-         * positive)
+         * Ensure that the value is in the past or now, according to the clock
+         * given to {@link Assert#useClock(Clock)}
          *
-         * @return The current asserters
+         * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if the lastName is null
-         * @throws NumberValueTooLowException
-         *                                        if the lastName is negative
+         *                                        if the value is null
+         * @throws NotBeforeTimeException
+         *                                        if the value is in future
          */
-        public FloatAsserter strictlyPositive() {
-            return over(0);
+        public OffsetDateTimeAsserter inPast() {
+            notNull();
+
+            Instant now = Assert.now();
+
+            if (compareEpoch(value.toEpochSecond(), value.getNano(), now.getEpochSecond(), now.getNano()) > 0) {
+                throw NotBeforeTimeException.notBefore().value(value).field(field).other(now);
+            }
+
+            return this;
         }
 
         /**
-         * Ensure that the input lastName is over the given lastName
+         * Ensure that the value is in the future or now, according to the clock
+         * given to {@link Assert#useClock(Clock)}
          *
-         * @param minValue
-         *                 inclusive min lastName
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if lastName is null
-         * @throws NumberValueTooLowException
-         *                                        if the lastName is under min
+         *                                        if the value is null
+         * @throws NotAfterTimeException
+         *                                        if the value is in past
          */
-        public FloatAsserter min(float minValue) {
-            notNull(field, value);
+        public OffsetDateTimeAsserter inFuture() {
+            notNull();
 
-            if (value.floatValue() < minValue) {
-                throw tooLow(minValue);
+            Instant now = Assert.now();
+
+            if (compareEpoch(value.toEpochSecond(), value.getNano(), now.getEpochSecond(), now.getNano()) < 0) {
+                throw NotAfterTimeException.notAfter().value(value).field(field).other(now);
             }
 
             return this;
         }
 
         /**
-         * Ensure that the input lastName is over the given floor
+         * Ensure that the value is after the given one
          *
-         * @param floor
-         *              exclusive floor lastName
+         * @param other
+         *              exclusive after value
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if lastName is null
-         * @throws NumberValueTooHighException
-         *                                        if the lastName is under floor
+         *                                        if value or other are null
+         * @throws NotAfterTimeException
+         *                                        if the value is not after
+         *                                        the other one
          */
-        public FloatAsserter over(float floor) {
-            notNull(field, value);
+        public OffsetDateTimeAsserter after(OffsetDateTime other) {
+            notNull();
+            Assert.notNull(OTHER_FIELD_NAME, other);
 
-            if (value.floatValue() <= floor) {
-                throw tooLow(floor);
+            if (compareTo(other) <= 0) {
+                throw NotAfterTimeException.strictlyNotAfter().value(value).field(field).other(other);
             }
 
             return this;
         }
 
-        private NumberValueTooLowException tooLow(float floor) {
-            return NumberValueTooLowException.builder().field(field).minValue(String.valueOf(floor))
-                    .value(String.valueOf(value)).build();
-        }
-
         /**
-         * Ensure that the input lastName is under the given lastName
+         * Ensure that the value is after or at the given one
          *
-         * @param maxValue
-         *                 inclusive max lastName
+         * @param other
+         *              inclusive after value
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if lastName is null
-         * @throws NumberValueTooHighException
-         *                                        if the lastName is over max
+         *                                        if value or other are null
+         * @throws NotAfterTimeException
+         *                                        if the value is not after or at
+         *                                        the other one
          */
-        public FloatAsserter max(float maxValue) {
-            notNull(field, value);
+        public OffsetDateTimeAsserter afterOrAt(OffsetDateTime other) {
+            notNull();
+            Assert.notNull(OTHER_FIELD_NAME, other);
 
-            if (value.floatValue() > maxValue) {
-                throw tooHigh(maxValue);
+            if (compareTo(other) < 0) {
+                throw NotAfterTimeException.notAfter().value(value).field(field).other(other);
             }
 
             return this;
         }
 
         /**
-         * Ensure that the input lastName is under the given ceil
+         * Ensure that the value is before the given one
          *
-         * @param ceil
-         *             exclusive ceil lastName
+         * @param other
+         *              exclusive before value
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if lastName is null
-         * @throws NumberValueTooHighException
-         *                                        if the lastName is over ceil
+         *                                        if value or other are null
+         * @throws NotBeforeTimeException
+         *                                        if the value is not before
+         *                                        the other one
          */
-        public FloatAsserter under(float ceil) {
-            notNull(field, value);
+        public OffsetDateTimeAsserter before(OffsetDateTime other) {
+            notNull();
+            Assert.notNull(OTHER_FIELD_NAME, other);
 
-            if (value.floatValue() >= ceil) {
-                throw tooHigh(ceil);
+            if (compareTo(other) >= 0) {
+                throw NotBeforeTimeException.strictlyNotBefore().value(value).field(field).other(other);
             }
 
             return this;
         }
 
-        private NumberValueTooHighException tooHigh(float ceil) {
-            return NumberValueTooHighException.builder().field(field).maxValue(String.valueOf(ceil))
-                    .value(String.valueOf(value)).build();
-        }
+        /**
+         * Ensure that the value is before or at the given one
+         *
+         * @param other
+         *              inclusive before value
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if value or other are null
+         * @throws NotBeforeTimeException
+         *                                        if the value is not before or at
+         *                                        the other one
+         */
+        public OffsetDateTimeAsserter beforeOrAt(OffsetDateTime other) {
+            notNull();
+            Assert.notNull(OTHER_FIELD_NAME, other);
 
-        public FloatAsserter satisfies(Predicate<Float> condition, String errorMessage) {
-            if (value == null || !condition.test(value)) {
-                throw MissingMandatoryValueException.forBadValue(field, errorMessage);
+            if (compareTo(other) > 0) {
+                throw NotBeforeTimeException.notBefore().value(value).field(field).other(other);
             }
+
             return this;
         }
+
+        private int compareTo(OffsetDateTime other) {
+            return compareEpoch(value.toEpochSecond(), value.getNano(), other.toEpochSecond(), other.getNano());
+        }
     }
 
     /**
-     * Asserter dedicated to double values (double and {@link Double})
+     * Asserter dedicated to ZonedDateTime assertions. Comparisons are done on the instants, as epoch second and nano
      */
-    public static final class DoubleAsserter {
+    public static final class ZonedDateTimeAsserter {
+
+        private static final String OTHER_FIELD_NAME = "other";
 
         private final String field;
-        private final Double value;
+        private final ZonedDateTime value;
 
-        DoubleAsserter(String field, Double value) {
+        private ZonedDateTimeAsserter(String field, ZonedDateTime value) {
             this.field = field;
             this.value = value;
         }
 
-        public Double value() {
+        public ZonedDateTime value() {
             return value;
         }
 
         /**
-         * Ensure that the input lastName is positive (0 is positive)
+         * Ensure that the value is not null
          *
-         * @return The current asserters
+         * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if the lastName is null
-         * @throws NumberValueTooLowException
-         *                                        if the lastName is negative
+         *                                        if the value is null
          */
-        public DoubleAsserter positive() {
-            return min(0);
+        public ZonedDateTimeAsserter notNull() {
+            Assert.notNull(field, value);
+
+            return this;
         }
 
         /**
-         * Ensure that the input lastName is strictly positive (0 is not strictly
-         * positive)
+         * Ensure that the value is in the past or now, according to the clock
+         * given to {@link Assert#useClock(Clock)}
          *
-         * @return The current asserters
+         * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if the lastName is null
-         * @throws NumberValueTooLowException
-         *                                        if the lastName is negative
+         *                                        if the value is null
+         * @throws NotBeforeTimeException
+         *                                        if the value is in future
          */
-        public DoubleAsserter strictlyPositive() {
-            return over(0);
+        public ZonedDateTimeAsserter inPast() {
+            notNull();
+
+            Instant now = Assert.now();
+
+            if (compareEpoch(value.toEpochSecond(), value.getNano(), now.getEpochSecond(), now.getNano()) > 0) {
+                throw NotBeforeTimeException.notBefore().value(value).field(field).other(now);
+            }
+
+            return this;
         }
 
         /**
-         * Ensure that the input lastName is over the given lastName
+         * Ensure that the value is in the future or now, according to the clock
+         * given to {@link Assert#useClock(Clock)}
          *
-         * @param minValue
-         *                 inclusive min lastName
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if lastName is null
-         * @throws NumberValueTooLowException
-         *                                        if the lastName is under min
+         *                                        if the value is null
+         * @throws NotAfterTimeException
+         *                                        if the value is in past
          */
-        public DoubleAsserter min(double minValue) {
-            notNull(field, value);
+        public ZonedDateTimeAsserter inFuture() {
+            notNull();
 
-            if (value.doubleValue() < minValue) {
-                throw tooLow(minValue);
+            Instant now = Assert.now();
+
+            if (compareEpoch(value.toEpochSecond(), value.getNano(), now.getEpochSecond(), now.getNano()) < 0) {
+                throw NotAfterTimeException.notAfter().value(value).field(field).other(now);
             }
 
             return this;
         }
 
         /**
-         * Ensure that the input lastName is over the given floor
+         * Ensure that the value is after the given one
          *
-         * @param floor
-         *              exclusive floor lastName
+         * @param other
+         *              exclusive after value
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if lastName is null
-         * @throws NumberValueTooHighException
-         *                                        if the lastName is under floor
+         *                                        if value or other are null
+         * @throws NotAfterTimeException
+         *                                        if the value is not after
+         *                                        the other one
          */
-        public DoubleAsserter over(double floor) {
-            notNull(field, value);
+        public ZonedDateTimeAsserter after(ZonedDateTime other) {
+            notNull();
+            Assert.notNull(OTHER_FIELD_NAME, other);
 
-            if (value.doubleValue() <= floor) {
-                throw tooLow(floor);
+            if (compareTo(other) <= 0) {
+                throw NotAfterTimeException.strictlyNotAfter().value(value).field(field).other(other);
             }
 
             return this;
         }
 
-        private NumberValueTooLowException tooLow(double floor) {
-            return NumberValueTooLowException.builder().field(field).minValue(String.valueOf(floor))
-                    .value(String.valueOf(value)).build();
-        }
-
         /**
-         * Ensure that the input lastName is under the given lastName
+         * Ensure that the value is after or at the given one
          *
-         * @param maxValue
-         *                 inclusive max lastName
+         * @param other
+         *              inclusive after value
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if lastName is null
-         * @throws NumberValueTooHighException
-         *                                        if the lastName is over max
+         *                                        if value or other are null
+         * @throws NotAfterTimeException
+         *                                        if the value is not after or at
+         *                                        the other one
          */
-        public DoubleAsserter max(double maxValue) {
-            notNull(field, value);
+        public ZonedDateTimeAsserter afterOrAt(ZonedDateTime other) {
+            notNull();
+            Assert.notNull(OTHER_FIELD_NAME, other);
 
-            if (value.doubleValue() > maxValue) {
-                throw tooHigh(maxValue);
+            if (compareTo(other) < 0) {
+                throw NotAfterTimeException.notAfter().value(value).field(field).other(other);
             }
 
             return this;
         }
 
         /**
-         * Ensure that the input lastName is under the given ceil
+         * Ensure that the value is before the given one
          *
-         * @param ceil
-         *             exclusive ceil lastName
+         * @param other
+         *              exclusive before value
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if lastName is null
-         * @throws NumberValueTooHighException
-         *                                        if the lastName is over ceil
+         *                                        if value or other are null
+         * @throws NotBeforeTimeException
+         *                                        if the value is not before
+         *                                        the other one
          */
-        public DoubleAsserter under(double ceil) {
-            notNull(field, value);
+        public ZonedDateTimeAsserter before(ZonedDateTime other) {
+            notNull();
+            Assert.notNull(OTHER_FIELD_NAME, other);
 
-            if (value.doubleValue() >= ceil) {
-                throw tooHigh(ceil);
+            if (compareTo(other) >= 0) {
+                throw NotBeforeTimeException.strictlyNotBefore().value(value).field(field).other(other);
             }
 
             return this;
         }
 
-        private NumberValueTooHighException tooHigh(double ceil) {
-            return NumberValueTooHighException.builder().field(field).maxValue(String.valueOf(ceil))
-                    .value(String.valueOf(value)).build();
-        }
+        /**
+         * Ensure that the value is before or at the given one
+         *
+         * @param other
+         *              inclusive before value
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if value or other are null
+         * @throws NotBeforeTimeException
+         *                                        if the value is not before or at
+         *                                        the other one
+         */
+        public ZonedDateTimeAsserter beforeOrAt(ZonedDateTime other) {
+            notNull();
+            Assert.notNull(OTHER_FIELD_NAME, other);
 
-        public DoubleAsserter satisfies(Predicate<Double> condition, String errorMessage) {
-            if (value == null || !condition.test(value)) {
-                throw MissingMandatoryValueException.forBadValue(field, errorMessage);
+            if (compareTo(other) > 0) {
+                throw NotBeforeTimeException.notBefore().value(value).field(field).other(other);
             }
+
             return this;
         }
+
+        private int compareTo(ZonedDateTime other) {
+            return compareEpoch(value.toEpochSecond(), value.getNano(), other.toEpochSecond(), other.getNano());
+        }
     }
 
     /**
-     * Asserter dedicated to {@link BigDecimal} assertions
+     * Asserter dedicated to Duration assertions, comparing seconds and nanos
      */
-    public static final class BigDecimalAsserter {
+    public static final class DurationAsserter {
+
+        private static final Duration SMALLEST_POSITIVE = Duration.ofNanos(1);
 
         private final String field;
-        private final BigDecimal value;
+        private final Duration value;
 
-        private BigDecimalAsserter(String field, BigDecimal value) {
+        private DurationAsserter(String field, Duration value) {
             this.field = field;
             this.value = value;
         }
 
-        public BigDecimal value() {
+        public Duration value() {
             return value;
         }
 
         /**
-         * Ensure that the input lastName is positive (0 is positive)
+         * Ensure that the duration is not null
          *
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if the input lastName is null
-         * @throws NumberValueTooLowException
-         *                                        if the input lastName is negative
+         *                                        if the duration is null
          */
-        public BigDecimalAsserter positive() {
-            return min(0);
-        }
+        public DurationAsserter notNull() {
+            Assert.notNull(field, value);
 
-        /**
-         * Ensure that the input lastName is strictly positive (0 is not strictly
-         * positive)
-         *
-         * @return The current asserter
-         * @throws MissingMandatoryValueException
-         *                                        if the input lastName is null
-         * @throws NumberValueTooLowException
-         *                                        if the input lastName is negative
-         */
-        public BigDecimalAsserter strictlyPositive() {
-            return over(0);
+            return this;
         }
 
         /**
-         * Ensure that the input lastName is at least at min lastName
+         * Ensure that the duration is positive or zero
          *
-         * @param minValue
-         *                 inclusive min lastName
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if the input lastName is null
-         * @throws NumberValueTooLowException
-         *                                        if the input lastName is under the min
-         *                                        lastName
+         *                                        if the duration is null
+         * @throws DurationTooShortException
+         *                                        if the duration is negative
          */
-        public BigDecimalAsserter min(long minValue) {
-            return min(new BigDecimal(minValue));
+        public DurationAsserter positive() {
+            return min(Duration.ZERO);
         }
 
         /**
-         * Ensure that the input lastName is at least at min lastName
+         * Ensure that the duration is strictly positive
          *
-         * @param minValue
-         *                 inclusive min lastName
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if the input or min lastName is null
-         * @throws NumberValueTooLowException
-         *                                        if the input lastName is under the min
-         *                                        lastName
+         *                                        if the duration is null
+         * @throws DurationTooShortException
+         *                                        if the duration is negative or
+         *                                        zero
          */
-        public BigDecimalAsserter min(BigDecimal minValue) {
-            notNull();
-            Assert.notNull("minValue", minValue);
-
-            if (value.compareTo(minValue) < 0) {
-                throw tooLow(minValue);
-            }
-
-            return this;
+        public DurationAsserter strictlyPositive() {
+            return min(SMALLEST_POSITIVE);
         }
 
         /**
-         * Ensure that the input lastName is over the given floor
+         * Ensure that the duration is not shorter than the given one
          *
-         * @param floor
-         *              exclusive floor lastName
+         * @param min
+         *            inclusive min duration
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if lastName is null
-         * @throws NumberValueTooLowException
-         *                                        if the lastName is under floor
+         *                                        if the duration or min are null
+         * @throws DurationTooShortException
+         *                                        if the duration is shorter than
+         *                                        min
          */
-        public BigDecimalAsserter over(long floor) {
-            return over(new BigDecimal(floor));
+        public DurationAsserter min(Duration min) {
+            notNull();
+            Assert.notNull("min", min);
+
+            if (compareDuration(value.getSeconds(), value.getNano(), min) < 0) {
+                throw DurationTooShortException.builder().field(field).min(min.toString()).value(value.toString())
+                        .build();
+            }
+
+            return this;
         }
 
         /**
-         * Ensure that the input lastName is over the given floor
+         * Ensure that the duration is not longer than the given one
          *
-         * @param floor
-         *              exclusive floor lastName
+         * @param max
+         *            inclusive max duration
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if lastName or floor is null
-         * @throws NumberValueTooLowException
-         *                                        if the lastName is under floor
+         *                                        if the duration or max are null
+         * @throws DurationTooLongException
+         *                                        if the duration is longer than
+         *                                        max
          */
-        public BigDecimalAsserter over(BigDecimal floor) {
+        public DurationAsserter max(Duration max) {
             notNull();
-            Assert.notNull("floor", floor);
+            Assert.notNull("max", max);
 
-            if (value.compareTo(floor) <= 0) {
-                throw tooLow(floor);
+            if (compareDuration(value.getSeconds(), value.getNano(), max) > 0) {
+                throw DurationTooLongException.builder().field(field).max(max.toString()).value(value.toString())
+                        .build();
             }
 
             return this;
         }
+    }
 
-        private NumberValueTooLowException tooLow(BigDecimal floor) {
-            return NumberValueTooLowException.builder().field(field).minValue(String.valueOf(floor))
-                    .value(value.toPlainString()).build();
+    /**
+     * Asserter dedicated to Period assertions.
+     *
+     * <p>
+     * Periods are compared on their estimated length, as done by
+     * {@link java.time.temporal.ChronoUnit}: a month lasts 2,629,746 seconds
+     * (an average gregorian month) and a day 86,400 seconds. With this estimate
+     * {@code P1M} is longer than {@code P30D} and shorter than {@code P31D}.
+     * </p>
+     */
+    public static final class PeriodAsserter {
+
+        private static final long SECONDS_PER_MONTH = 2_629_746L;
+        private static final long SECONDS_PER_DAY = 86_400L;
+
+        // estimated lengths are multiples of gcd(2,629,746, 86,400) = 54 seconds
+        private static final Duration SMALLEST_POSITIVE = Duration.ofSeconds(54);
+
+        private final String field;
+        private final Period value;
+
+        private PeriodAsserter(String field, Period value) {
+            this.field = field;
+            this.value = value;
+        }
+
+        public Period value() {
+            return value;
         }
 
         /**
-         * Ensure that the input lastName is at most at max lastName
+         * Ensure that the period is not null
          *
-         * @param maxValue
-         *                 inclusive max lastName
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if the input lastName is null
-         * @throws NumberValueTooHighException
-         *                                        if the input lastName is over max
+         *                                        if the period is null
          */
-        public BigDecimalAsserter max(long maxValue) {
-            return max(new BigDecimal(maxValue));
+        public PeriodAsserter notNull() {
+            Assert.notNull(field, value);
+
+            return this;
         }
 
         /**
-         * Ensure that the input lastName is at most at max lastName
+         * Ensure that the period is positive or zero
          *
-         * @param maxValue
-         *                 inclusive max lastName
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if the input or max lastName is null
-         * @throws NumberValueTooHighException
-         *                                        if the input lastName is over max
+         *                                        if the period is null
+         * @throws DurationTooShortException
+         *                                        if the period is negative
          */
-        public BigDecimalAsserter max(BigDecimal maxValue) {
-            notNull();
-            Assert.notNull("maxValue", maxValue);
-
-            if (value.compareTo(maxValue) > 0) {
-                throw tooHigh(maxValue);
-            }
-
-            return this;
+        public PeriodAsserter positive() {
+            return min(Period.ZERO);
         }
 
         /**
-         * Ensure that the input lastName is under the given ceil
+         * Ensure that the estimated length of the period is strictly positive, so
+         * {@code P1M-30D} is accepted while {@code P1M-31D} is not
          *
-         * @param ceil
-         *             exclusive ceil lastName
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if lastName is null
-         * @throws NumberValueTooHighException
-         *                                        if the lastName is under floor
+         *                                        if the period is null
+         * @throws DurationTooShortException
+         *                                        if the period is negative or
+         *                                        zero
          */
-        public BigDecimalAsserter under(long ceil) {
-            return under(new BigDecimal(ceil));
+        public PeriodAsserter strictlyPositive() {
+            notNull();
+
+            if (estimatedSeconds(value) <= 0) {
+                throw DurationTooShortException.builder().field(field).min(SMALLEST_POSITIVE.toString())
+                        .value(value.toString()).build();
+            }
+
+            return this;
         }
 
         /**
-         * Ensure that the input lastName is under the given ceil
+         * Ensure that the period is not shorter than the given one
          *
-         * @param ceil
-         *             exclusive ceil lastName
+         * @param min
+         *            inclusive min period
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if lastName or ceil is null
-         * @throws NumberValueTooHighException
-         *                                        if the lastName is under floor
+         *                                        if the period or min are null
+         * @throws DurationTooShortException
+         *                                        if the period is shorter than min
          */
-        public BigDecimalAsserter under(BigDecimal ceil) {
+        public PeriodAsserter min(Period min) {
             notNull();
-            Assert.notNull("ceil", ceil);
+            Assert.notNull("min", min);
 
-            if (value.compareTo(ceil) >= 0) {
-                throw tooHigh(ceil);
+            if (estimatedSeconds(value) < estimatedSeconds(min)) {
+                throw DurationTooShortException.builder().field(field).min(min.toString()).value(value.toString())
+                        .build();
             }
 
             return this;
         }
 
-        private NumberValueTooHighException tooHigh(BigDecimal ceil) {
-            return NumberValueTooHighException.builder().field(field).maxValue(String.valueOf(ceil))
-                    .value(value.toPlainString()).build();
-        }
-
         /**
-         * Ensure that the input lastName is not null
+         * Ensure that the period is not longer than the given one
          *
+         * @param max
+         *            inclusive max period
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if the input lastName is null
+         *                                        if the period or max are null
+         * @throws DurationTooLongException
+         *                                        if the period is longer than max
          */
-        public BigDecimalAsserter notNull() {
-            Assert.notNull(field, value);
+        public PeriodAsserter max(Period max) {
+            notNull();
+            Assert.notNull("max", max);
+
+            if (estimatedSeconds(value) > estimatedSeconds(max)) {
+                throw DurationTooLongException.builder().field(field).max(max.toString()).value(value.toString())
+                        .build();
+            }
 
             return this;
         }
 
-        public BigDecimalAsserter satisfies(Predicate<BigDecimal> condition, String errorMessage) {
-            if (value == null || !condition.test(value)) {
-                throw MissingMandatoryValueException.forBadValue(field, errorMessage);
-            }
-            return this;
+        private static long estimatedSeconds(Period period) {
+            // at most about 2^36 months and 2^31 days, far from overflowing
+            return period.toTotalMonths() * SECONDS_PER_MONTH + period.getDays() * SECONDS_PER_DAY;
         }
     }
 
     /**
-     * Asserter dedicated to {@link Collection} assertions
+     * Asserter dedicated to durations given in milliseconds. Comparisons are done
+     * on the primitive value, a {@link Duration} is only created to build the
+     * exception
      */
-    public static final class CollectionAsserter<T> {
+    public static final class DurationMillisAsserter {
 
         private final String field;
-        private final Collection<T> value;
+        private final long value;
 
-        private CollectionAsserter(String field, Collection<T> value) {
+        private DurationMillisAsserter(String field, long value) {
             this.field = field;
             this.value = value;
         }
 
-        public Collection<T> value() {
+        public long value() {
             return value;
         }
 
         /**
-         * Ensure that the lastName is not null
+         * Ensure that the duration is positive or zero
          *
          * @return The current asserter
-         * @throws MissingMandatoryValueException
-         *                                        if the lastName is null
+         * @throws DurationTooShortException
+         *                                   if the duration is negative
          */
-        public CollectionAsserter<T> notNull() {
-            Assert.notNull(field, value);
-
-            return this;
+        public DurationMillisAsserter positive() {
+            return min(0);
         }
 
         /**
-         * Ensure that the lastName is not empty (null or empty)
+         * Ensure that the duration is strictly positive
          *
          * @return The current asserter
-         * @throws MissingMandatoryValueException
-         *                                        if the lastName is null or empty
+         * @throws DurationTooShortException
+         *                                   if the duration is negative or zero
          */
-        public CollectionAsserter<T> notEmpty() {
-            notNull();
+        public DurationMillisAsserter strictlyPositive() {
+            return min(1);
+        }
 
-            if (value.isEmpty()) {
-                throw MissingMandatoryValueException.forEmptyValue(field);
+        /**
+         * Ensure that the duration is not shorter than the given one
+         *
+         * @param minMillis
+         *                  inclusive min duration, in milliseconds
+         * @return The current asserter
+         * @throws DurationTooShortException
+         *                                   if the duration is shorter than min
+         */
+        public DurationMillisAsserter min(long minMillis) {
+            if (value < minMillis) {
+                throw tooShort(Duration.ofMillis(minMillis));
             }
 
             return this;
         }
 
         /**
-         * Ensure that the size of the given input lastName is not over the given size
+         * Ensure that the duration is not shorter than the given one
          *
-         * @param maxSize
-         *                inclusive max size of the {@link Collection}
+         * @param min
+         *            inclusive min duration
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if the expected size is strictly
-         *                                        positive and the lastName is null
-         * @throws TooManyElementsException
-         *                                        if the size of lastName is over the
-         *                                        max size
+         *                                        if min is null
+         * @throws DurationTooShortException
+         *                                        if the duration is shorter than
+         *                                        min
          */
-        public CollectionAsserter<T> maxSize(int maxSize) {
-            if (maxSize <= 0 && value == null) {
-                return this;
+        public DurationMillisAsserter min(Duration min) {
+            Assert.notNull("min", min);
+
+            if (compareTo(min) < 0) {
+                throw tooShort(min);
             }
 
-            notNull();
+            return this;
+        }
 
-            if (value.size() > maxSize) {
-                throw TooManyElementsException.builder().field(field).maxSize(maxSize).size(value.size()).build();
+        /**
+         * Ensure that the duration is not longer than the given one
+         *
+         * @param maxMillis
+         *                  inclusive max duration, in milliseconds
+         * @return The current asserter
+         * @throws DurationTooLongException
+         *                                  if the duration is longer than max
+         */
+        public DurationMillisAsserter max(long maxMillis) {
+            if (value > maxMillis) {
+                throw tooLong(Duration.ofMillis(maxMillis));
             }
 
             return this;
         }
 
         /**
-         * Ensure that no element in this {@link Collection} is null
+         * Ensure that the duration is not longer than the given one
          *
+         * @param max
+         *            inclusive max duration
          * @return The current asserter
-         * @throws NullElementInCollectionException
-         *                                          if an element is null
+         * @throws MissingMandatoryValueException
+         *                                        if max is null
+         * @throws DurationTooLongException
+         *                                        if the duration is longer than
+         *                                        max
          */
-        public CollectionAsserter<T> noNullElement() {
-            if (value == null) {
-                return this;
-            }
+        public DurationMillisAsserter max(Duration max) {
+            Assert.notNull("max", max);
 
-            if (value.stream().anyMatch(Objects::isNull)) {
-                throw new NullElementInCollectionException(field);
+            if (compareTo(max) > 0) {
+                throw tooLong(max);
             }
 
             return this;
         }
 
-        public CollectionAsserter<T> satisfies(Predicate<Collection<T>> condition, String errorMessage) {
-            if (value == null || !condition.test(value)) {
-                throw MissingMandatoryValueException.forBadValue(field, errorMessage);
-            }
-            return this;
+        private int compareTo(Duration other) {
+            return compareDuration(Math.floorDiv(value, 1000), Math.floorMod(value, 1000) * 1_000_000L, other);
+        }
+
+        private DurationTooShortException tooShort(Duration min) {
+            return DurationTooShortException.builder().field(field).min(min.toString())
+                    .value(Duration.ofMillis(value).toString()).build();
+        }
+
+        private DurationTooLongException tooLong(Duration max) {
+            return DurationTooLongException.builder().field(field).max(max.toString())
+                    .value(Duration.ofMillis(value).toString()).build();
         }
     }
 
     /**
-     * Asserter dedicated to arrays assertions
+     * Asserter dedicated to UUID assertions
      */
-    public static final class ArrayAsserter<T> {
+    public static final class UUIDAsserter {
 
         private final String field;
-        private final T[] value;
+        private final UUID value;
+        private final boolean present;
+        private final long mostSignificantBits;
+        private final long leastSignificantBits;
 
-        private ArrayAsserter(String field, T[] value) {
+        private UUIDAsserter(String field, UUID value) {
             this.field = field;
             this.value = value;
+            present = value != null;
+            mostSignificantBits = present ? value.getMostSignificantBits() : 0;
+            leastSignificantBits = present ? value.getLeastSignificantBits() : 0;
         }
 
-        public T[] value() {
-            return value;
+        private UUIDAsserter(String field, long mostSignificantBits, long leastSignificantBits) {
+            this.field = field;
+            value = null;
+            present = true;
+            this.mostSignificantBits = mostSignificantBits;
+            this.leastSignificantBits = leastSignificantBits;
         }
 
         /**
-         * Ensure that the lastName is not null
-         *
-         * @return The current asserter
-         * @throws MissingMandatoryValueException
-         *                                        if the lastName is null
+         * @return the checked UUID, created from its bits when it was read from a
+         *         string or bytes
          */
-        public ArrayAsserter<T> notNull() {
-            Assert.notNull(field, value);
+        public UUID value() {
+            if (value == null && present) {
+                return new UUID(mostSignificantBits, leastSignificantBits);
+            }
+
+            return value;
+        }
 
+        /**
+         * Ensure the UUID is not null
+         */
+        public UUIDAsserter notNull() {
+            if (!present) {
+                throw MissingMandatoryValueException.forNullValue(field);
+            }
             return this;
         }
 
         /**
-         * Ensure that the lastName is not empty (null or empty)
-         *
-         * @return The current asserter
-         * @throws MissingMandatoryValueException
-         *                                        if the lastName is null or empty
+         * Validate specific UUID version, from 1 to 8 (RFC 9562)
          */
-        public ArrayAsserter<T> notEmpty() {
+        public UUIDAsserter isVersion(int version) {
             notNull();
 
-            if (value.length == 0) {
-                throw MissingMandatoryValueException.forEmptyValue(field);
+            if (version < 1 || version > 8) {
+                throw new IllegalArgumentException("Invalid UUID version: " + version);
             }
 
+            int actualVersion = version();
+            if (actualVersion != version) {
+                throw UUIDVersionMismatchException.builder()
+                        .field(field)
+                        .expectedVersion(version)
+                        .actualVersion(actualVersion)
+                        .build();
+            }
             return this;
         }
 
         /**
-         * Ensure that the size of the given input lastName is not over the given size
+         * Ensure UUID is not the nil UUID
+         */
+        public UUIDAsserter isNotNil() {
+            notNull();
+
+            if (mostSignificantBits == 0 && leastSignificantBits == 0) {
+                throw UUIDIsNilException.builder()
+                        .field(field)
+                        .build();
+            }
+            return this;
+        }
+
+        /**
+         * Ensure that the UUID is a version 7 UUID whose timestamp is strictly after
+         * the given instant
          *
-         * @param maxSize
-         *                inclusive max size of the array
+         * @param instant
+         *                exclusive min issue time
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if the expected size is strictly
-         *                                        positive and the lastName is null
-         * @throws TooManyElementsException
-         *                                        if the size of lastName is over the
-         *                                        max size
+         *                                        if the UUID or instant are null
+         * @throws UUIDVersionMismatchException
+         *                                        if the UUID is not a version 7
+         *                                        UUID
+         * @throws NotAfterTimeException
+         *                                        if the UUID was not issued after
+         *                                        the instant
          */
-        public ArrayAsserter<T> maxSize(int maxSize) {
-            if (maxSize <= 0 && value == null) {
-                return this;
+        public UUIDAsserter issuedAfter(Instant instant) {
+            Assert.notNull("instant", instant);
+            long timestamp = timestamp();
+
+            if (compareEpoch(timestamp / 1000, (int) (timestamp % 1000) * 1_000_000, instant.getEpochSecond(),
+                    instant.getNano()) <= 0) {
+                throw NotAfterTimeException.strictlyNotAfter().value(Instant.ofEpochMilli(timestamp)).field(field)
+                        .other(instant);
             }
 
-            notNull();
+            return this;
+        }
 
-            if (value.length > maxSize) {
-                throw TooManyElementsException.builder().field(field).maxSize(maxSize).size(value.length).build();
+        /**
+         * Ensure that the UUID is a version 7 UUID issued in the given window around
+         * the current time, see {@link InstantAsserter#within(Duration, Duration)}
+         *
+         * @param window
+         *               max age of the UUID
+         * @param skew
+         *               max time the UUID timestamp can be in future
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the UUID, window or skew are
+         *                                        null
+         * @throws IllegalArgumentException
+         *                                        if window or skew are negative
+         * @throws UUIDVersionMismatchException
+         *                                        if the UUID is not a version 7
+         *                                        UUID
+         * @throws OutsideTimeWindowException
+         *                                        if the UUID was not issued in the
+         *                                        window
+         */
+        public UUIDAsserter issuedWithin(Duration window, Duration skew) {
+            checkWindow(window, skew);
+            long timestamp = timestamp();
+
+            long now = currentMillis();
+            if (windowPosition(timestamp / 1000, (int) (timestamp % 1000) * 1_000_000, now, window, skew) != 0) {
+                throw OutsideTimeWindowException.builder().field(field).value(Instant.ofEpochMilli(timestamp))
+                        .from(windowStart(now, window)).to(windowEnd(now, skew)).build();
             }
 
             return this;
         }
 
         /**
-         * Ensure that no element in this array is null
+         * Ensure that the UUID is a version 7 UUID issued in the past, but not
+         * earlier than the given window, see
+         * {@link #issuedWithin(Duration, Duration)}
+         *
+         * @param window
+         *               max age of the UUID
+         * @return The current asserter
+         * @throws MissingMandatoryValueException
+         *                                        if the UUID or window are null
+         * @throws IllegalArgumentException
+         *                                        if window is negative
+         * @throws UUIDVersionMismatchException
+         *                                        if the UUID is not a version 7
+         *                                        UUID
+         * @throws OutsideTimeWindowException
+         *                                        if the UUID was not issued in the
+         *                                        window
+         */
+        public UUIDAsserter issuedWithin(Duration window) {
+            return issuedWithin(window, Duration.ZERO);
+        }
+
+        /**
+         * Ensure that the UUID is strictly after the previous one, comparing them
+         * as unsigned 128 bits numbers. For time-ordered UUIDs (versions 6 and 7)
+         * this checks that IDs are issued in a monotonic sequence
          *
+         * @param previous
+         *                 previous UUID of the sequence
          * @return The current asserter
-         * @throws NullElementInCollectionException
-         *                                          if an element is null
+         * @throws MissingMandatoryValueException
+         *                                        if the UUID or previous are null
+         * @throws UUIDOutOfOrderException
+         *                                        if the UUID is not after previous
          */
-        public ArrayAsserter<T> noNullElement() {
-            if (value == null) {
-                return this;
+        public UUIDAsserter isAfter(UUID previous) {
+            notNull();
+            Assert.notNull("previous", previous);
+
+            int comparison = Long.compareUnsigned(mostSignificantBits, previous.getMostSignificantBits());
+            if (comparison == 0) {
+                comparison = Long.compareUnsigned(leastSignificantBits, previous.getLeastSignificantBits());
             }
 
-            if (Stream.of(value).anyMatch(Objects::isNull)) {
-                throw new NullElementInCollectionException(field);
+            if (comparison <= 0) {
+                throw UUIDOutOfOrderException.builder().field(field).value(value()).previous(previous).build();
             }
 
             return this;
         }
+
+        private int version() {
+            return (int) (mostSignificantBits >>> 12) & 0xF;
+        }
+
+        /**
+         * @return the unix timestamp in milliseconds of a version 7 UUID, stored in
+         *         its 48 most significant bits
+         */
+        private long timestamp() {
+            isVersion(7);
+
+            return mostSignificantBits >>> 16;
+        }
     }
 
     /**
-     * Asserter dedicated to time assertions
+     * Asserter dedicated to collections of UUIDs. Every check is a single pass
+     * over the collection, duplicates are detected on the UUIDs bits with an
+     * open addressing set
      */
-    public static final class InstantAsserter {
-
-        private static final String OTHER_FIELD_NAME = "other";
+    public static final class UUIDCollectionAsserter {
 
         private final String field;
-        private final Instant value;
+        private final Collection<UUID> value;
 
-        private InstantAsserter(String field, Instant value) {
+        private UUIDCollectionAsserter(String field, Collection<UUID> value) {
             this.field = field;
             this.value = value;
         }
 
-        public Instant value() {
+        public Collection<UUID> value() {
             return value;
         }
 
         /**
-         * Ensure that the given expirationTime is in the future or at current Instant
-         * (considering this method invocation time)
+         * Ensure that the collection is not null
          *
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if the input lastName is null
-         * @throws NotAfterTimeException
-         *                                        if the input expirationTime is in past
+         *                                        if the collection is null
          */
-        public InstantAsserter inFuture() {
-            return afterOrAt(Instant.now());
+        public UUIDCollectionAsserter notNull() {
+            Assert.notNull(field, value);
+
+            return this;
         }
 
         /**
-         * Ensure that the input expirationTime is after the given expirationTime
+         * Ensure that the collection is not empty (null or empty)
          *
-         * @param other
-         *              exclusive after expirationTime
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if input or other are null
-         * @throws NotAfterTimeException
-         *                                        if the input expirationTime is not
-         *                                        after the other expirationTime
+         *                                        if the collection is null or
+         *                                        empty
          */
-        public InstantAsserter after(Instant other) {
+        public UUIDCollectionAsserter notEmpty() {
             notNull();
-            Assert.notNull(OTHER_FIELD_NAME, other);
 
-            if (value.compareTo(other) <= 0) {
-                throw NotAfterTimeException.strictlyNotAfter().value(value).field(field).other(other);
+            if (value.isEmpty()) {
+                throw MissingMandatoryValueException.forEmptyValue(field);
             }
 
             return this;
         }
 
         /**
-         * Ensure that the input expirationTime is after the given expirationTime
+         * Ensure that the size of the collection is not over the given size
          *
-         * @param other
-         *              inclusive after expirationTime
+         * @param maxSize
+         *                inclusive max size of the collection
          * @return The current asserter
          * @throws MissingMandatoryValueException
-         *                                        if input or other are null
-         * @throws NotAfterTimeException
-         *                                        if the input expirationTime is not
-         *                                        after the other expirationTime
+         *                                        if the expected size is strictly
+         *                                        positive and the collection is
+         *                                        null
+         * @throws TooManyElementsException
+         *                                        if the size of the collection is
+         *                                        over the max size
          */
-        public InstantAsserter afterOrAt(Instant other) {
+        public UUIDCollectionAsserter maxSize(int maxSize) {
+            if (maxSize <= 0 && value == null) {
+                return this;
+            }
+
             notNull();
-            Assert.notNull(OTHER_FIELD_NAME, other);
 
-            if (value.compareTo(other) < 0) {
-                throw NotAfterTimeException.notAfter().value(value).field(field).other(other);
+            if (value.size() > maxSize) {
+                throw TooManyElementsException.builder().field(field).maxSize(maxSize).size(value.size()).build();
             }
 
             return this;
         }
 
         /**
-         * Ensure that the given expirationTime is in the past or at current Instant
-         * (considering this method invocation time)
+         * Ensure that no UUID is null. Nothing is checked on a null collection
          *
          * @return The current asserter
-         * @throws MissingMandatoryValueException
-         *                                        if the input lastName is null
-         * @throws NotBeforeTimeException
-         *                                        if the input expirationTime is in
-         *                                        future
+         * @throws NullElementInCollectionException
+         *                                          if a UUID is null
          */
-        public InstantAsserter inPast() {
-            return beforeOrAt(Instant.now());
+        public UUIDCollectionAsserter noNullElement() {
+            return scan(false, 0, false);
         }
 
         /**
-         * Ensure that the input expirationTime is before the given expirationTime
+         * Ensure that no UUID is null or nil. Nothing is checked on a null
+         * collection
          *
-         * @param other
-         *              exclusive before expirationTime
          * @return The current asserter
-         * @throws MissingMandatoryValueException
-         *                                        if input or other are null
-         * @throws NotBeforeTimeException
-         *                                        if the input expirationTime is not
-         *                                        before the other expirationTime
+         * @throws NullElementInCollectionException
+         *                                          if a UUID is null
+         * @throws UUIDIsNilException
+         *                                          if a UUID is nil, the field is
+         *                                          suffixed with its index
          */
-        public InstantAsserter before(Instant other) {
-            notNull();
-            Assert.notNull(OTHER_FIELD_NAME, other);
-
-            if (value.compareTo(other) >= 0) {
-                throw NotBeforeTimeException.strictlyNotBefore().value(value).field(field).other(other);
-            }
-
-            return this;
+        public UUIDCollectionAsserter noNil() {
+            return scan(true, 0, false);
         }
 
         /**
-         * Ensure that the input expirationTime is before the given expirationTime
+         * Ensure that every UUID has the given version. Nothing is checked on a
+         * null collection
          *
-         * @param other
-         *              inclusive before expirationTime
+         * @param version
+         *                expected version, from 1 to 8
          * @return The current asserter
-         * @throws MissingMandatoryValueException
-         *                                        if input or other are null
-         * @throws NotBeforeTimeException
-         *                                        if the input expirationTime is not
-         *                                        before the other expirationTime
+         * @throws IllegalArgumentException
+         *                                          if the version is invalid
+         * @throws NullElementInCollectionException
+         *                                          if a UUID is null
+         * @throws UUIDVersionMismatchException
+         *                                          if a UUID has another version,
+         *                                          the field is suffixed with its
+         *                                          index
          */
-        public InstantAsserter beforeOrAt(Instant other) {
-            notNull();
-            Assert.notNull(OTHER_FIELD_NAME, other);
+        public UUIDCollectionAsserter allVersion(int version) {
+            checkVersion(version);
 
-            if (value.compareTo(other) > 0) {
-                throw NotBeforeTimeException.notBefore().value(value).field(field).other(other);
-            }
+            return scan(false, version, false);
+        }
 
-            return this;
+        /**
+         * Ensure that the collection doesn't contain the same UUID twice. Nothing
+         * is checked on a null collection
+         *
+         * @return The current asserter
+         * @throws NullElementInCollectionException
+         *                                          if a UUID is null
+         * @throws DuplicateElementException
+         *                                          if a UUID is found twice, with
+         *                                          both indexes
+         */
+        public UUIDCollectionAsserter noDuplicates() {
+            return scan(false, 0, true);
         }
 
         /**
-         * Ensure that the expirationTime is not null
+         * Ensure, in a single pass, that no UUID is null or nil, that every UUID
+         * has the given version and that there are no duplicates. Nothing is
+         * checked on a null collection
          *
+         * @param version
+         *                expected version, from 1 to 8
          * @return The current asserter
-         * @throws MissingMandatoryValueException
-         *                                        if the expirationTime is null
+         * @throws IllegalArgumentException
+         *                                          if the version is invalid
+         * @throws NullElementInCollectionException
+         *                                          if a UUID is null
+         * @throws UUIDIsNilException
+         *                                          if a UUID is nil
+         * @throws UUIDVersionMismatchException
+         *                                          if a UUID has another version
+         * @throws DuplicateElementException
+         *                                          if a UUID is found twice
          */
-        public InstantAsserter notNull() {
-            Assert.notNull(field, value);
+        public UUIDCollectionAsserter allValid(int version) {
+            checkVersion(version);
 
-            return this;
+            return scan(true, version, true);
         }
 
-        public InstantAsserter satisfies(Predicate<Instant> condition, String errorMessage) {
-            if (value == null || !condition.test(value)) {
-                throw MissingMandatoryValueException.forBadValue(field, errorMessage);
+        private static void checkVersion(int version) {
+            if (version < 1 || version > 8) {
+                throw new IllegalArgumentException("Invalid UUID version: " + version);
             }
-            return this;
         }
-    }
-
-    /**
-     * Asserter dedicated to LocalDate assertions
-     */
-    public static final class LocalDateAsserter {
-
-        private static final String OTHER_FIELD_NAME = "other";
 
-        private final String field;
-        private final LocalDate value;
+        private UUIDCollectionAsserter scan(boolean rejectNil, int version, boolean rejectDuplicates) {
+            if (value == null) {
+                return this;
+            }
 
-        private LocalDateAsserter(String field, LocalDate value) {
-            this.field = field;
-            this.value = value;
-        }
+            DuplicateFinder.PairFinder duplicates = rejectDuplicates ? DuplicateFinder.forPairs(value.size()) : null;
+            int index = 0;
+            for (UUID uuid : value) {
+                if (uuid == null) {
+                    throw new NullElementInCollectionException(field);
+                }
 
-        public LocalDate value() {
-            return value;
-        }
+                long mostSignificantBits = uuid.getMostSignificantBits();
+                long leastSignificantBits = uuid.getLeastSignificantBits();
 
-        public LocalDateAsserter notNull() {
-            Assert.notNull(field, value);
-            return this;
-        }
+                if (rejectNil && mostSignificantBits == 0 && leastSignificantBits == 0) {
+                    throw UUIDIsNilException.builder().field(field + "[" + index + "]").build();
+                }
 
-        public LocalDateAsserter inPast() {
-            notNull();
-            if (value.isAfter(LocalDate.now())) {
-                throw new RequiredValueException(field, value, "Must be in the past");
-            }
-            return this;
-        }
+                int actualVersion = (int) (mostSignificantBits >>> 12) & 0xF;
+                if (version != 0 && actualVersion != version) {
+                    throw UUIDVersionMismatchException.builder().field(field + "[" + index + "]")
+                            .expectedVersion(version).actualVersion(actualVersion).build();
+                }
 
-        public LocalDateAsserter inFuture() {
-            notNull();
-            if (value.isBefore(LocalDate.now())) {
-                throw new RequiredValueException(field, value, "Must be in the future");
-            }
-            return this;
-        }
+                if (duplicates != null) {
+                    int firstIndex = duplicates.add(mostSignificantBits, leastSignificantBits, index);
 
-        public LocalDateAsserter after(LocalDate other) {
-            notNull();
-            Assert.notNull(OTHER_FIELD_NAME, other);
-            if (!value.isAfter(other)) {
-                throw new RequiredValueException(field, value, "Must be after " + other);
-            }
-            return this;
-        }
+                    if (firstIndex != -1) {
+                        throw DuplicateElementException.builder().field(field).index(index).firstIndex(firstIndex)
+                                .build();
+                    }
+                }
 
-        public LocalDateAsserter before(LocalDate other) {
-            notNull();
-            Assert.notNull(OTHER_FIELD_NAME, other);
-            if (!value.isBefore(other)) {
-                throw new RequiredValueException(field, value, "Must be before " + other);
+                index++;
             }
-            return this;
-        }
 
-        public LocalDateAsserter satisfies(Predicate<LocalDate> condition, String errorMessage) {
-            if (value == null || !condition.test(value)) {
-                throw MissingMandatoryValueException.forBadValue(field, errorMessage);
-            }
             return this;
         }
     }
 
     /**
-     * Asserter dedicated to UUID assertions
+     * Asserter dedicated to {@link Map} assertions
      */
-    public static final class UUIDAsserter {
-        private static final UUID NIL_UUID = UUID.fromString("00000000-0000-0000-0000-000000000000");
+    public static final class MapAsserter<K, V> {
 
         private final String field;
-        private final UUID value;
+        private final Map<K, V> value;
 
-        private UUIDAsserter(String field, UUID value) {
+        private MapAsserter(String field, Map<K, V> value) {
             this.field = field;
             this.value = value;
         }
 
-        public UUID value() {
+        public Map<K, V> value() {
             return value;
         }
 
-        /**
-         * Ensure the UUID is not null
-         */
-        public UUIDAsserter notNull() {
-            if (value == null) {
-                throw MissingMandatoryValueException.forNullValue(field);
-            }
+        public MapAsserter<K, V> notNull() {
+            Assert.notNull(field, value);
             return this;
         }
 
-        /**
-         * Validate specific UUID version
-         */
-        public UUIDAsserter isVersion(int version) {
+        public MapAsserter<K, V> notEmpty() {
             notNull();
-
-            if (version < 1 || version > 5) {
-                throw new IllegalArgumentException("Invalid UUID version: " + version);
+            if (value.isEmpty()) {
+                throw MissingMandatoryValueException.forEmptyValue(field);
             }
+            return this;
+        }
 
-            if (value.version() != version) {
-                throw UUIDVersionMismatchException.builder()
-                        .field(field)
-                        .expectedVersion(version)
-                        .actualVersion(value.version())
-                        .build();
+        public MapAsserter<K, V> maxSize(int maxSize) {
+            notNull();
+            if (value.size() > maxSize) {
+                throw TooManyElementsException.builder().field(field).maxSize(maxSize).size(value.size()).build();
             }
             return this;
         }
 
         /**
-         * Ensure UUID is not the nil UUID
+         * Ensure that each value of this map satisfies the given rule. The field
+         * name of an invalid value is the map field name followed by its key
+         * ({@code prices[EUR]}). Nothing is checked on a null map.
+         *
+         * @param rule
+         *             rule to apply to each value
+         * @return The current asserter
+         * @throws AssertionException
+         *                            the failure of the first invalid value,
+         *                            with the field name of its entry
          */
-        public UUIDAsserter isNotNil() {
-            notNull();
-
-            if (value.equals(NIL_UUID)) {
-                throw UUIDIsNilException.builder()
-                        .field(field)
-                        .build();
+        public MapAsserter<K, V> each(ElementRule<? super V> rule) {
+            if (value == null) {
+                return this;
             }
-            return this;
-        }
-    }
 
-    /**
-     * Asserter dedicated to {@link Map} assertions
-     */
-    public static final class MapAsserter {
+            for (Map.Entry<K, V> entry : value.entrySet()) {
+                AssertionException error = checkEntry(rule, field, entry.getKey(), entry.getValue());
 
-        private final String field;
-        private final Map<?, ?> value;
+                if (error != null) {
+                    throw error;
+                }
+            }
 
-        private MapAsserter(String field, Map<?, ?> value) {
-            this.field = field;
-            this.value = value;
+            return this;
         }
 
-        public Map<?, ?> value() {
-            return value;
+        /**
+         * Ensure that each value of this map satisfies the given rule,
+         * checking all the values before failing and keeping the failures of
+         * the first 100 invalid values. Nothing is checked on a null map.
+         *
+         * @param rule
+         *             rule to apply to each value
+         * @return The current asserter
+         * @throws InvalidElementsException
+         *                                  if at least one value is invalid
+         */
+        public MapAsserter<K, V> eachReportingAll(ElementRule<? super V> rule) {
+            return eachReportingAll(rule, DEFAULT_MAX_ERRORS);
         }
 
-        public MapAsserter notNull() {
-            Assert.notNull(field, value);
-            return this;
-        }
+        /**
+         * Ensure that each value of this map satisfies the given rule,
+         * checking all the values before failing. Nothing is checked on a null
+         * map.
+         *
+         * @param rule
+         *                  rule to apply to each value
+         * @param maxErrors
+         *                  max number of failures kept in the exception, the
+         *                  invalid values are still all counted
+         * @return The current asserter
+         * @throws IllegalArgumentException
+         *                                  if maxErrors is not strictly
+         *                                  positive
+         * @throws InvalidElementsException
+         *                                  if at least one value is invalid,
+         *                                  with the failures of the first
+         *                                  maxErrors invalid values
+         */
+        public MapAsserter<K, V> eachReportingAll(ElementRule<? super V> rule, int maxErrors) {
+            checkMaxErrors(maxErrors);
 
-        public MapAsserter notEmpty() {
-            notNull();
-            if (value.isEmpty()) {
-                throw MissingMandatoryValueException.forEmptyValue(field);
+            if (value == null) {
+                return this;
             }
-            return this;
-        }
 
-        public MapAsserter maxSize(int maxSize) {
-            notNull();
-            if (value.size() > maxSize) {
-                throw TooManyElementsException.builder().field(field).maxSize(maxSize).size(value.size()).build();
+            ElementFailures failures = null;
+            for (Map.Entry<K, V> entry : value.entrySet()) {
+                if (isFull(failures)) {
+                    failures.count(rule, field, entry.getValue());
+                } else {
+                    failures = addFailure(failures, maxErrors,
+                            checkEntry(rule, field, entry.getKey(), entry.getValue()));
+                }
             }
+
+            checkFailures(field, failures);
+
             return this;
         }
 
-        public MapAsserter satisfies(Predicate<Map<?, ?>> condition, String errorMessage) {
+        public MapAsserter<K, V> satisfies(Predicate<? super Map<K, V>> condition, String errorMessage) {
             if (value == null || !condition.test(value)) {
                 throw MissingMandatoryValueException.forBadValue(field, errorMessage);
             }
@@ -4,6 +4,22 @@ package io.github.sympol.pure.asserts;
  * Enumeration of assertion error types used by {@link AssertionException}.
  */
 public enum AssertionErrorType {
+    /** A collection or an array contains the same element twice. */
+    DUPLICATE_ELEMENT,
+    /** A duration or a period is longer than allowed. */
+    DURATION_TOO_LONG,
+    /** A duration or a period is shorter than required. */
+    DURATION_TOO_SHORT,
+    /** An element of a collection or an array is out of order. */
+    ELEMENT_OUT_OF_ORDER,
+    /** A string contains a forbidden token. */
+    FORBIDDEN_TOKEN,
+    /** A string contains a character outside of the allowed class. */
+    INVALID_CHARACTER,
+    /** Elements of a collection, an array or a map break an element rule. */
+    INVALID_ELEMENTS,
+    /** A string can't be read in the expected format. */
+    MALFORMED_VALUE,
     /** A mandatory value is missing, null, blank, or empty. */
     MISSING_MANDATORY_VALUE,
     /** A time value is not after the expected time. */
@@ -16,10 +32,18 @@ public enum AssertionErrorType {
     NUMBER_VALUE_TOO_HIGH,
     /** A numeric value is too low. */
     NUMBER_VALUE_TOO_LOW,
+    /** A time value is outside of the expected time window. */
+    OUTSIDE_TIME_WINDOW,
     /** A string is longer than allowed. */
     STRING_TOO_LONG,
     /** A string is shorter than required. */
     STRING_TOO_SHORT,
+    /** A number has more digits than allowed. */
+    TOO_MANY_DIGITS,
     /** A collection has too many elements. */
-    TOO_MANY_ELEMENTS
+    TOO_MANY_ELEMENTS,
+    /** A time-ordered UUID is not after the previous one. */
+    UUID_OUT_OF_ORDER,
+    /** A value is not one of the allowed values. */
+    VALUE_NOT_ALLOWED
 }
\ No newline at end of file
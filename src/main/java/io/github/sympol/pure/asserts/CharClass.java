@@ -0,0 +1,225 @@
+package io.github.sympol.pure.asserts;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Immutable set of allowed characters used by
+ * {@link Assert.StringAsserter#allowedChars(CharClass)}.
+ *
+ * <p>
+ * ASCII characters are stored in a precomputed 128-bit bitmap (two
+ * {@code long} words) so membership is a shift and a mask. Characters outside
+ * ASCII are delegated to an optional Unicode fallback predicate and are
+ * rejected when there is none.
+ * </p>
+ *
+ * <p>
+ * Instances are meant to be built once and shared as constants:
+ * </p>
+ *
+ * <pre>
+ * <code>
+ * private static final CharClass REFERENCE = CharClass.range('A', 'Z')
+ *   .union(CharClass.range('0', '9'))
+ *   .union(CharClass.of("_-"));
+ * </code>
+ * </pre>
+ */
+public final class CharClass {
+
+    /** ASCII digits {@code [0-9]}. */
+    public static final CharClass DIGITS = range('0', '9');
+
+    /** ASCII letters and digits {@code [A-Za-z0-9]}. */
+    public static final CharClass ALPHANUMERIC = range('A', 'Z').union(range('a', 'z')).union(DIGITS);
+
+    /** Hexadecimal digits {@code [0-9A-Fa-f]}. */
+    public static final CharClass HEX = DIGITS.union(range('A', 'F')).union(range('a', 'f'));
+
+    /** Base64 alphabet from RFC 4648 section 4, including the padding character. */
+    public static final CharClass BASE64 = ALPHANUMERIC.union(of("+/="));
+
+    /** URL-safe base64 alphabet from RFC 4648 section 5, including the padding character. */
+    public static final CharClass BASE64_URL = ALPHANUMERIC.union(of("-_="));
+
+    /** Printable ASCII characters, from space to tilde. */
+    public static final CharClass PRINTABLE_ASCII = range(' ', '~');
+
+    private final long low;
+    private final long high;
+    private final IntPredicate unicode;
+
+    private CharClass(long low, long high, IntPredicate unicode) {
+        this.low = low;
+        this.high = high;
+        this.unicode = unicode;
+    }
+
+    /**
+     * Create a class allowing exactly the given ASCII characters.
+     *
+     * @param chars
+     *              allowed characters
+     * @return the character class
+     * @throws IllegalArgumentException
+     *                                  if a character is not ASCII
+     */
+    public static CharClass of(String chars) {
+        long low = 0;
+        long high = 0;
+
+        for (int i = 0; i < chars.length(); i++) {
+            char c = chars.charAt(i);
+            checkAscii(c);
+
+            if (c < 64) {
+                low |= 1L << c;
+            } else {
+                high |= 1L << c;
+            }
+        }
+
+        return new CharClass(low, high, null);
+    }
+
+    /**
+     * Create a class allowing an inclusive range of ASCII characters.
+     *
+     * @param from
+     *             first allowed character
+     * @param to
+     *             last allowed character
+     * @return the character class
+     * @throws IllegalArgumentException
+     *                                  if a bound is not ASCII or the range is
+     *                                  empty
+     */
+    public static CharClass range(char from, char to) {
+        checkAscii(from);
+        checkAscii(to);
+
+        if (from > to) {
+            throw new IllegalArgumentException("Invalid character range: " + from + "-" + to);
+        }
+
+        long low = 0;
+        long high = 0;
+        for (char c = from; c <= to; c++) {
+            if (c < 64) {
+                low |= 1L << c;
+            } else {
+                high |= 1L << c;
+            }
+        }
+
+        return new CharClass(low, high, null);
+    }
+
+    /**
+     * Create a class that only allows the non-ASCII code points accepted by the
+     * given predicate, for example {@code Character::isLetter}.
+     *
+     * @param unicode
+     *                predicate called with code points of {@code 128} and over
+     * @return the character class
+     */
+    public static CharClass unicode(IntPredicate unicode) {
+        Assert.notNull("unicode", unicode);
+
+        return new CharClass(0, 0, unicode);
+    }
+
+    /**
+     * Create a class allowing the characters of this class and of the other one.
+     *
+     * @param other
+     *              class to merge with this one
+     * @return the merged character class
+     */
+    public CharClass union(CharClass other) {
+        Assert.notNull("other", other);
+
+        IntPredicate merged;
+        if (unicode == null) {
+            merged = other.unicode;
+        } else if (other.unicode == null) {
+            merged = unicode;
+        } else {
+            merged = unicode.or(other.unicode);
+        }
+
+        return new CharClass(low | other.low, high | other.high, merged);
+    }
+
+    /**
+     * Check whether the given character belongs to this class. Surrogate chars
+     * are only accepted by the Unicode fallback, see {@link #contains(int)} for
+     * full code points.
+     *
+     * @param c
+     *          character to check
+     * @return true if the character is allowed
+     */
+    public boolean contains(char c) {
+        if (c < 128) {
+            return isAsciiAllowed(c);
+        }
+
+        return unicode != null && unicode.test(c);
+    }
+
+    /**
+     * Check whether the given code point belongs to this class.
+     *
+     * @param codePoint
+     *                  code point to check
+     * @return true if the code point is allowed
+     */
+    public boolean contains(int codePoint) {
+        if (codePoint >= 0 && codePoint < 128) {
+            return isAsciiAllowed(codePoint);
+        }
+
+        return unicode != null && unicode.test(codePoint);
+    }
+
+    /**
+     * Find the first char of the value which is not in this class.
+     *
+     * @param value
+     *              value to scan
+     * @return index of the first rejected char or -1 if every char is allowed
+     */
+    int firstRejected(String value) {
+        int length = value.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+
+            if (c < 128) {
+                // java masks shift distances to 6 bits, so c selects its bit in either word
+                if ((((c < 64 ? low : high) >>> c) & 1L) == 0) {
+                    return i;
+                }
+            } else {
+                int codePoint = value.codePointAt(i);
+                if (unicode == null || !unicode.test(codePoint)) {
+                    return i;
+                }
+                i += Character.charCount(codePoint) - 1;
+            }
+        }
+
+        return -1;
+    }
+
+    private boolean isAsciiAllowed(int c) {
+        return (((c < 64 ? low : high) >>> c) & 1L) != 0;
+    }
+
+    private static void checkAscii(char c) {
+        if (c >= 128) {
+            throw new IllegalArgumentException("Not an ASCII character: " + c);
+        }
+    }
+}
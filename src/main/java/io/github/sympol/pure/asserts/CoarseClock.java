@@ -0,0 +1,201 @@
+package io.github.sympol.pure.asserts;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Clock with a millisecond resolution which never reads the system clock on
+ * the calling thread.
+ *
+ * <p>
+ * A single daemon thread refreshes the current instant every millisecond, so
+ * {@link #millis()} and {@link #instant()} are a volatile read and don't
+ * allocate. The returned time can lag the system clock by about one
+ * millisecond (more if the refresh thread is not scheduled), which is fine for
+ * "in past" or "in future" checks on high rate inputs but not for fine grained
+ * measurements.
+ * </p>
+ *
+ * <p>
+ * The refresh thread runs until {@link #stop()} is called. Call it when the
+ * application stops (for example from the context listener of a web
+ * application): otherwise the thread keeps the class loader of this library
+ * reachable after an undeploy.
+ * </p>
+ *
+ * <p>
+ * Usage:
+ * </p>
+ *
+ * <pre>
+ * <code>
+ * Assert.useClock(CoarseClock.systemUTC());
+ * </code>
+ * </pre>
+ */
+public final class CoarseClock extends Clock {
+
+    private static final CoarseClock UTC = new CoarseClock(ZoneOffset.UTC);
+
+    private static volatile Ticker ticker;
+
+    private final ZoneId zone;
+
+    private CoarseClock(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    /**
+     * Get the coarse clock in UTC. The refresh thread is started if it is not
+     * running.
+     *
+     * @return the UTC coarse clock
+     */
+    public static CoarseClock systemUTC() {
+        if (ticker == null) {
+            startTicker();
+        }
+
+        return UTC;
+    }
+
+    /**
+     * Get the coarse clock in the system default zone.
+     *
+     * @return the coarse clock in the current default zone
+     */
+    public static CoarseClock systemDefaultZone() {
+        return systemUTC().withZone(ZoneId.systemDefault());
+    }
+
+    /**
+     * Stop the refresh thread. The existing coarse clocks then read the system
+     * clock on each call, until the next call to {@link #systemUTC()} or
+     * {@link #systemDefaultZone()} starts a new refresh thread.
+     */
+    public static synchronized void stop() {
+        Ticker current = ticker;
+
+        if (current != null) {
+            ticker = null;
+            current.thread.interrupt();
+        }
+    }
+
+    private static synchronized void startTicker() {
+        if (ticker == null) {
+            ticker = Ticker.start();
+        }
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public CoarseClock withZone(ZoneId zone) {
+        Assert.notNull("zone", zone);
+
+        if (zone.equals(this.zone)) {
+            return this;
+        }
+
+        return new CoarseClock(zone);
+    }
+
+    @Override
+    public long millis() {
+        Ticker current = ticker;
+
+        if (current == null) {
+            return System.currentTimeMillis();
+        }
+
+        return current.millis;
+    }
+
+    @Override
+    public Instant instant() {
+        Ticker current = ticker;
+
+        if (current == null) {
+            return Instant.ofEpochMilli(System.currentTimeMillis());
+        }
+
+        return current.instant;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (!(obj instanceof CoarseClock)) {
+            return false;
+        }
+
+        return zone.equals(((CoarseClock) obj).zone);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(CoarseClock.class, zone);
+    }
+
+    @Override
+    public String toString() {
+        return "CoarseClock[" + zone + "]";
+    }
+
+    private static final class Ticker implements Runnable {
+
+        private final Thread thread;
+
+        private volatile long millis;
+        private volatile Instant instant;
+
+        private Ticker() {
+            thread = new Thread(this, "pure-assert-coarse-clock");
+            thread.setDaemon(true);
+
+            tick();
+        }
+
+        private static Ticker start() {
+            Ticker ticker = new Ticker();
+            ticker.thread.start();
+
+            return ticker;
+        }
+
+        private void tick() {
+            long now = System.currentTimeMillis();
+
+            if (instant == null || now != millis) {
+                // instant first: a reader of millis never sees an older instant afterwards
+                instant = Instant.ofEpochMilli(now);
+                millis = now;
+            }
+        }
+
+        @Override
+        public void run() {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                tick();
+            }
+        }
+    }
+}
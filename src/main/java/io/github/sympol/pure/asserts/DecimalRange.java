@@ -0,0 +1,88 @@
+package io.github.sympol.pure.asserts;
+
+import java.math.BigDecimal;
+
+/**
+ * Immutable inclusive range of {@link BigDecimal} values used by the
+ * {@code between} assertions.
+ *
+ * <p>
+ * The bounds and their textual forms are computed once, so a range is meant
+ * to be built once and shared as a constant:
+ * </p>
+ *
+ * <pre>
+ * <code>
+ * private static final DecimalRange AMOUNT = DecimalRange.of(new BigDecimal("0.01"), new BigDecimal("10000"));
+ * </code>
+ * </pre>
+ */
+public final class DecimalRange {
+
+    private final BigDecimal min;
+    private final BigDecimal max;
+
+    final String minText;
+    final String maxText;
+
+    private DecimalRange(BigDecimal min, BigDecimal max) {
+        this.min = min;
+        this.max = max;
+        minText = String.valueOf(min);
+        maxText = String.valueOf(max);
+    }
+
+    /**
+     * Create a range.
+     *
+     * @param min
+     *            inclusive min value
+     * @param max
+     *            inclusive max value
+     * @return the range
+     * @throws MissingMandatoryValueException
+     *                                        if a bound is null
+     * @throws IllegalArgumentException
+     *                                        if min is over max
+     */
+    public static DecimalRange of(BigDecimal min, BigDecimal max) {
+        Assert.notNull("min", min);
+        Assert.notNull("max", max);
+
+        if (min.compareTo(max) > 0) {
+            throw new IllegalArgumentException("Invalid range: " + min + " > " + max);
+        }
+
+        return new DecimalRange(min, max);
+    }
+
+    /**
+     * @return the inclusive min value
+     */
+    public BigDecimal min() {
+        return min;
+    }
+
+    /**
+     * @return the inclusive max value
+     */
+    public BigDecimal max() {
+        return max;
+    }
+
+    /**
+     * Check whether the given value is within this range.
+     *
+     * @param value
+     *              value to check
+     * @return true if min &lt;= value &lt;= max
+     */
+    public boolean contains(BigDecimal value) {
+        return value.compareTo(min) >= 0 && value.compareTo(max) <= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + minText + ", " + maxText + "]";
+    }
+}
@@ -0,0 +1,254 @@
+package io.github.sympol.pure.asserts;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable set of forbidden tokens used by
+ * {@link Assert.StringAsserter#doesNotContainAny(Denylist)}.
+ *
+ * <p>
+ * Tokens are compiled once into an Aho-Corasick automaton, so a value is
+ * scanned a single time whatever the number of tokens. Instances are meant to
+ * be built once and shared as constants:
+ * </p>
+ *
+ * <pre>
+ * <code>
+ * private static final Denylist FORBIDDEN = Denylist.ofIgnoreCase(loadForbiddenWords());
+ * </code>
+ * </pre>
+ */
+public final class Denylist {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    private final String[] tokens;
+    private final boolean ignoreCase;
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] failures;
+    private final int[] outputs;
+
+    private Denylist(String[] tokens, boolean ignoreCase, char[][] labels, int[][] targets, int[] failures,
+            int[] outputs) {
+        this.tokens = tokens;
+        this.ignoreCase = ignoreCase;
+        this.labels = labels;
+        this.targets = targets;
+        this.failures = failures;
+        this.outputs = outputs;
+    }
+
+    /**
+     * Create a case sensitive denylist.
+     *
+     * @param tokens
+     *               forbidden tokens
+     * @return the denylist
+     * @throws MissingMandatoryValueException
+     *                                          if tokens is null
+     * @throws NullElementInCollectionException
+     *                                          if one of the tokens is null
+     * @throws IllegalArgumentException
+     *                                          if a token is empty
+     */
+    public static Denylist of(String... tokens) {
+        Assert.field("tokens", tokens).notNull();
+
+        return compile(Arrays.asList(tokens), false);
+    }
+
+    /**
+     * Create a case sensitive denylist.
+     *
+     * @param tokens
+     *               forbidden tokens
+     * @return the denylist
+     * @throws MissingMandatoryValueException
+     *                                          if tokens is null
+     * @throws NullElementInCollectionException
+     *                                          if one of the tokens is null
+     * @throws IllegalArgumentException
+     *                                          if a token is empty
+     */
+    public static Denylist of(Collection<String> tokens) {
+        return compile(tokens, false);
+    }
+
+    /**
+     * Create a denylist matching tokens regardless of the case, char by char as
+     * {@link String#equalsIgnoreCase(String)} does.
+     *
+     * @param tokens
+     *               forbidden tokens
+     * @return the denylist
+     * @throws MissingMandatoryValueException
+     *                                          if tokens is null
+     * @throws NullElementInCollectionException
+     *                                          if one of the tokens is null
+     * @throws IllegalArgumentException
+     *                                          if a token is empty
+     */
+    public static Denylist ofIgnoreCase(String... tokens) {
+        Assert.field("tokens", tokens).notNull();
+
+        return compile(Arrays.asList(tokens), true);
+    }
+
+    /**
+     * Create a denylist matching tokens regardless of the case, char by char as
+     * {@link String#equalsIgnoreCase(String)} does.
+     *
+     * @param tokens
+     *               forbidden tokens
+     * @return the denylist
+     * @throws MissingMandatoryValueException
+     *                                          if tokens is null
+     * @throws NullElementInCollectionException
+     *                                          if one of the tokens is null
+     * @throws IllegalArgumentException
+     *                                          if a token is empty
+     */
+    public static Denylist ofIgnoreCase(Collection<String> tokens) {
+        return compile(tokens, true);
+    }
+
+    private static Denylist compile(Collection<String> tokens, boolean ignoreCase) {
+        Assert.field("tokens", tokens).notNull().noNullElement();
+
+        String[] declared = tokens.toArray(new String[0]);
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> terminals = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        terminals.add(NONE);
+
+        for (int index = 0; index < declared.length; index++) {
+            String token = declared[index];
+            if (token.isEmpty()) {
+                throw new IllegalArgumentException("Denylist tokens can't be empty");
+            }
+
+            int state = ROOT;
+            for (int i = 0; i < token.length(); i++) {
+                char c = fold(token.charAt(i), ignoreCase);
+                Integer next = trie.get(state).get(c);
+
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    terminals.add(NONE);
+                    trie.get(state).put(c, next);
+                }
+                state = next;
+            }
+
+            if (terminals.get(state) == NONE) {
+                terminals.set(state, index);
+            }
+        }
+
+        int size = trie.size();
+        char[][] labels = new char[size][];
+        int[][] targets = new int[size][];
+        for (int state = 0; state < size; state++) {
+            TreeMap<Character, Integer> children = trie.get(state);
+            labels[state] = new char[children.size()];
+            targets[state] = new int[children.size()];
+
+            int i = 0;
+            for (Map.Entry<Character, Integer> child : children.entrySet()) {
+                labels[state][i] = child.getKey();
+                targets[state][i] = child.getValue();
+                i++;
+            }
+        }
+
+        int[] failures = new int[size];
+        int[] outputs = new int[size];
+        outputs[ROOT] = NONE;
+
+        // breadth first, so failure links and outputs of shorter prefixes are known first
+        int[] queue = new int[size];
+        int head = 0;
+        int tail = 0;
+        for (int child : targets[ROOT]) {
+            failures[child] = ROOT;
+            outputs[child] = terminals.get(child);
+            queue[tail++] = child;
+        }
+
+        while (head < tail) {
+            int state = queue[head++];
+
+            for (int i = 0; i < labels[state].length; i++) {
+                int child = targets[state][i];
+                int failure = next(labels, targets, failures, failures[state], labels[state][i]);
+
+                failures[child] = failure;
+                outputs[child] = terminals.get(child) != NONE ? terminals.get(child) : outputs[failure];
+                queue[tail++] = child;
+            }
+        }
+
+        return new Denylist(declared, ignoreCase, labels, targets, failures, outputs);
+    }
+
+    /**
+     * Find the first forbidden token in the given value.
+     *
+     * @param value
+     *              value to scan
+     * @return the offset of the match in the high 32 bits and the token index
+     *         in the low 32 bits, or -1 if no token was found
+     */
+    long firstMatch(String value) {
+        int state = ROOT;
+
+        for (int i = 0; i < value.length(); i++) {
+            state = next(labels, targets, failures, state, fold(value.charAt(i), ignoreCase));
+
+            int output = outputs[state];
+            if (output != NONE) {
+                long offset = i - tokens[output].length() + 1;
+
+                return (offset << 32) | output;
+            }
+        }
+
+        return NONE;
+    }
+
+    String token(int index) {
+        return tokens[index];
+    }
+
+    private static int next(char[][] labels, int[][] targets, int[] failures, int state, char c) {
+        while (true) {
+            int position = Arrays.binarySearch(labels[state], c);
+
+            if (position >= 0) {
+                return targets[state][position];
+            }
+
+            if (state == ROOT) {
+                return ROOT;
+            }
+
+            state = failures[state];
+        }
+    }
+
+    private static char fold(char c, boolean ignoreCase) {
+        if (!ignoreCase) {
+            return c;
+        }
+
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.sympol.pure.asserts;
+
+/**
+ * Immutable inclusive range of double values used by the {@code between} assertions.
+ *
+ * <p>
+ * The bounds and their textual forms are computed once, so a range is meant
+ * to be built once and shared as a constant:
+ * </p>
+ *
+ * <pre>
+ * <code>
+ * private static final DoubleRange RATE = DoubleRange.of(0, 1);
+ * </code>
+ * </pre>
+ */
+public final class DoubleRange {
+
+    private final double min;
+    private final double max;
+
+    final String minText;
+    final String maxText;
+
+    private DoubleRange(double min, double max) {
+        this.min = min;
+        this.max = max;
+        minText = String.valueOf(min);
+        maxText = String.valueOf(max);
+    }
+
+    /**
+     * Create a range.
+     *
+     * @param min
+     *            inclusive min value
+     * @param max
+     *            inclusive max value
+     * @return the range
+     * @throws IllegalArgumentException
+     *                                  if min is over max
+     */
+    public static DoubleRange of(double min, double max) {
+        if (!(min <= max)) {
+            throw new IllegalArgumentException("Invalid range: " + min + " > " + max);
+        }
+
+        return new DoubleRange(min, max);
+    }
+
+    /**
+     * @return the inclusive min value
+     */
+    public double min() {
+        return min;
+    }
+
+    /**
+     * @return the inclusive max value
+     */
+    public double max() {
+        return max;
+    }
+
+    /**
+     * Check whether the given value is within this range.
+     *
+     * @param value
+     *              value to check
+     * @return true if min &lt;= value &lt;= max
+     */
+    public boolean contains(double value) {
+        return value >= min && value <= max;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + minText + ", " + maxText + "]";
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.sympol.pure.asserts;
+
+import java.util.Map;
+
+/**
+ * Exception thrown when a collection or an array contains the same element (or
+ * key) twice.
+ */
+public final class DuplicateElementException extends AssertionException {
+
+    private final String index;
+    private final String firstIndex;
+
+    private DuplicateElementException(DuplicateElementExceptionBuilder builder) {
+        super(builder.field, builder.message());
+        index = String.valueOf(builder.index);
+        firstIndex = String.valueOf(builder.firstIndex);
+    }
+
+    /**
+     * Create a new builder for this exception.
+     *
+     * @return a new builder
+     */
+    public static DuplicateElementExceptionBuilder builder() {
+        return new DuplicateElementExceptionBuilder();
+    }
+
+    /**
+     * Builder for {@link DuplicateElementException}.
+     */
+    public static final class DuplicateElementExceptionBuilder {
+
+        private String field;
+        private int index;
+        private int firstIndex;
+
+        private DuplicateElementExceptionBuilder() {
+        }
+
+        /**
+         * Set the field name.
+         *
+         * @param field field name
+         * @return the builder
+         */
+        public DuplicateElementExceptionBuilder field(String field) {
+            this.field = field;
+
+            return this;
+        }
+
+        /**
+         * Set the index of the duplicate element.
+         *
+         * @param index index of the duplicate
+         * @return the builder
+         */
+        public DuplicateElementExceptionBuilder index(int index) {
+            this.index = index;
+
+            return this;
+        }
+
+        /**
+         * Set the index of the first occurrence of the duplicated element.
+         *
+         * @param firstIndex index of the first occurrence
+         * @return the builder
+         */
+        public DuplicateElementExceptionBuilder firstIndex(int firstIndex) {
+            this.firstIndex = firstIndex;
+
+            return this;
+        }
+
+        private String message() {
+            return "The field \"%s\" contains a duplicate at index %d of the element at index %d".formatted(field,
+                    index, firstIndex);
+        }
+
+        /**
+         * Build the exception.
+         *
+         * @return the exception
+         */
+        public DuplicateElementException build() {
+            return new DuplicateElementException(this);
+        }
+    }
+
+    @Override
+    public AssertionErrorType type() {
+        return AssertionErrorType.DUPLICATE_ELEMENT;
+    }
+
+    @Override
+    public Map<String, String> parameters() {
+        return Map.of("index", index, "firstIndex", firstIndex);
+    }
+}
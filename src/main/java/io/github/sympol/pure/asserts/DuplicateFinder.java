@@ -0,0 +1,197 @@
+package io.github.sympol.pure.asserts;
+
+import java.util.Objects;
+
+/**
+ * Open addressing sets remembering the index of each added element, sized
+ * upfront for the number of elements to check so that they never grow.
+ *
+ * <p>
+ * Keys are stored in arrays (linear probing, load factor at most 0.5), so
+ * longs, ints and pairs of longs such as UUIDs halves are neither boxed nor
+ * hashed through {@link Object#hashCode()}. Each kind of key has its own
+ * finder: {@link #forPairs(int)}, {@link #forLongs(int)} and
+ * {@link #forObjects(int)}.
+ * </p>
+ */
+abstract class DuplicateFinder {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final long GOLDEN_RATIO = 0x9E37_79B9_7F4A_7C15L;
+
+    final int mask;
+    // index of the element plus one, 0 for empty slots
+    final int[] indexes;
+
+    private DuplicateFinder(int capacity) {
+        mask = capacity - 1;
+        indexes = new int[capacity];
+    }
+
+    /**
+     * @param expectedSize
+     *                     number of pairs that will be added
+     * @return a finder for pairs of longs
+     */
+    static PairFinder forPairs(int expectedSize) {
+        return new PairFinder(capacity(expectedSize));
+    }
+
+    /**
+     * @param expectedSize
+     *                     number of keys that will be added
+     * @return a finder for long (or int) keys
+     */
+    static LongFinder forLongs(int expectedSize) {
+        return new LongFinder(capacity(expectedSize));
+    }
+
+    /**
+     * @param expectedSize
+     *                     number of keys that will be added
+     * @return a finder for object keys, compared with
+     *         {@link Object#equals(Object)}
+     */
+    static ObjectFinder forObjects(int expectedSize) {
+        return new ObjectFinder(capacity(expectedSize));
+    }
+
+    int hash(long key) {
+        long mixed = key * GOLDEN_RATIO;
+
+        return (int) (mixed ^ mixed >>> 32) & mask;
+    }
+
+    private static int capacity(int expectedSize) {
+        if (expectedSize >= MAX_CAPACITY / 2) {
+            return MAX_CAPACITY;
+        }
+
+        return Integer.highestOneBit(Math.max(expectedSize, 1) * 2 - 1) << 1;
+    }
+
+    /**
+     * Finder for pairs of longs.
+     */
+    static final class PairFinder extends DuplicateFinder {
+
+        private final long[] highs;
+        private final long[] lows;
+
+        private PairFinder(int capacity) {
+            super(capacity);
+            highs = new long[capacity];
+            lows = new long[capacity];
+        }
+
+        /**
+         * Add a pair, unless it is already there.
+         *
+         * @param high
+         *              first long of the pair
+         * @param low
+         *              second long of the pair
+         * @param index
+         *              index of the pair in the checked elements
+         * @return the index of the first occurrence of the pair or -1 if it was
+         *         not there
+         */
+        int add(long high, long low, int index) {
+            int slot = hash(high * GOLDEN_RATIO ^ low);
+
+            while (indexes[slot] != 0) {
+                if (highs[slot] == high && lows[slot] == low) {
+                    return indexes[slot] - 1;
+                }
+
+                slot = (slot + 1) & mask;
+            }
+
+            highs[slot] = high;
+            lows[slot] = low;
+            indexes[slot] = index + 1;
+
+            return -1;
+        }
+    }
+
+    /**
+     * Finder for long (or int) keys.
+     */
+    static final class LongFinder extends DuplicateFinder {
+
+        private final long[] keys;
+
+        private LongFinder(int capacity) {
+            super(capacity);
+            keys = new long[capacity];
+        }
+
+        /**
+         * Add a key, unless it is already there.
+         *
+         * @param key
+         *              key to add
+         * @param index
+         *              index of the key in the checked elements
+         * @return the index of the first occurrence of the key or -1 if it was
+         *         not there
+         */
+        int add(long key, int index) {
+            int slot = hash(key);
+
+            while (indexes[slot] != 0) {
+                if (keys[slot] == key) {
+                    return indexes[slot] - 1;
+                }
+
+                slot = (slot + 1) & mask;
+            }
+
+            keys[slot] = key;
+            indexes[slot] = index + 1;
+
+            return -1;
+        }
+    }
+
+    /**
+     * Finder for object keys, compared with {@link Object#equals(Object)}.
+     */
+    static final class ObjectFinder extends DuplicateFinder {
+
+        private final Object[] keys;
+
+        private ObjectFinder(int capacity) {
+            super(capacity);
+            keys = new Object[capacity];
+        }
+
+        /**
+         * Add a key, unless an equal key is already there.
+         *
+         * @param key
+         *              key to add, can be null
+         * @param index
+         *              index of the key in the checked elements
+         * @return the index of the first occurrence of the key or -1 if it was
+         *         not there
+         */
+        int add(Object key, int index) {
+            int slot = hash(key == null ? 0 : key.hashCode());
+
+            while (indexes[slot] != 0) {
+                if (Objects.equals(keys[slot], key)) {
+                    return indexes[slot] - 1;
+                }
+
+                slot = (slot + 1) & mask;
+            }
+
+            keys[slot] = key;
+            indexes[slot] = index + 1;
+
+            return -1;
+        }
+    }
+}
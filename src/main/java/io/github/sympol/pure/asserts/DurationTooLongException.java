@@ -0,0 +1,99 @@
+package io.github.sympol.pure.asserts;
+
+import java.util.Map;
+
+/**
+ * Exception thrown when a duration or a period is too long.
+ */
+public final class DurationTooLongException extends AssertionException {
+
+    private final String max;
+    private final String value;
+
+    private DurationTooLongException(DurationTooLongExceptionBuilder builder) {
+        super(builder.field, builder.message());
+        max = builder.max;
+        value = builder.value;
+    }
+
+    /**
+     * Create a new builder for this exception.
+     *
+     * @return a new builder
+     */
+    public static DurationTooLongExceptionBuilder builder() {
+        return new DurationTooLongExceptionBuilder();
+    }
+
+    /**
+     * Builder for {@link DurationTooLongException}.
+     */
+    public static final class DurationTooLongExceptionBuilder {
+
+        private String field;
+        private String max;
+        private String value;
+
+        private DurationTooLongExceptionBuilder() {
+        }
+
+        /**
+         * Set the field name.
+         *
+         * @param field field name
+         * @return the builder
+         */
+        public DurationTooLongExceptionBuilder field(String field) {
+            this.field = field;
+
+            return this;
+        }
+
+        /**
+         * Set the maximum allowed duration, in ISO-8601 format.
+         *
+         * @param max max duration
+         * @return the builder
+         */
+        public DurationTooLongExceptionBuilder max(String max) {
+            this.max = max;
+
+            return this;
+        }
+
+        /**
+         * Set the actual duration, in ISO-8601 format.
+         *
+         * @param value actual duration
+         * @return the builder
+         */
+        public DurationTooLongExceptionBuilder value(String value) {
+            this.value = value;
+
+            return this;
+        }
+
+        private String message() {
+            return "Duration of field \"%s\" must be at most %s but was %s".formatted(field, max, value);
+        }
+
+        /**
+         * Build the exception.
+         *
+         * @return the exception
+         */
+        public DurationTooLongException build() {
+            return new DurationTooLongException(this);
+        }
+    }
+
+    @Override
+    public AssertionErrorType type() {
+        return AssertionErrorType.DURATION_TOO_LONG;
+    }
+
+    @Override
+    public Map<String, String> parameters() {
+        return Map.of("max", max, "value", value);
+    }
+}
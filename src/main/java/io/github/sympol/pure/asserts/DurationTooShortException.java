@@ -0,0 +1,99 @@
+package io.github.sympol.pure.asserts;
+
+import java.util.Map;
+
+/**
+ * Exception thrown when a duration or a period is too short.
+ */
+public final class DurationTooShortException extends AssertionException {
+
+    private final String min;
+    private final String value;
+
+    private DurationTooShortException(DurationTooShortExceptionBuilder builder) {
+        super(builder.field, builder.message());
+        min = builder.min;
+        value = builder.value;
+    }
+
+    /**
+     * Create a new builder for this exception.
+     *
+     * @return a new builder
+     */
+    public static DurationTooShortExceptionBuilder builder() {
+        return new DurationTooShortExceptionBuilder();
+    }
+
+    /**
+     * Builder for {@link DurationTooShortException}.
+     */
+    public static final class DurationTooShortExceptionBuilder {
+
+        private String field;
+        private String min;
+        private String value;
+
+        private DurationTooShortExceptionBuilder() {
+        }
+
+        /**
+         * Set the field name.
+         *
+         * @param field field name
+         * @return the builder
+         */
+        public DurationTooShortExceptionBuilder field(String field) {
+            this.field = field;
+
+            return this;
+        }
+
+        /**
+         * Set the minimum allowed duration, in ISO-8601 format.
+         *
+         * @param min min duration
+         * @return the builder
+         */
+        public DurationTooShortExceptionBuilder min(String min) {
+            this.min = min;
+
+            return this;
+        }
+
+        /**
+         * Set the actual duration, in ISO-8601 format.
+         *
+         * @param value actual duration
+         * @return the builder
+         */
+        public DurationTooShortExceptionBuilder value(String value) {
+            this.value = value;
+
+            return this;
+        }
+
+        private String message() {
+            return "Duration of field \"%s\" must be at least %s but was %s".formatted(field, min, value);
+        }
+
+        /**
+         * Build the exception.
+         *
+         * @return the exception
+         */
+        public DurationTooShortException build() {
+            return new DurationTooShortException(this);
+        }
+    }
+
+    @Override
+    public AssertionErrorType type() {
+        return AssertionErrorType.DURATION_TOO_SHORT;
+    }
+
+    @Override
+    public Map<String, String> parameters() {
+        return Map.of("min", min, "value", value);
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.sympol.pure.asserts;
+
+import java.util.Map;
+
+/**
+ * Exception thrown when the elements of a collection or an array are not in the
+ * expected order.
+ */
+public final class ElementOutOfOrderException extends AssertionException {
+
+    private final String index;
+
+    private ElementOutOfOrderException(ElementOutOfOrderExceptionBuilder builder) {
+        super(builder.field, builder.message());
+        index = String.valueOf(builder.index);
+    }
+
+    /**
+     * Create a new builder for this exception.
+     *
+     * @return a new builder
+     */
+    public static ElementOutOfOrderExceptionBuilder builder() {
+        return new ElementOutOfOrderExceptionBuilder();
+    }
+
+    /**
+     * Builder for {@link ElementOutOfOrderException}.
+     */
+    public static final class ElementOutOfOrderExceptionBuilder {
+
+        private String field;
+        private String order;
+        private int index;
+
+        private ElementOutOfOrderExceptionBuilder() {
+        }
+
+        /**
+         * Set the field name.
+         *
+         * @param field field name
+         * @return the builder
+         */
+        public ElementOutOfOrderExceptionBuilder field(String field) {
+            this.field = field;
+
+            return this;
+        }
+
+        /**
+         * Set the expected order, for example "strictly increasing".
+         *
+         * @param order expected order
+         * @return the builder
+         */
+        public ElementOutOfOrderExceptionBuilder order(String order) {
+            this.order = order;
+
+            return this;
+        }
+
+        /**
+         * Set the index of the first element out of order.
+         *
+         * @param index index of the element
+         * @return the builder
+         */
+        public ElementOutOfOrderExceptionBuilder index(int index) {
+            this.index = index;
+
+            return this;
+        }
+
+        private String message() {
+            return "Elements of field \"%s\" must be %s but element at index %d is not".formatted(field, order, index);
+        }
+
+        /**
+         * Build the exception.
+         *
+         * @return the exception
+         */
+        public ElementOutOfOrderException build() {
+            return new ElementOutOfOrderException(this);
+        }
+    }
+
+    @Override
+    public AssertionErrorType type() {
+        return AssertionErrorType.ELEMENT_OUT_OF_ORDER;
+    }
+
+    @Override
+    public Map<String, String> parameters() {
+        return Map.of("index", index);
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.sympol.pure.asserts;
+
+/**
+ * Rule applied to each element of a collection, an array or the values of a
+ * map, usually built from the fluent asserters:
+ *
+ * <pre>
+ * <code>
+ * ElementRule&lt;String&gt; sku = (field, element) -&gt; Assert.field(field, element).notBlank().maxLength(12);
+ *
+ * Assert.field("skus", skus).each(sku);
+ * </code>
+ * </pre>
+ *
+ * <p>
+ * The rule is first applied with the field name of the container. When it
+ * fails, it is applied again to the same element with the indexed field name
+ * (for example {@code skus[3]}) so that the path is only built for invalid
+ * elements. Rules must therefore be free of side effects: a rule passing on
+ * this second run is still reported with the failure of the first run, whose
+ * field name is the one of the container. When all the failures are reported,
+ * the rule is applied only once to the elements failing past the max number of
+ * kept errors, as only their count is reported.
+ * </p>
+ *
+ * @param <T> type of the checked elements
+ */
+@FunctionalInterface
+public interface ElementRule<T> {
+
+    /**
+     * Check an element.
+     *
+     * @param field   name of the field to report in exceptions
+     * @param element element to check, can be null
+     * @throws AssertionException if the element is invalid
+     */
+    void check(String field, T element);
+}
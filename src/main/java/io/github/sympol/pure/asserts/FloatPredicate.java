@@ -0,0 +1,18 @@
+package io.github.sympol.pure.asserts;
+
+/**
+ * Represents a predicate of one {@code float} argument. This is the
+ * {@code float} specialization of {@link java.util.function.Predicate}, missing
+ * from {@code java.util.function}.
+ */
+@FunctionalInterface
+public interface FloatPredicate {
+
+    /**
+     * Evaluates this predicate on the given argument.
+     *
+     * @param value the input argument
+     * @return true if the input argument matches the predicate
+     */
+    boolean test(float value);
+}
@@ -0,0 +1,100 @@
+package io.github.sympol.pure.asserts;
+
+import java.util.Map;
+
+/**
+ * Exception thrown when a string contains a token of a {@link Denylist}.
+ */
+public final class ForbiddenTokenException extends AssertionException {
+
+    private final String token;
+    private final String offset;
+
+    private ForbiddenTokenException(ForbiddenTokenExceptionBuilder builder) {
+        super(builder.field, builder.message());
+        token = builder.token;
+        offset = String.valueOf(builder.offset);
+    }
+
+    /**
+     * Create a new builder for this exception.
+     *
+     * @return a new builder
+     */
+    public static ForbiddenTokenExceptionBuilder builder() {
+        return new ForbiddenTokenExceptionBuilder();
+    }
+
+    /**
+     * Builder for {@link ForbiddenTokenException}.
+     */
+    public static final class ForbiddenTokenExceptionBuilder {
+
+        private String field;
+        private String token;
+        private int offset;
+
+        private ForbiddenTokenExceptionBuilder() {
+        }
+
+        /**
+         * Set the field name.
+         *
+         * @param field field name
+         * @return the builder
+         */
+        public ForbiddenTokenExceptionBuilder field(String field) {
+            this.field = field;
+
+            return this;
+        }
+
+        /**
+         * Set the forbidden token found in the value.
+         *
+         * @param token forbidden token
+         * @return the builder
+         */
+        public ForbiddenTokenExceptionBuilder token(String token) {
+            this.token = token;
+
+            return this;
+        }
+
+        /**
+         * Set the offset of the token in the value.
+         *
+         * @param offset offset of the token
+         * @return the builder
+         */
+        public ForbiddenTokenExceptionBuilder offset(int offset) {
+            this.offset = offset;
+
+            return this;
+        }
+
+        private String message() {
+            return "The value in field \"%s\" contains the forbidden token \"%s\" at offset %d".formatted(field, token,
+                    offset);
+        }
+
+        /**
+         * Build the exception.
+         *
+         * @return the exception
+         */
+        public ForbiddenTokenException build() {
+            return new ForbiddenTokenException(this);
+        }
+    }
+
+    @Override
+    public AssertionErrorType type() {
+        return AssertionErrorType.FORBIDDEN_TOKEN;
+    }
+
+    @Override
+    public Map<String, String> parameters() {
+        return Map.of("token", token, "offset", offset);
+    }
+}
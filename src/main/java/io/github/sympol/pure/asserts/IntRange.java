@@ -0,0 +1,84 @@
+package io.github.sympol.pure.asserts;
+
+/**
+ * Immutable inclusive range of int values used by the {@code between} assertions.
+ *
+ * <p>
+ * The bounds and their textual forms are computed once, so a range is meant
+ * to be built once and shared as a constant:
+ * </p>
+ *
+ * <pre>
+ * <code>
+ * private static final IntRange PERCENTAGE = IntRange.of(0, 100);
+ * </code>
+ * </pre>
+ */
+public final class IntRange {
+
+    private final int min;
+    private final int max;
+
+    // width of the range, read as unsigned so that a single comparison checks both bounds
+    private final int span;
+
+    final String minText;
+    final String maxText;
+
+    private IntRange(int min, int max) {
+        this.min = min;
+        this.max = max;
+        span = max - min;
+        minText = String.valueOf(min);
+        maxText = String.valueOf(max);
+    }
+
+    /**
+     * Create a range.
+     *
+     * @param min
+     *            inclusive min value
+     * @param max
+     *            inclusive max value
+     * @return the range
+     * @throws IllegalArgumentException
+     *                                  if min is over max
+     */
+    public static IntRange of(int min, int max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Invalid range: " + min + " > " + max);
+        }
+
+        return new IntRange(min, max);
+    }
+
+    /**
+     * @return the inclusive min value
+     */
+    public int min() {
+        return min;
+    }
+
+    /**
+     * @return the inclusive max value
+     */
+    public int max() {
+        return max;
+    }
+
+    /**
+     * Check whether the given value is within this range.
+     *
+     * @param value
+     *              value to check
+     * @return true if min &lt;= value &lt;= max
+     */
+    public boolean contains(int value) {
+        return Integer.compareUnsigned(value - min, span) <= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + minText + ", " + maxText + "]";
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.sympol.pure.asserts;
+
+import java.util.Map;
+
+/**
+ * Exception thrown when a string contains a character outside of the allowed
+ * {@link CharClass}.
+ */
+public final class InvalidCharacterException extends AssertionException {
+
+    private final String index;
+    private final String character;
+
+    private InvalidCharacterException(InvalidCharacterExceptionBuilder builder) {
+        super(builder.field, builder.message());
+        index = String.valueOf(builder.index);
+        character = builder.character();
+    }
+
+    /**
+     * Create a new builder for this exception.
+     *
+     * @return a new builder
+     */
+    public static InvalidCharacterExceptionBuilder builder() {
+        return new InvalidCharacterExceptionBuilder();
+    }
+
+    /**
+     * Builder for {@link InvalidCharacterException}.
+     */
+    public static final class InvalidCharacterExceptionBuilder {
+
+        private String field;
+        private String value;
+        private int index;
+
+        private InvalidCharacterExceptionBuilder() {
+        }
+
+        /**
+         * Set the field name.
+         *
+         * @param field field name
+         * @return the builder
+         */
+        public InvalidCharacterExceptionBuilder field(String field) {
+            this.field = field;
+
+            return this;
+        }
+
+        /**
+         * Set the actual value.
+         *
+         * @param value actual value
+         * @return the builder
+         */
+        public InvalidCharacterExceptionBuilder value(String value) {
+            this.value = value;
+
+            return this;
+        }
+
+        /**
+         * Set the index of the first invalid character.
+         *
+         * @param index index of the invalid character
+         * @return the builder
+         */
+        public InvalidCharacterExceptionBuilder index(int index) {
+            this.index = index;
+
+            return this;
+        }
+
+        private String character() {
+            return new String(Character.toChars(value.codePointAt(index)));
+        }
+
+        private String message() {
+            return "The value \"%s\" in field \"%s\" contains the invalid character '%s' at index %d".formatted(value,
+                    field, character(), index);
+        }
+
+        /**
+         * Build the exception.
+         *
+         * @return the exception
+         */
+        public InvalidCharacterException build() {
+            return new InvalidCharacterException(this);
+        }
+    }
+
+    @Override
+    public AssertionErrorType type() {
+        return AssertionErrorType.INVALID_CHARACTER;
+    }
+
+    @Override
+    public Map<String, String> parameters() {
+        return Map.of("index", index, "character", character);
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.sympol.pure.asserts;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Exception thrown when elements of a collection, an array or a map break an
+ * {@link ElementRule}, holding the failures of the first invalid elements and
+ * the number of invalid elements. The message only renders the first
+ * failures.
+ */
+public final class InvalidElementsException extends AssertionException {
+
+    private static final int MAX_RENDERED_ERRORS = 10;
+
+    private final List<AssertionException> errors;
+    private final int count;
+
+    private InvalidElementsException(InvalidElementsExceptionBuilder builder) {
+        super(builder.field, builder.message());
+        errors = builder.errors;
+        count = Math.max(builder.count, errors.size());
+    }
+
+    /**
+     * Create a new builder for this exception.
+     *
+     * @return a new builder
+     */
+    public static InvalidElementsExceptionBuilder builder() {
+        return new InvalidElementsExceptionBuilder();
+    }
+
+    /**
+     * @return the failures of the first invalid elements, in iteration order,
+     *         with the indexed field name of the element
+     */
+    public List<AssertionException> errors() {
+        return errors;
+    }
+
+    /**
+     * @return the number of invalid elements, including the ones without
+     *         failure in {@link #errors()}
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Builder for {@link InvalidElementsException}.
+     */
+    public static final class InvalidElementsExceptionBuilder {
+
+        private String field;
+        private List<AssertionException> errors = List.of();
+        private int count;
+
+        private InvalidElementsExceptionBuilder() {
+        }
+
+        /**
+         * Set the field name.
+         *
+         * @param field field name
+         * @return the builder
+         */
+        public InvalidElementsExceptionBuilder field(String field) {
+            this.field = field;
+
+            return this;
+        }
+
+        /**
+         * Set the failures of the first invalid elements.
+         *
+         * @param errors failures of the first invalid elements
+         * @return the builder
+         */
+        public InvalidElementsExceptionBuilder errors(List<? extends AssertionException> errors) {
+            this.errors = List.copyOf(errors);
+
+            return this;
+        }
+
+        /**
+         * Set the number of invalid elements, defaults to the number of errors.
+         *
+         * @param count number of invalid elements
+         * @return the builder
+         */
+        public InvalidElementsExceptionBuilder count(int count) {
+            this.count = count;
+
+            return this;
+        }
+
+        private String message() {
+            int total = Math.max(count, errors.size());
+            String rendered = errors.stream().limit(MAX_RENDERED_ERRORS).map(AssertionException::getMessage)
+                    .collect(Collectors.joining("; "));
+            String more = total > Math.min(errors.size(), MAX_RENDERED_ERRORS) ? "; ..." : "";
+
+            return "The field \"%s\" contains %d invalid element(s): %s%s".formatted(field, total, rendered, more);
+        }
+
+        /**
+         * Build the exception.
+         *
+         * @return the exception
+         */
+        public InvalidElementsException build() {
+            return new InvalidElementsException(this);
+        }
+    }
+
+    @Override
+    public AssertionErrorType type() {
+        return AssertionErrorType.INVALID_ELEMENTS;
+    }
+
+    @Override
+    public Map<String, String> parameters() {
+        return Map.of("count", String.valueOf(count), "reported", String.valueOf(errors.size()));
+    }
+}
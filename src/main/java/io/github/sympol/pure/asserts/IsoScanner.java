@@ -0,0 +1,196 @@
+package io.github.sympol.pure.asserts;
+
+/**
+ * Hand written scanners reading fixed layout ISO-8601 dates and timestamps
+ * without allocating or throwing.
+ *
+ * <p>
+ * Accepted layouts are {@code yyyy-MM-dd} for dates and
+ * {@code yyyy-MM-ddTHH:mm:ss[.fraction](Z|+HH:mm|-HH:mm)} for instants, with a
+ * four digits year, an uppercase {@code T} and {@code Z}, a fraction of one to
+ * nine digits and no leap second.
+ * </p>
+ */
+final class IsoScanner {
+
+    /**
+     * Value returned for invalid inputs, out of the range of valid results.
+     */
+    static final long INVALID = Long.MIN_VALUE;
+
+    private static final int DATE_LENGTH = 10;
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int MAX_OFFSET_HOURS = 18;
+
+    private IsoScanner() {
+    }
+
+    /**
+     * Read a {@code yyyy-MM-dd} date.
+     *
+     * @param value
+     *              value to read
+     * @return the epoch day of the date or {@link #INVALID}
+     */
+    static long epochDay(String value) {
+        if (value.length() != DATE_LENGTH) {
+            return INVALID;
+        }
+
+        return readDate(value);
+    }
+
+    /**
+     * Read a {@code yyyy-MM-ddTHH:mm:ss[.fraction](Z|+HH:mm|-HH:mm)} instant.
+     * Digits of the fraction after the milliseconds are truncated.
+     *
+     * @param value
+     *              value to read
+     * @return milliseconds since the epoch or {@link #INVALID}
+     */
+    static long epochMillis(String value) {
+        int length = value.length();
+        if (length < 20) {
+            return INVALID;
+        }
+
+        long epochDay = readDate(value);
+        if (epochDay == INVALID || value.charAt(10) != 'T' || value.charAt(13) != ':' || value.charAt(16) != ':') {
+            return INVALID;
+        }
+
+        int hour = twoDigits(value, 11);
+        int minute = twoDigits(value, 14);
+        int second = twoDigits(value, 17);
+        if (hour < 0 || minute < 0 || second < 0 || hour > 23 || minute > 59 || second > 59) {
+            return INVALID;
+        }
+
+        int i = 19;
+        int millis = 0;
+        if (value.charAt(i) == '.') {
+            i++;
+
+            int digits = 0;
+            while (i < length && isDigit(value.charAt(i))) {
+                if (digits < 3) {
+                    millis = millis * 10 + value.charAt(i) - '0';
+                }
+                digits++;
+                i++;
+            }
+
+            if (digits == 0 || digits > 9) {
+                return INVALID;
+            }
+
+            for (; digits < 3; digits++) {
+                millis *= 10;
+            }
+        }
+
+        int offsetSeconds = readOffset(value, i);
+        if (offsetSeconds == Integer.MIN_VALUE) {
+            return INVALID;
+        }
+
+        long epochSecond = epochDay * SECONDS_PER_DAY + hour * 3600 + minute * 60 + second - offsetSeconds;
+        return epochSecond * 1000 + millis;
+    }
+
+    private static int readOffset(String value, int start) {
+        int length = value.length();
+        if (start >= length) {
+            return Integer.MIN_VALUE;
+        }
+
+        char sign = value.charAt(start);
+        if (sign == 'Z') {
+            return start + 1 == length ? 0 : Integer.MIN_VALUE;
+        }
+
+        if ((sign != '+' && sign != '-') || start + 6 != length || value.charAt(start + 3) != ':') {
+            return Integer.MIN_VALUE;
+        }
+
+        int hours = twoDigits(value, start + 1);
+        int minutes = twoDigits(value, start + 4);
+        if (hours < 0 || minutes < 0 || minutes > 59 || hours * 60 + minutes > MAX_OFFSET_HOURS * 60) {
+            return Integer.MIN_VALUE;
+        }
+
+        int seconds = hours * 3600 + minutes * 60;
+        return sign == '-' ? -seconds : seconds;
+    }
+
+    private static long readDate(String value) {
+        if (value.charAt(4) != '-' || value.charAt(7) != '-') {
+            return INVALID;
+        }
+
+        int century = twoDigits(value, 0);
+        int yearOfCentury = twoDigits(value, 2);
+        int month = twoDigits(value, 5);
+        int day = twoDigits(value, 8);
+        if (century < 0 || yearOfCentury < 0 || month < 1 || month > 12 || day < 1) {
+            return INVALID;
+        }
+
+        int year = century * 100 + yearOfCentury;
+        if (day > lengthOfMonth(year, month)) {
+            return INVALID;
+        }
+
+        return toEpochDay(year, month, day);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * Days since 1970-01-01 of a proleptic gregorian date, counting years from
+     * March so that the leap day is the last day of the year.
+     */
+    private static long toEpochDay(int year, int month, int day) {
+        int shiftedYear = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(shiftedYear, 400);
+        int yearOfEra = shiftedYear - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+
+        return era * 146_097L + dayOfEra - 719_468;
+    }
+
+    /**
+     * @return the value of the two digits at the given index or -1 if they are
+     *         not both ASCII digits
+     */
+    private static int twoDigits(String value, int index) {
+        char tens = value.charAt(index);
+        char units = value.charAt(index + 1);
+        if (!isDigit(tens) || !isDigit(units)) {
+            return -1;
+        }
+
+        return (tens - '0') * 10 + units - '0';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.sympol.pure.asserts;
+
+/**
+ * Immutable inclusive range of long values used by the {@code between} assertions.
+ *
+ * <p>
+ * The bounds and their textual forms are computed once, so a range is meant
+ * to be built once and shared as a constant:
+ * </p>
+ *
+ * <pre>
+ * <code>
+ * private static final LongRange AMOUNT = LongRange.of(1L, 100_000_000L);
+ * </code>
+ * </pre>
+ */
+public final class LongRange {
+
+    private final long min;
+    private final long max;
+
+    // width of the range, read as unsigned so that a single comparison checks both bounds
+    private final long span;
+
+    final String minText;
+    final String maxText;
+
+    private LongRange(long min, long max) {
+        this.min = min;
+        this.max = max;
+        span = max - min;
+        minText = String.valueOf(min);
+        maxText = String.valueOf(max);
+    }
+
+    /**
+     * Create a range.
+     *
+     * @param min
+     *            inclusive min value
+     * @param max
+     *            inclusive max value
+     * @return the range
+     * @throws IllegalArgumentException
+     *                                  if min is over max
+     */
+    public static LongRange of(long min, long max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Invalid range: " + min + " > " + max);
+        }
+
+        return new LongRange(min, max);
+    }
+
+    /**
+     * @return the inclusive min value
+     */
+    public long min() {
+        return min;
+    }
+
+    /**
+     * @return the inclusive max value
+     */
+    public long max() {
+        return max;
+    }
+
+    /**
+     * Check whether the given value is within this range.
+     *
+     * @param value
+     *              value to check
+     * @return true if min &lt;= value &lt;= max
+     */
+    public boolean contains(long value) {
+        return Long.compareUnsigned(value - min, span) <= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + minText + ", " + maxText + "]";
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.sympol.pure.asserts;
+
+import java.math.BigInteger;
+
+/**
+ * Overflow-safe sum of longs: the total is {@code high × 2^64 + low}, where
+ * {@code high} counts the times {@code low} wrapped around.
+ */
+final class LongSum {
+
+    private static final double TWO_POWER_64 = 0x1p64;
+
+    private long low;
+    private long high;
+
+    void add(long value) {
+        long result = low + value;
+
+        if (((low ^ result) & (value ^ result)) < 0) {
+            high += value > 0 ? 1 : -1;
+        }
+
+        low = result;
+    }
+
+    /**
+     * @return true if the sum is strictly over the given value
+     */
+    boolean isOver(long value) {
+        return high > 0 || high == 0 && low > value;
+    }
+
+    double mean(long count) {
+        return (high * TWO_POWER_64 + low) / count;
+    }
+
+    @Override
+    public String toString() {
+        if (high == 0) {
+            return String.valueOf(low);
+        }
+
+        return BigInteger.valueOf(high).shiftLeft(64).add(BigInteger.valueOf(low)).toString();
+    }
+}
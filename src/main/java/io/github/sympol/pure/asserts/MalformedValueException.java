@@ -0,0 +1,97 @@
+package io.github.sympol.pure.asserts;
+
+import java.util.Map;
+
+/**
+ * Exception thrown when a string can't be read in the expected format.
+ */
+public final class MalformedValueException extends AssertionException {
+
+    private final String format;
+
+    private MalformedValueException(MalformedValueExceptionBuilder builder) {
+        super(builder.field, builder.message());
+        format = builder.format;
+    }
+
+    /**
+     * Create a new builder for this exception.
+     *
+     * @return a new builder
+     */
+    public static MalformedValueExceptionBuilder builder() {
+        return new MalformedValueExceptionBuilder();
+    }
+
+    /**
+     * Builder for {@link MalformedValueException}.
+     */
+    public static final class MalformedValueExceptionBuilder {
+
+        private String field;
+        private String value;
+        private String format;
+
+        private MalformedValueExceptionBuilder() {
+        }
+
+        /**
+         * Set the field name.
+         *
+         * @param field field name
+         * @return the builder
+         */
+        public MalformedValueExceptionBuilder field(String field) {
+            this.field = field;
+
+            return this;
+        }
+
+        /**
+         * Set the actual value.
+         *
+         * @param value actual value
+         * @return the builder
+         */
+        public MalformedValueExceptionBuilder value(String value) {
+            this.value = value;
+
+            return this;
+        }
+
+        /**
+         * Set the expected format.
+         *
+         * @param format expected format
+         * @return the builder
+         */
+        public MalformedValueExceptionBuilder format(String format) {
+            this.format = format;
+
+            return this;
+        }
+
+        private String message() {
+            return "The value \"%s\" in field \"%s\" is not a valid %s".formatted(value, field, format);
+        }
+
+        /**
+         * Build the exception.
+         *
+         * @return the exception
+         */
+        public MalformedValueException build() {
+            return new MalformedValueException(this);
+        }
+    }
+
+    @Override
+    public AssertionErrorType type() {
+        return AssertionErrorType.MALFORMED_VALUE;
+    }
+
+    @Override
+    public Map<String, String> parameters() {
+        return Map.of("format", format);
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.sympol.pure.asserts;
 
 import java.time.Instant;
+import java.time.temporal.TemporalAccessor;
 
 /**
  * Exception thrown when a time value is not after the expected value.
@@ -42,9 +43,9 @@ public class NotAfterTimeException extends AssertionException {
             NotAfterTimeExceptionOtherBuilder {
 
         private final String hint;
-        private Instant value;
+        private TemporalAccessor value;
         private String field;
-        private Instant other;
+        private TemporalAccessor other;
 
         private NotAfterTimeExceptionBuilder(String hint) {
             this.hint = hint;
@@ -57,6 +58,13 @@ public class NotAfterTimeException extends AssertionException {
             return this;
         }
 
+        @Override
+        public NotAfterTimeExceptionFieldBuilder value(TemporalAccessor value) {
+            this.value = value;
+
+            return this;
+        }
+
         @Override
         public NotAfterTimeExceptionOtherBuilder field(String field) {
             this.field = field;
@@ -71,6 +79,13 @@ public class NotAfterTimeException extends AssertionException {
             return build();
         }
 
+        @Override
+        public NotAfterTimeException other(TemporalAccessor other) {
+            this.other = other;
+
+            return build();
+        }
+
         private NotAfterTimeException build() {
             return new NotAfterTimeException(field, message());
         }
@@ -91,6 +106,14 @@ public class NotAfterTimeException extends AssertionException {
          * @return the builder
          */
         NotAfterTimeExceptionFieldBuilder value(Instant value);
+
+        /**
+         * Set the actual value for date-time types other than {@link Instant}.
+         *
+         * @param value actual value
+         * @return the builder
+         */
+        NotAfterTimeExceptionFieldBuilder value(TemporalAccessor value);
     }
 
     /**
@@ -117,5 +140,14 @@ public class NotAfterTimeException extends AssertionException {
          * @return the exception
          */
         NotAfterTimeException other(Instant other);
+
+        /**
+         * Set the other value, for date-time types other than {@link Instant}, and
+         * return the exception.
+         *
+         * @param other other value
+         * @return the exception
+         */
+        NotAfterTimeException other(TemporalAccessor other);
     }
 }
\ No newline at end of file
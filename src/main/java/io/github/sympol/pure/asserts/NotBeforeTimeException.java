@@ -1,6 +1,7 @@
 package io.github.sympol.pure.asserts;
 
 import java.time.Instant;
+import java.time.temporal.TemporalAccessor;
 
 /**
  * Exception thrown when a time value is not before the expected value.
@@ -42,9 +43,9 @@ public final class NotBeforeTimeException extends AssertionException {
             NotBeforeTimeExceptionOtherBuilder {
 
         private final String hint;
-        private Instant value;
+        private TemporalAccessor value;
         private String field;
-        private Instant other;
+        private TemporalAccessor other;
 
         private NotBeforeTimeExceptionBuilder(String hint) {
             this.hint = hint;
@@ -57,6 +58,13 @@ public final class NotBeforeTimeException extends AssertionException {
             return this;
         }
 
+        @Override
+        public NotBeforeTimeExceptionFieldBuilder value(TemporalAccessor value) {
+            this.value = value;
+
+            return this;
+        }
+
         @Override
         public NotBeforeTimeExceptionOtherBuilder field(String field) {
             this.field = field;
@@ -71,6 +79,13 @@ public final class NotBeforeTimeException extends AssertionException {
             return build();
         }
 
+        @Override
+        public NotBeforeTimeException other(TemporalAccessor other) {
+            this.other = other;
+
+            return build();
+        }
+
         private NotBeforeTimeException build() {
             return new NotBeforeTimeException(field, message());
         }
@@ -91,6 +106,14 @@ public final class NotBeforeTimeException extends AssertionException {
          * @return the builder
          */
         NotBeforeTimeExceptionFieldBuilder value(Instant value);
+
+        /**
+         * Set the actual value for date-time types other than {@link Instant}.
+         *
+         * @param value actual value
+         * @return the builder
+         */
+        NotBeforeTimeExceptionFieldBuilder value(TemporalAccessor value);
     }
 
     /**
@@ -117,5 +140,14 @@ public final class NotBeforeTimeException extends AssertionException {
          * @return the exception
          */
         NotBeforeTimeException other(Instant other);
+
+        /**
+         * Set the other value, for date-time types other than {@link Instant}, and
+         * return the exception.
+         *
+         * @param other other value
+         * @return the exception
+         */
+        NotBeforeTimeException other(TemporalAccessor other);
     }
 }
\ No newline at end of file
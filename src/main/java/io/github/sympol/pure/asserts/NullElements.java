@@ -0,0 +1,102 @@
+package io.github.sympol.pure.asserts;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Null elements lookup choosing the cheapest strategy for each kind of
+ * collection.
+ *
+ * <p>
+ * Collections which can't hold null, such as {@code Set.of(...)},
+ * {@code List.of(e1[, e2])}, {@link EnumSet}, {@link ArrayDeque} or concurrent
+ * collections, are answered without looking at the elements. {@code List.of}
+ * with more than two elements is scanned as the JDK uses the same class for
+ * {@code Stream.toList()}, which accepts null. Hash sets, which support null
+ * elements, answer through {@link Collection#contains(Object)} in constant
+ * time, other random access lists are scanned with an index and remaining
+ * collections with their iterator.
+ * </p>
+ */
+final class NullElements {
+
+    private static final Set<Class<?>> NULL_HOSTILE_CLASSES = Set.of(
+            List.of(1).getClass(),
+            Set.of().getClass(),
+            Set.of(1).getClass(),
+            ArrayDeque.class,
+            PriorityQueue.class,
+            ConcurrentLinkedQueue.class,
+            ConcurrentLinkedDeque.class,
+            ConcurrentSkipListSet.class,
+            ConcurrentHashMap.KeySetView.class);
+
+    private NullElements() {
+    }
+
+    /**
+     * @param collection
+     *                   collection to check
+     * @return true if the collection contains a null element
+     */
+    static boolean containsNull(Collection<?> collection) {
+        if (collection.isEmpty() || cannotContainNull(collection)) {
+            return false;
+        }
+
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            List<?> list = (List<?>) collection;
+
+            for (int i = 0, size = list.size(); i < size; i++) {
+                if (list.get(i) == null) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        if (collection instanceof HashSet) {
+            return collection.contains(null);
+        }
+
+        for (Object element : collection) {
+            if (element == null) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @param array
+     *              array to check
+     * @return true if the array contains a null element
+     */
+    static boolean containsNull(Object[] array) {
+        for (Object element : array) {
+            if (element == null) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean cannotContainNull(Collection<?> collection) {
+        return NULL_HOSTILE_CLASSES.contains(collection.getClass()) || collection instanceof EnumSet
+                || collection instanceof BlockingQueue;
+    }
+}
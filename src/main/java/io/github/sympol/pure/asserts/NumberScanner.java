@@ -0,0 +1,155 @@
+package io.github.sympol.pure.asserts;
+
+/**
+ * Hand written scanners validating numeric strings without throwing.
+ *
+ * <p>
+ * Only ASCII digits are accepted, so a value validated here can always be
+ * parsed by the JDK without a {@link NumberFormatException}.
+ * </p>
+ */
+final class NumberScanner {
+
+    private static final int MAX_EXPONENT = 999_999_999;
+
+    private NumberScanner() {
+    }
+
+    /**
+     * Check that the value is an optionally signed integer within the given
+     * bounds.
+     *
+     * @param value
+     *              value to check
+     * @param min
+     *              inclusive min value
+     * @param max
+     *              inclusive max value
+     * @return true if the value is a valid integer within the bounds
+     */
+    static boolean isInteger(String value, long min, long max) {
+        int length = value.length();
+        if (length == 0) {
+            return false;
+        }
+
+        int i = 0;
+        boolean negative = false;
+        char first = value.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+
+            if (length == 1) {
+                return false;
+            }
+        }
+
+        // accumulate negatively as the negative range is the widest one
+        long limit = negative ? min : -max;
+        long multiplicationLimit = limit / 10;
+        long result = 0;
+        for (; i < length; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || result < multiplicationLimit) {
+                return false;
+            }
+
+            result *= 10;
+            if (result < limit + digit) {
+                return false;
+            }
+            result -= digit;
+        }
+
+        return true;
+    }
+
+    /**
+     * Parse a value previously validated by {@link #isInteger(String, long, long)}.
+     *
+     * @param value
+     *              valid integer
+     * @return the parsed value
+     */
+    static long parseInteger(String value) {
+        int i = 0;
+        boolean negative = false;
+        char first = value.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+        }
+
+        long result = 0;
+        for (; i < value.length(); i++) {
+            result = result * 10 - (value.charAt(i) - '0');
+        }
+
+        return negative ? result : -result;
+    }
+
+    /**
+     * Check that the value is a decimal number as accepted by
+     * {@link java.math.BigDecimal#BigDecimal(String)}, limited to ASCII digits
+     * and exponents of at most 9 digits.
+     *
+     * @param value
+     *              value to check
+     * @return true if the value is a valid decimal
+     */
+    static boolean isDecimal(String value) {
+        int length = value.length();
+        int i = 0;
+
+        if (i < length && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+            i++;
+        }
+
+        int digits = 0;
+        while (i < length && isDigit(value.charAt(i))) {
+            i++;
+            digits++;
+        }
+
+        if (i < length && value.charAt(i) == '.') {
+            i++;
+            while (i < length && isDigit(value.charAt(i))) {
+                i++;
+                digits++;
+            }
+        }
+
+        if (digits == 0) {
+            return false;
+        }
+
+        if (i < length && (value.charAt(i) == 'e' || value.charAt(i) == 'E')) {
+            i++;
+
+            if (i < length && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+                i++;
+            }
+
+            int exponentStart = i;
+            long exponent = 0;
+            while (i < length && isDigit(value.charAt(i))) {
+                exponent = exponent * 10 + value.charAt(i) - '0';
+                if (exponent > MAX_EXPONENT) {
+                    return false;
+                }
+                i++;
+            }
+
+            if (i == exponentStart) {
+                return false;
+            }
+        }
+
+        return i == length;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
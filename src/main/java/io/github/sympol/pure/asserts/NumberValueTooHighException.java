@@ -9,11 +9,13 @@ public final class NumberValueTooHighException extends AssertionException {
 
     private final String max;
     private final String value;
+    private final String index;
 
     private NumberValueTooHighException(NumberValueTooHighExceptionBuilder builder) {
         super(builder.field, builder.message());
         max = builder.maxValue;
         value = builder.value;
+        index = builder.index;
     }
 
     /**
@@ -33,6 +35,7 @@ public final class NumberValueTooHighException extends AssertionException {
         private String field;
         private String maxValue;
         private String value;
+        private String index;
 
         /**
          * Set the field name.
@@ -76,6 +79,19 @@ public final class NumberValueTooHighException extends AssertionException {
             return this;
         }
 
+        /**
+         * Set the index of the offending element, when the value comes from a
+         * collection or an array.
+         *
+         * @param index index of the element
+         * @return the builder
+         */
+        public NumberValueTooHighExceptionBuilder index(int index) {
+            this.index = String.valueOf(index);
+
+            return this;
+        }
+
         /**
          * @return The descriptive error message.
          */
@@ -105,6 +121,10 @@ public final class NumberValueTooHighException extends AssertionException {
 
     @Override
     public Map<String, String> parameters() {
-        return Map.of("max", max, "value", value);
+        if (index == null) {
+            return Map.of("max", max, "value", value);
+        }
+
+        return Map.of("max", max, "value", value, "index", index);
     }
 }
\ No newline at end of file
@@ -9,11 +9,13 @@ public final class NumberValueTooLowException extends AssertionException {
 
     private final String min;
     private final String value;
+    private final String index;
 
     private NumberValueTooLowException(NumberValueTooLowExceptionBuilder builder) {
         super(builder.field, builder.message());
         min = builder.minValue;
         value = builder.value;
+        index = builder.index;
     }
 
     /**
@@ -33,6 +35,7 @@ public final class NumberValueTooLowException extends AssertionException {
         private String field;
         private String minValue;
         private String value;
+        private String index;
 
         /**
          * Set the field name.
@@ -76,6 +79,19 @@ public final class NumberValueTooLowException extends AssertionException {
             return this;
         }
 
+        /**
+         * Set the index of the offending element, when the value comes from a
+         * collection or an array.
+         *
+         * @param index index of the element
+         * @return the builder
+         */
+        public NumberValueTooLowExceptionBuilder index(int index) {
+            this.index = String.valueOf(index);
+
+            return this;
+        }
+
         /**
          * @return The descriptive error message.
          */
@@ -105,6 +121,10 @@ public final class NumberValueTooLowException extends AssertionException {
 
     @Override
     public Map<String, String> parameters() {
-        return Map.of("min", min, "value", value);
+        if (index == null) {
+            return Map.of("min", min, "value", value);
+        }
+
+        return Map.of("min", min, "value", value, "index", index);
     }
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+package io.github.sympol.pure.asserts;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Exception thrown when a time value is outside of the expected time window.
+ */
+public final class OutsideTimeWindowException extends AssertionException {
+
+    private final String from;
+    private final String to;
+
+    private OutsideTimeWindowException(OutsideTimeWindowExceptionBuilder builder) {
+        super(builder.field, builder.message());
+        from = String.valueOf(builder.from);
+        to = String.valueOf(builder.to);
+    }
+
+    /**
+     * Create a new builder for this exception.
+     *
+     * @return a new builder
+     */
+    public static OutsideTimeWindowExceptionBuilder builder() {
+        return new OutsideTimeWindowExceptionBuilder();
+    }
+
+    /**
+     * Builder for {@link OutsideTimeWindowException}.
+     */
+    public static final class OutsideTimeWindowExceptionBuilder {
+
+        private String field;
+        private Instant value;
+        private Instant from;
+        private Instant to;
+
+        private OutsideTimeWindowExceptionBuilder() {
+        }
+
+        /**
+         * Set the field name.
+         *
+         * @param field field name
+         * @return the builder
+         */
+        public OutsideTimeWindowExceptionBuilder field(String field) {
+            this.field = field;
+
+            return this;
+        }
+
+        /**
+         * Set the actual value.
+         *
+         * @param value actual value
+         * @return the builder
+         */
+        public OutsideTimeWindowExceptionBuilder value(Instant value) {
+            this.value = value;
+
+            return this;
+        }
+
+        /**
+         * Set the inclusive start of the window.
+         *
+         * @param from start of the window
+         * @return the builder
+         */
+        public OutsideTimeWindowExceptionBuilder from(Instant from) {
+            this.from = from;
+
+            return this;
+        }
+
+        /**
+         * Set the inclusive end of the window.
+         *
+         * @param to end of the window
+         * @return the builder
+         */
+        public OutsideTimeWindowExceptionBuilder to(Instant to) {
+            this.to = to;
+
+            return this;
+        }
+
+        private String message() {
+            return "Time %s in \"%s\" must be between %s and %s but wasn't".formatted(value, field, from, to);
+        }
+
+        /**
+         * Build the exception.
+         *
+         * @return the exception
+         */
+        public OutsideTimeWindowException build() {
+            return new OutsideTimeWindowException(this);
+        }
+    }
+
+    @Override
+    public AssertionErrorType type() {
+        return AssertionErrorType.OUTSIDE_TIME_WINDOW;
+    }
+
+    @Override
+    public Map<String, String> parameters() {
+        return Map.of("from", from, "to", to);
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.sympol.pure.asserts;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Current date, as an epoch day, cached per zone. An entry stays valid until
+ * the next midnight of its zone so resolving today is usually a map lookup and
+ * two long comparisons, without zone rules computations.
+ */
+final class TodayCache {
+
+    private static final Map<ZoneId, Day> DAYS = new ConcurrentHashMap<>();
+
+    private static volatile Day last;
+
+    private TodayCache() {
+    }
+
+    /**
+     * @param zone
+     *               zone to get the date in
+     * @param millis
+     *               current time in milliseconds since the epoch
+     * @return the epoch day of the date at the given time in the given zone
+     */
+    static long epochDay(ZoneId zone, long millis) {
+        Day day = last;
+
+        if (day == null || !day.matches(zone, millis)) {
+            day = DAYS.get(zone);
+
+            if (day == null || !day.contains(millis)) {
+                day = Day.at(zone, millis);
+                DAYS.put(zone, day);
+            }
+
+            last = day;
+        }
+
+        return day.epochDay;
+    }
+
+    private static final class Day {
+
+        private final ZoneId zone;
+        private final long epochDay;
+        private final long startMillis;
+        private final long endMillis;
+
+        private Day(ZoneId zone, long epochDay, long startMillis, long endMillis) {
+            this.zone = zone;
+            this.epochDay = epochDay;
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+        }
+
+        private static Day at(ZoneId zone, long millis) {
+            LocalDate date = LocalDate.ofInstant(Instant.ofEpochMilli(millis), zone);
+
+            long start = date.atStartOfDay(zone).toInstant().toEpochMilli();
+            long end = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+
+            return new Day(zone, date.toEpochDay(), start, end);
+        }
+
+        private boolean matches(ZoneId other, long millis) {
+            return zone.equals(other) && contains(millis);
+        }
+
+        private boolean contains(long millis) {
+            return millis >= startMillis && millis < endMillis;
+        }
+    }
+}
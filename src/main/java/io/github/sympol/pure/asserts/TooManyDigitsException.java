@@ -0,0 +1,73 @@
+package io.github.sympol.pure.asserts;
+
+import java.util.Map;
+
+/**
+ * Exception thrown when a number has more digits than allowed.
+ */
+public final class TooManyDigitsException extends AssertionException {
+
+    private final Map<String, String> parameters;
+
+    private TooManyDigitsException(String field, String message, Map<String, String> parameters) {
+        super(field, message);
+        this.parameters = parameters;
+    }
+
+    /**
+     * Creates an exception for a number with too many fraction digits.
+     *
+     * @param field    name of the field
+     * @param value    the rejected value
+     * @param maxScale the maximum allowed scale
+     * @param scale    the actual scale
+     * @return a new TooManyDigitsException
+     */
+    public static TooManyDigitsException forScale(String field, String value, int maxScale, int scale) {
+        return new TooManyDigitsException(field, message(value, field, "scale", maxScale, scale),
+                Map.of("maxScale", String.valueOf(maxScale), "scale", String.valueOf(scale)));
+    }
+
+    /**
+     * Creates an exception for a number with too many significant digits.
+     *
+     * @param field        name of the field
+     * @param value        the rejected value
+     * @param maxPrecision the maximum allowed precision
+     * @param precision    the actual precision
+     * @return a new TooManyDigitsException
+     */
+    public static TooManyDigitsException forPrecision(String field, String value, int maxPrecision, int precision) {
+        return new TooManyDigitsException(field, message(value, field, "precision", maxPrecision, precision),
+                Map.of("maxPrecision", String.valueOf(maxPrecision), "precision", String.valueOf(precision)));
+    }
+
+    /**
+     * Creates an exception for an integer with too many bits.
+     *
+     * @param field        name of the field
+     * @param value        the rejected value
+     * @param maxBitLength the maximum allowed bit length
+     * @param bitLength    the actual bit length
+     * @return a new TooManyDigitsException
+     */
+    public static TooManyDigitsException forBitLength(String field, String value, int maxBitLength, int bitLength) {
+        return new TooManyDigitsException(field, message(value, field, "bit length", maxBitLength, bitLength),
+                Map.of("maxBitLength", String.valueOf(maxBitLength), "bitLength", String.valueOf(bitLength)));
+    }
+
+    private static String message(String value, String field, String measure, int max, int actual) {
+        return "The value %s in field \"%s\" must have a %s of at most %d but had %d".formatted(value, field, measure,
+                max, actual);
+    }
+
+    @Override
+    public AssertionErrorType type() {
+        return AssertionErrorType.TOO_MANY_DIGITS;
+    }
+
+    @Override
+    public Map<String, String> parameters() {
+        return parameters;
+    }
+}
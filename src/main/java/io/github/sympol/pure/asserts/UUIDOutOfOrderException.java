@@ -0,0 +1,98 @@
+package io.github.sympol.pure.asserts;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Exception thrown when a time-ordered UUID is not after the previous one.
+ */
+public final class UUIDOutOfOrderException extends AssertionException {
+
+    private final String previous;
+
+    private UUIDOutOfOrderException(UUIDOutOfOrderExceptionBuilder builder) {
+        super(builder.field, builder.message());
+        previous = String.valueOf(builder.previous);
+    }
+
+    /**
+     * Create a new builder for this exception.
+     *
+     * @return a new builder
+     */
+    public static UUIDOutOfOrderExceptionBuilder builder() {
+        return new UUIDOutOfOrderExceptionBuilder();
+    }
+
+    /**
+     * Builder for {@link UUIDOutOfOrderException}.
+     */
+    public static final class UUIDOutOfOrderExceptionBuilder {
+
+        private String field;
+        private UUID value;
+        private UUID previous;
+
+        private UUIDOutOfOrderExceptionBuilder() {
+        }
+
+        /**
+         * Set the field name.
+         *
+         * @param field field name
+         * @return the builder
+         */
+        public UUIDOutOfOrderExceptionBuilder field(String field) {
+            this.field = field;
+
+            return this;
+        }
+
+        /**
+         * Set the actual UUID.
+         *
+         * @param value actual UUID
+         * @return the builder
+         */
+        public UUIDOutOfOrderExceptionBuilder value(UUID value) {
+            this.value = value;
+
+            return this;
+        }
+
+        /**
+         * Set the previous UUID, the actual one should have been after.
+         *
+         * @param previous previous UUID
+         * @return the builder
+         */
+        public UUIDOutOfOrderExceptionBuilder previous(UUID previous) {
+            this.previous = previous;
+
+            return this;
+        }
+
+        private String message() {
+            return "The UUID %s in \"%s\" must be after %s".formatted(value, field, previous);
+        }
+
+        /**
+         * Build the exception.
+         *
+         * @return the exception
+         */
+        public UUIDOutOfOrderException build() {
+            return new UUIDOutOfOrderException(this);
+        }
+    }
+
+    @Override
+    public AssertionErrorType type() {
+        return AssertionErrorType.UUID_OUT_OF_ORDER;
+    }
+
+    @Override
+    public Map<String, String> parameters() {
+        return Map.of("previous", previous);
+    }
+}
@@ -0,0 +1,210 @@
+package io.github.sympol.pure.asserts;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Hand written scanners reading UUIDs in their canonical 36 characters form
+ * ({@code xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx}, hexadecimal digits in any
+ * case) without allocating or throwing.
+ *
+ * <p>
+ * Unlike {@link java.util.UUID#fromString(String)}, shorter groups, missing
+ * dashes and extra characters are rejected.
+ * </p>
+ */
+final class UUIDScanner {
+
+    static final int LENGTH = 36;
+
+    private static final int LEAST_SIGNIFICANT_START = 18;
+    private static final int HALF_LENGTH = 18;
+    private static final byte[] HEX_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(HEX_VALUES, (byte) -1);
+
+        for (int i = 0; i < 10; i++) {
+            HEX_VALUES['0' + i] = (byte) i;
+        }
+
+        for (int i = 0; i < 6; i++) {
+            HEX_VALUES['a' + i] = (byte) (10 + i);
+            HEX_VALUES['A' + i] = (byte) (10 + i);
+        }
+    }
+
+    private UUIDScanner() {
+    }
+
+    /**
+     * @param value
+     *              value to check
+     * @return true if the value is a canonical UUID
+     */
+    static boolean isCanonical(String value) {
+        if (value.length() != LENGTH) {
+            return false;
+        }
+
+        int invalid = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            char c = value.charAt(i);
+
+            if (isDashIndex(i)) {
+                invalid |= c == '-' ? 0 : -1;
+            } else {
+                invalid |= c < 128 ? HEX_VALUES[c] : -1;
+            }
+        }
+
+        // hex values are 4 bits so only invalid characters set other bits
+        return (invalid & ~0xF) == 0;
+    }
+
+    /**
+     * @param value
+     *              ASCII bytes to check
+     * @param offset
+     *              index of the first byte of the UUID
+     * @param length
+     *              number of bytes to read
+     * @return true if the bytes are a canonical UUID
+     */
+    static boolean isCanonical(byte[] value, int offset, int length) {
+        if (length != LENGTH) {
+            return false;
+        }
+
+        int invalid = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            byte c = value[offset + i];
+
+            if (isDashIndex(i)) {
+                invalid |= c == '-' ? 0 : -1;
+            } else {
+                invalid |= c >= 0 ? HEX_VALUES[c] : -1;
+            }
+        }
+
+        return (invalid & ~0xF) == 0;
+    }
+
+    /**
+     * @param value
+     *              buffer to check, from its position to its limit
+     * @return true if the remaining bytes are a canonical UUID
+     */
+    static boolean isCanonical(ByteBuffer value) {
+        if (value.hasArray()) {
+            return isCanonical(value.array(), value.arrayOffset() + value.position(), value.remaining());
+        }
+
+        if (value.remaining() != LENGTH) {
+            return false;
+        }
+
+        int position = value.position();
+        int invalid = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            byte c = value.get(position + i);
+
+            if (isDashIndex(i)) {
+                invalid |= c == '-' ? 0 : -1;
+            } else {
+                invalid |= c >= 0 ? HEX_VALUES[c] : -1;
+            }
+        }
+
+        return (invalid & ~0xF) == 0;
+    }
+
+    /**
+     * Read the most significant bits of a value checked by
+     * {@link #isCanonical(String)}.
+     */
+    static long mostSignificantBits(String value) {
+        return bits(value, 0);
+    }
+
+    /**
+     * Read the least significant bits of a value checked by
+     * {@link #isCanonical(String)}.
+     */
+    static long leastSignificantBits(String value) {
+        return bits(value, LEAST_SIGNIFICANT_START);
+    }
+
+    /**
+     * Read the most significant bits of bytes checked by
+     * {@link #isCanonical(byte[], int, int)}.
+     */
+    static long mostSignificantBits(byte[] value, int offset) {
+        return bits(value, offset, 0);
+    }
+
+    /**
+     * Read the least significant bits of bytes checked by
+     * {@link #isCanonical(byte[], int, int)}.
+     */
+    static long leastSignificantBits(byte[] value, int offset) {
+        return bits(value, offset, LEAST_SIGNIFICANT_START);
+    }
+
+    /**
+     * Read the most significant bits of a buffer checked by
+     * {@link #isCanonical(ByteBuffer)}.
+     */
+    static long mostSignificantBits(ByteBuffer value) {
+        return bits(value, 0);
+    }
+
+    /**
+     * Read the least significant bits of a buffer checked by
+     * {@link #isCanonical(ByteBuffer)}.
+     */
+    static long leastSignificantBits(ByteBuffer value) {
+        return bits(value, LEAST_SIGNIFICANT_START);
+    }
+
+    private static long bits(String value, int start) {
+        long result = 0;
+
+        for (int i = start; i < start + HALF_LENGTH; i++) {
+            if (!isDashIndex(i)) {
+                result = result << 4 | HEX_VALUES[value.charAt(i)];
+            }
+        }
+
+        return result;
+    }
+
+    private static long bits(byte[] value, int offset, int start) {
+        long result = 0;
+
+        for (int i = start; i < start + HALF_LENGTH; i++) {
+            if (!isDashIndex(i)) {
+                result = result << 4 | HEX_VALUES[value[offset + i]];
+            }
+        }
+
+        return result;
+    }
+
+    private static long bits(ByteBuffer value, int start) {
+        int position = value.position();
+        long result = 0;
+
+        for (int i = start; i < start + HALF_LENGTH; i++) {
+            if (!isDashIndex(i)) {
+                result = result << 4 | HEX_VALUES[value.get(position + i)];
+            }
+        }
+
+        return result;
+    }
+
+    private static boolean isDashIndex(int index) {
+        return index == 8 || index == 13 || index == 18 || index == 23;
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.sympol.pure.asserts;
+
+import java.util.Map;
+
+/**
+ * Exception thrown when a value is not one of the allowed values.
+ */
+public final class ValueNotAllowedException extends AssertionException {
+
+    private final String value;
+
+    private ValueNotAllowedException(String field, String value) {
+        super(field, message(field, value));
+        this.value = value;
+    }
+
+    /**
+     * Creates an exception for a value outside of the allowed ones.
+     *
+     * @param field name of the field
+     * @param value the rejected value
+     * @return a new ValueNotAllowedException
+     */
+    public static ValueNotAllowedException forValue(String field, String value) {
+        return new ValueNotAllowedException(field, value);
+    }
+
+    private static String message(String field, String value) {
+        return "The value \"%s\" in field \"%s\" is not one of the allowed values".formatted(value, field);
+    }
+
+    @Override
+    public AssertionErrorType type() {
+        return AssertionErrorType.VALUE_NOT_ALLOWED;
+    }
+
+    @Override
+    public Map<String, String> parameters() {
+        return Map.of("value", value);
+    }
+}
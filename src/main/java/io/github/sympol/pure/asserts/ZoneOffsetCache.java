@@ -0,0 +1,86 @@
+package io.github.sympol.pure.asserts;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Offset of zones cached until their next transition, so that resolving the
+ * offset of the current time is usually a map lookup and two long comparisons,
+ * without zone rules computations.
+ */
+final class ZoneOffsetCache {
+
+    private static final Map<ZoneId, Period> PERIODS = new ConcurrentHashMap<>();
+
+    private static volatile Period last;
+
+    private ZoneOffsetCache() {
+    }
+
+    /**
+     * @param zone
+     *                    zone to get the offset of
+     * @param epochSecond
+     *                    seconds since the epoch
+     * @return the total offset, in seconds, of the zone at the given time
+     */
+    static int offsetSeconds(ZoneId zone, long epochSecond) {
+        if (zone instanceof ZoneOffset) {
+            return ((ZoneOffset) zone).getTotalSeconds();
+        }
+
+        Period period = last;
+
+        if (period == null || !period.matches(zone, epochSecond)) {
+            period = PERIODS.get(zone);
+
+            if (period == null || !period.contains(epochSecond)) {
+                period = Period.at(zone, epochSecond);
+                PERIODS.put(zone, period);
+            }
+
+            last = period;
+        }
+
+        return period.offsetSeconds;
+    }
+
+    private static final class Period {
+
+        private final ZoneId zone;
+        private final int offsetSeconds;
+        private final long startSecond;
+        private final long endSecond;
+
+        private Period(ZoneId zone, int offsetSeconds, long startSecond, long endSecond) {
+            this.zone = zone;
+            this.offsetSeconds = offsetSeconds;
+            this.startSecond = startSecond;
+            this.endSecond = endSecond;
+        }
+
+        private static Period at(ZoneId zone, long epochSecond) {
+            ZoneRules rules = zone.getRules();
+            Instant instant = Instant.ofEpochSecond(epochSecond);
+
+            // only looking forward as the cache is used for the current time
+            ZoneOffsetTransition next = rules.nextTransition(instant);
+            long end = next == null ? Long.MAX_VALUE : next.toEpochSecond();
+
+            return new Period(zone, rules.getOffset(instant).getTotalSeconds(), epochSecond, end);
+        }
+
+        private boolean matches(ZoneId other, long epochSecond) {
+            return zone.equals(other) && contains(epochSecond);
+        }
+
+        private boolean contains(long epochSecond) {
+            return epochSecond >= startSecond && epochSecond < endSecond;
+        }
+    }
+}
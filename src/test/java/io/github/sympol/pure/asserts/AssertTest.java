@@ -1,17 +1,41 @@
 package io.github.sympol.pure.asserts;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AssertTest {
 
+    @AfterEach
+    void useSystemClock() {
+        Assert.useSystemClock();
+    }
+
     @Test
     void testNotNull_valid() {
         assertDoesNotThrow(() -> Assert.notNull("field", new Object()));
@@ -115,6 +139,27 @@ class AssertTest {
         assertThrows(StringTooLongException.class, () -> Assert.field("name", "ABCD").maxLength(3));
     }
 
+    @Test
+    void testStringAsserter_lengthBetween_valid() {
+        assertDoesNotThrow(() -> Assert.field("name", "ABC").lengthBetween(2, 3, false));
+        assertDoesNotThrow(() -> Assert.field("name", "   ").lengthBetween(0, 3, true));
+        assertDoesNotThrow(() -> Assert.field("name", (String) null).lengthBetween(0, 3, true));
+    }
+
+    @Test
+    void testStringAsserter_lengthBetween_invalid() {
+        assertThrows(StringTooShortException.class, () -> Assert.field("name", "A").lengthBetween(2, 3, false));
+        assertThrows(StringTooLongException.class, () -> Assert.field("name", "ABCD").lengthBetween(2, 3, false));
+        assertThrows(MissingMandatoryValueException.class, () -> Assert.field("name", "").lengthBetween(2, 3, false));
+        assertThrows(MissingMandatoryValueException.class, () -> Assert.field("name", "  ").lengthBetween(2, 3, false));
+        assertThrows(MissingMandatoryValueException.class,
+                () -> Assert.field("name", "   ").lengthBetween(5, 10, false));
+        assertThrows(MissingMandatoryValueException.class,
+                () -> Assert.field("name", "      ").lengthBetween(1, 3, false));
+        assertThrows(MissingMandatoryValueException.class,
+                () -> Assert.field("name", (String) null).lengthBetween(1, 3, true));
+    }
+
     @Test
     void testStringAsserter_matches_valid() {
         Pattern pattern = Pattern.compile("\\d+");
@@ -128,6 +173,125 @@ class AssertTest {
                 () -> Assert.field("age", "abc").matches(pattern, "Must be digits only."));
     }
 
+    @Test
+    void testStringAsserter_alphanumeric_valid() {
+        assertDoesNotThrow(() -> Assert.field("code", "Ab12").alphanumeric());
+    }
+
+    @Test
+    void testStringAsserter_alphanumeric_invalid() {
+        InvalidCharacterException exception = assertThrows(InvalidCharacterException.class,
+                () -> Assert.field("code", "Ab-12").alphanumeric());
+        assertEquals(Map.of("index", "2", "character", "-"), exception.parameters());
+    }
+
+    @Test
+    void testStringAsserter_hex() {
+        assertDoesNotThrow(() -> Assert.field("hash", "09afAF").hex());
+        assertThrows(InvalidCharacterException.class, () -> Assert.field("hash", "0g").hex());
+        assertThrows(MissingMandatoryValueException.class, () -> Assert.field("hash", (String) null).hex());
+    }
+
+    @Test
+    void testStringAsserter_base64() {
+        assertDoesNotThrow(() -> Assert.field("data", "aGVsbG8+/w==").base64());
+        assertThrows(InvalidCharacterException.class, () -> Assert.field("data", "aGVs_bG8").base64());
+    }
+
+    @Test
+    void testStringAsserter_allowedChars_unicodeFallback() {
+        CharClass letters = CharClass.range('a', 'z').union(CharClass.unicode(Character::isLetter));
+        assertDoesNotThrow(() -> Assert.field("name", "été𐐀").allowedChars(letters));
+        assertThrows(InvalidCharacterException.class, () -> Assert.field("name", "été!").allowedChars(letters));
+        assertThrows(InvalidCharacterException.class,
+                () -> Assert.field("name", "é").allowedChars(CharClass.PRINTABLE_ASCII));
+    }
+
+    @Test
+    void testStringAsserter_oneOf_valid() {
+        AllowedValues currencies = AllowedValues.of("EUR", "USD", "GBP", "CHF", "BTC", "XAU1");
+        assertDoesNotThrow(() -> Assert.field("currency", "GBP").oneOf(currencies));
+        assertDoesNotThrow(() -> Assert.field("currency", "XAU1").oneOf(currencies));
+    }
+
+    @Test
+    void testStringAsserter_oneOf_invalid() {
+        AllowedValues currencies = AllowedValues.of(List.of("EUR", "USD"));
+        ValueNotAllowedException exception = assertThrows(ValueNotAllowedException.class,
+                () -> Assert.field("currency", "JPY").oneOf(currencies));
+        assertEquals(Map.of("value", "JPY"), exception.parameters());
+        assertThrows(ValueNotAllowedException.class, () -> Assert.field("currency", "EURO").oneOf(currencies));
+        assertThrows(ValueNotAllowedException.class, () -> Assert.field("currency", "").oneOf(currencies));
+        assertThrows(MissingMandatoryValueException.class,
+                () -> Assert.field("currency", (String) null).oneOf(currencies));
+    }
+
+    @Test
+    void testStringAsserter_doesNotContainAny_valid() {
+        Denylist denylist = Denylist.of("he", "she", "his", "hers");
+        assertDoesNotThrow(() -> Assert.field("text", "a quiet cat").doesNotContainAny(denylist));
+        assertDoesNotThrow(() -> Assert.field("text", (String) null).doesNotContainAny(denylist));
+    }
+
+    @Test
+    void testStringAsserter_doesNotContainAny_invalid() {
+        Denylist denylist = Denylist.of("he", "she", "his", "hers");
+        ForbiddenTokenException exception = assertThrows(ForbiddenTokenException.class,
+                () -> Assert.field("text", "ushers").doesNotContainAny(denylist));
+        assertEquals(Map.of("token", "she", "offset", "1"), exception.parameters());
+    }
+
+    @Test
+    void testStringAsserter_doesNotContainAny_ignoreCase() {
+        Denylist denylist = Denylist.ofIgnoreCase(List.of("DROP TABLE", "abcd", "bc"));
+        assertDoesNotThrow(() -> Assert.field("text", "DROP TABLE").doesNotContainAny(Denylist.of("drop table")));
+        ForbiddenTokenException exception = assertThrows(ForbiddenTokenException.class,
+                () -> Assert.field("text", "x; drop Table users").doesNotContainAny(denylist));
+        assertEquals(Map.of("token", "DROP TABLE", "offset", "3"), exception.parameters());
+        exception = assertThrows(ForbiddenTokenException.class,
+                () -> Assert.field("text", "abcx").doesNotContainAny(denylist));
+        assertEquals(Map.of("token", "bc", "offset", "1"), exception.parameters());
+    }
+
+    @Test
+    void testStringAsserter_asInt_valid() {
+        assertEquals(-42, Assert.field("page", "-42").asInt().value());
+        assertEquals(Integer.MAX_VALUE, Assert.field("page", "+2147483647").asInt().value());
+        assertEquals(Integer.MIN_VALUE, Assert.field("page", "-2147483648").asInt().value());
+    }
+
+    @Test
+    void testStringAsserter_asInt_invalid() {
+        MalformedValueException exception = assertThrows(MalformedValueException.class,
+                () -> Assert.field("page", "2147483648").asInt());
+        assertEquals(Map.of("format", "int"), exception.parameters());
+        assertThrows(MalformedValueException.class, () -> Assert.field("page", "").asInt());
+        assertThrows(MalformedValueException.class, () -> Assert.field("page", "-").asInt());
+        assertThrows(MalformedValueException.class, () -> Assert.field("page", "1_000").asInt());
+        assertThrows(MalformedValueException.class, () -> Assert.field("page", "\u0661").asInt());
+        assertThrows(NumberValueTooLowException.class, () -> Assert.field("page", "0").asInt().min(1));
+    }
+
+    @Test
+    void testStringAsserter_asLong() {
+        assertEquals(Long.MIN_VALUE, Assert.field("id", "-9223372036854775808").asLong().value());
+        assertEquals(Long.MAX_VALUE, Assert.field("id", "9223372036854775807").asLong().value());
+        assertThrows(MalformedValueException.class, () -> Assert.field("id", "9223372036854775808").asLong());
+        assertThrows(MalformedValueException.class, () -> Assert.field("id", "-9223372036854775809").asLong());
+        assertThrows(MissingMandatoryValueException.class, () -> Assert.field("id", (String) null).asLong());
+    }
+
+    @Test
+    void testStringAsserter_asDecimal() {
+        assertEquals(new BigDecimal("-12.50"), Assert.field("amount", "-12.50").asDecimal().value());
+        assertEquals(new BigDecimal("1E+3"), Assert.field("amount", "1e3").asDecimal().value());
+        assertEquals(new BigDecimal(".5"), Assert.field("amount", ".5").asDecimal().value());
+        assertThrows(MalformedValueException.class, () -> Assert.field("amount", ".").asDecimal());
+        assertThrows(MalformedValueException.class, () -> Assert.field("amount", "1e").asDecimal());
+        assertThrows(MalformedValueException.class, () -> Assert.field("amount", "1e9999999999").asDecimal());
+        assertThrows(MalformedValueException.class, () -> Assert.field("amount", "1.2.3").asDecimal());
+    }
+
     // IntegerAsserter
     @Test
     void testIntegerAsserter_positive_valid() {
@@ -159,6 +323,84 @@ class AssertTest {
         assertThrows(NumberValueTooHighException.class, () -> Assert.field("score", 15).max(10));
     }
 
+    @Test
+    void testIntegerAsserter_between() {
+        IntRange percentage = IntRange.of(0, 100);
+        assertDoesNotThrow(() -> Assert.field("score", 0).between(percentage));
+        assertDoesNotThrow(() -> Assert.field("score", 100).between(percentage));
+        assertThrows(NumberValueTooLowException.class, () -> Assert.field("score", -1).between(percentage));
+        NumberValueTooHighException exception = assertThrows(NumberValueTooHighException.class,
+                () -> Assert.field("score", 101).between(percentage));
+        assertEquals(Map.of("max", "100", "value", "101"), exception.parameters());
+        assertThrows(MissingMandatoryValueException.class,
+                () -> Assert.field("score", (Integer) null).between(percentage));
+    }
+
+    @Test
+    void testIntegerAsserter_between_extremeBounds() {
+        IntRange all = IntRange.of(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertDoesNotThrow(() -> Assert.field("score", Integer.MIN_VALUE).between(all));
+        assertThrows(NumberValueTooLowException.class,
+                () -> Assert.field("score", Integer.MIN_VALUE).between(IntRange.of(-1, Integer.MAX_VALUE)));
+        assertThrows(IllegalArgumentException.class, () -> IntRange.of(2, 1));
+    }
+
+    @Test
+    void testLongAsserter_between() {
+        LongRange range = LongRange.of(Long.MIN_VALUE + 1, 10L);
+        assertDoesNotThrow(() -> Assert.field("val", 10L).between(range));
+        assertThrows(NumberValueTooLowException.class, () -> Assert.field("val", Long.MIN_VALUE).between(range));
+        assertThrows(NumberValueTooHighException.class, () -> Assert.field("val", 11L).between(range));
+    }
+
+    @Test
+    void testDoubleAndFloatAsserter_between() {
+        DoubleRange rate = DoubleRange.of(0, 1);
+        assertDoesNotThrow(() -> Assert.field("rate", 0.5).between(rate));
+        assertDoesNotThrow(() -> Assert.field("rate", 1f).between(rate));
+        assertThrows(NumberValueTooLowException.class, () -> Assert.field("rate", -0.1).between(rate));
+        assertThrows(NumberValueTooHighException.class, () -> Assert.field("rate", 1.5f).between(rate));
+    }
+
+    @Test
+    void testDoubleAndFloatAsserter_between_nan() {
+        DoubleRange rate = DoubleRange.of(0, 1);
+        assertThrows(NumberValueTooLowException.class, () -> Assert.field("rate", Double.NaN).between(rate));
+        assertThrows(NumberValueTooLowException.class, () -> Assert.field("rate", Float.NaN).between(rate));
+    }
+
+    @Test
+    void testBigDecimalAsserter_between() {
+        DecimalRange amount = DecimalRange.of(new BigDecimal("0.01"), new BigDecimal("100"));
+        assertDoesNotThrow(() -> Assert.field("amount", new BigDecimal("100.00")).between(amount));
+        assertThrows(NumberValueTooLowException.class,
+                () -> Assert.field("amount", new BigDecimal("0.001")).between(amount));
+        assertThrows(NumberValueTooHighException.class,
+                () -> Assert.field("amount", new BigDecimal("100.01")).between(amount));
+    }
+
+    @Test
+    void testIntegerAsserter_satisfiesInt() {
+        assertDoesNotThrow(() -> Assert.field("even", 4).satisfiesInt(v -> v % 2 == 0, "Must be even"));
+        assertThrows(MissingMandatoryValueException.class,
+                () -> Assert.field("even", 3).satisfiesInt(v -> v % 2 == 0, "Must be even"));
+        assertThrows(MissingMandatoryValueException.class,
+                () -> Assert.field("even", (Integer) null).satisfiesInt(v -> true, "Must be even"));
+    }
+
+    @Test
+    void testPrimitiveSatisfies_lazyMessage() {
+        assertDoesNotThrow(() -> Assert.field("val", 5L).satisfiesLong(v -> v > 0, () -> {
+            throw new AssertionError("message must not be computed");
+        }));
+        MissingMandatoryValueException exception = assertThrows(MissingMandatoryValueException.class,
+                () -> Assert.field("val", -5L).satisfiesLong(v -> v > 0, () -> "Must be positive, was " + -5L));
+        assertEquals("Must be positive, was -5", exception.getMessage());
+        assertThrows(MissingMandatoryValueException.class,
+                () -> Assert.field("val", 0.5f).satisfiesFloat(v -> v > 1, () -> "Must be over 1"));
+        assertDoesNotThrow(() -> Assert.field("val", 0.5).satisfiesDouble(Double::isFinite, "Must be finite"));
+    }
+
     // InstantAsserter
     @Test
     void testInstantAsserter_inPast_valid() {
@@ -210,6 +452,118 @@ class AssertTest {
         assertThrows(NumberValueTooLowException.class, () -> Assert.field("price", val).strictlyPositive());
     }
 
+    @Test
+    void testBigDecimalAsserter_longBounds() {
+        assertDoesNotThrow(() -> Assert.field("price", new BigDecimal("12.5")).min(12).max(13).over(-1).under(100));
+        assertDoesNotThrow(() -> Assert.field("price", new BigDecimal("-1E+30")).max(Long.MIN_VALUE));
+        assertDoesNotThrow(() -> Assert.field("price", new BigDecimal("0.001")).over(0).under(1));
+        assertThrows(NumberValueTooLowException.class, () -> Assert.field("price", new BigDecimal("11.99")).min(12));
+        assertThrows(NumberValueTooLowException.class, () -> Assert.field("price", new BigDecimal("-0.5")).positive());
+        assertThrows(NumberValueTooHighException.class,
+                () -> Assert.field("price", new BigDecimal("1E+19")).max(Long.MAX_VALUE));
+        assertThrows(NumberValueTooHighException.class,
+                () -> Assert.field("price", new BigDecimal("100.0")).under(100));
+    }
+
+    @Test
+    void testBigDecimalAsserter_longBounds_parameters() {
+        NumberValueTooLowException exception = assertThrows(NumberValueTooLowException.class,
+                () -> Assert.field("price", new BigDecimal("-1.50")).min(-1));
+        assertEquals(Map.of("min", "-1", "value", "-1.50"), exception.parameters());
+    }
+
+    @Test
+    void testBigDecimalAsserter_maxScale() {
+        assertDoesNotThrow(() -> Assert.field("price", new BigDecimal("10.25")).maxScale(2));
+        TooManyDigitsException exception = assertThrows(TooManyDigitsException.class,
+                () -> Assert.field("price", new BigDecimal("10.250")).maxScale(2));
+        assertEquals(Map.of("maxScale", "2", "scale", "3"), exception.parameters());
+    }
+
+    @Test
+    void testBigDecimalAsserter_hugeScale_shortMessage() {
+        BigDecimal tiny = new BigDecimal("1e-999999999");
+        BigDecimal huge = new BigDecimal("1e999999999");
+
+        TooManyDigitsException scale = assertThrows(TooManyDigitsException.class,
+                () -> Assert.field("price", tiny).maxScale(2));
+        NumberValueTooHighException high = assertThrows(NumberValueTooHighException.class,
+                () -> Assert.field("price", huge).max(10));
+
+        assertTrue(scale.getMessage().contains("1E-999999999"));
+        assertTrue(high.getMessage().length() < 200);
+        assertTrue(assertThrows(TooManyDigitsException.class,
+                () -> Assert.field("price", new BigDecimal("0.00100")).maxScale(2)).getMessage().contains("0.00100"));
+    }
+
+    @Test
+    void testBigDecimalAsserter_maxPrecision() {
+        assertDoesNotThrow(() -> Assert.field("price", new BigDecimal("123.45")).maxPrecision(5));
+        assertThrows(TooManyDigitsException.class,
+                () -> Assert.field("price", new BigDecimal("123.456")).maxPrecision(5));
+    }
+
+    // BigIntegerAsserter
+    @Test
+    void testBigIntegerAsserter_valid() {
+        BigInteger huge = BigInteger.TWO.pow(200);
+        assertDoesNotThrow(() -> Assert.field("id", huge).strictlyPositive().min(Long.MAX_VALUE).maxBitLength(201));
+        assertDoesNotThrow(() -> Assert.field("id", huge.negate()).max(-1).under(huge.negate().add(BigInteger.ONE)));
+        assertDoesNotThrow(() -> Assert.field("id", BigInteger.ZERO).positive().max(BigInteger.ZERO));
+    }
+
+    @Test
+    void testBigIntegerAsserter_invalid() {
+        BigInteger huge = BigInteger.TWO.pow(200);
+        assertThrows(NumberValueTooHighException.class, () -> Assert.field("id", huge).max(Long.MAX_VALUE));
+        assertThrows(NumberValueTooLowException.class, () -> Assert.field("id", huge.negate()).min(Long.MIN_VALUE));
+        assertThrows(NumberValueTooLowException.class, () -> Assert.field("id", BigInteger.ZERO).strictlyPositive());
+        assertThrows(NumberValueTooHighException.class,
+                () -> Assert.field("id", huge).under(huge.subtract(BigInteger.ONE)));
+        assertThrows(NumberValueTooLowException.class,
+                () -> Assert.field("id", huge.negate()).over(huge.negate().add(BigInteger.ONE)));
+        TooManyDigitsException exception = assertThrows(TooManyDigitsException.class,
+                () -> Assert.field("id", huge).maxBitLength(200));
+        assertEquals(Map.of("maxBitLength", "200", "bitLength", "201"), exception.parameters());
+        assertThrows(MissingMandatoryValueException.class, () -> Assert.field("id", (BigInteger) null).positive());
+    }
+
+    @Test
+    void testBigIntegerAsserter_hugeValue_renderedByBitLength() {
+        BigInteger huge = BigInteger.TWO.pow(1_000_000);
+
+        TooManyDigitsException bits = assertThrows(TooManyDigitsException.class,
+                () -> Assert.field("id", huge).maxBitLength(64));
+        NumberValueTooLowException low = assertThrows(NumberValueTooLowException.class,
+                () -> Assert.field("id", huge.negate()).min(0));
+
+        assertTrue(bits.getMessage().contains("(integer of 1000001 bits)"));
+        assertTrue(low.getMessage().contains("-(integer of 1000000 bits)"));
+    }
+
+    // FixedDecimalAsserter
+    @Test
+    void testFixedDecimalAsserter_valid() {
+        assertDoesNotThrow(() -> Assert.decimal("amount", 1_050, 2).strictlyPositive().min(10).max(11).maxScale(2));
+        assertDoesNotThrow(() -> Assert.decimal("amount", 5, -3).min(5_000).max(5_000));
+        assertDoesNotThrow(() -> Assert.decimal("amount", Long.MAX_VALUE, 0).min(1, 18).max(Long.MAX_VALUE));
+        assertEquals(new BigDecimal("10.50"), Assert.decimal("amount", 1_050, 2).value());
+    }
+
+    @Test
+    void testFixedDecimalAsserter_invalid() {
+        NumberValueTooLowException tooLow = assertThrows(NumberValueTooLowException.class,
+                () -> Assert.decimal("amount", 999, 2).min(10));
+        assertEquals(Map.of("min", "10", "value", "9.99"), tooLow.parameters());
+        assertThrows(NumberValueTooLowException.class, () -> Assert.decimal("amount", 0, 2).strictlyPositive());
+        assertThrows(NumberValueTooLowException.class, () -> Assert.decimal("amount", -1, 30).positive());
+        assertThrows(NumberValueTooLowException.class, () -> Assert.decimal("amount", 1, 2).min(1, 1));
+        assertThrows(NumberValueTooHighException.class,
+                () -> Assert.decimal("amount", 1, -30).max(Long.MAX_VALUE));
+        assertThrows(NumberValueTooHighException.class, () -> Assert.decimal("amount", 1_000, 2).under(10));
+        assertThrows(TooManyDigitsException.class, () -> Assert.decimal("amount", 1_000, 3).maxScale(2));
+    }
+
     // CollectionAsserter
     @Test
     void testCollectionAsserter_maxSize_valid() {
@@ -235,6 +589,61 @@ class AssertTest {
         assertThrows(NullElementInCollectionException.class, () -> Assert.field("list", col).noNullElement());
     }
 
+    @Test
+    void testCollectionAsserter_noNullElement_nullHostileCollections_valid() {
+        Set<Integer> concurrent = ConcurrentHashMap.newKeySet();
+        concurrent.add(1);
+
+        assertDoesNotThrow(() -> Assert.field("list", List.of("a")).noNullElement());
+        assertDoesNotThrow(() -> Assert.field("list", List.of("a", "b", "c")).noNullElement());
+        assertDoesNotThrow(() -> Assert.field("set", Set.of("a", "b", "c")).noNullElement());
+        assertDoesNotThrow(() -> Assert.field("set", EnumSet.of(DayOfWeek.MONDAY)).noNullElement());
+        assertDoesNotThrow(() -> Assert.field("deque", new ArrayDeque<>(List.of(1, 2))).noNullElement());
+        assertDoesNotThrow(() -> Assert.field("set", concurrent).noNullElement());
+        assertDoesNotThrow(() -> Assert.field("set", new TreeSet<>(List.of(2, 1))).noNullElement());
+    }
+
+    @Test
+    void testCollectionAsserter_noNullElement_customCollection_invalid() {
+        Collection<String> broken = new AbstractCollection<>() {
+            @Override
+            public Iterator<String> iterator() {
+                return Arrays.asList("a", null).iterator();
+            }
+
+            @Override
+            public int size() {
+                return 2;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                throw new NullPointerException("broken");
+            }
+        };
+
+        assertThrows(NullElementInCollectionException.class, () -> Assert.field("list", broken).noNullElement());
+    }
+
+    @Test
+    void testCollectionAsserter_noNullElement_streamList_invalid() {
+        List<Integer> col = Stream.of(1, 2, null).toList();
+        assertThrows(NullElementInCollectionException.class, () -> Assert.field("list", col).noNullElement());
+    }
+
+    @Test
+    void testCollectionAsserter_noNullElement_nonRandomAccess_invalid() {
+        Set<String> hashSet = new HashSet<>(Arrays.asList("a", null));
+        LinkedList<String> linkedList = new LinkedList<>(Arrays.asList("a", null));
+        TreeSet<String> treeSet = new TreeSet<>(Comparator.nullsFirst(Comparator.<String>naturalOrder()));
+        treeSet.add("a");
+        treeSet.add(null);
+
+        assertThrows(NullElementInCollectionException.class, () -> Assert.field("set", hashSet).noNullElement());
+        assertThrows(NullElementInCollectionException.class, () -> Assert.field("list", linkedList).noNullElement());
+        assertThrows(NullElementInCollectionException.class, () -> Assert.field("set", treeSet).noNullElement());
+    }
+
     // DoubleAsserter
     @Test
     void testDoubleAsserter_min_valid() {
@@ -323,12 +732,312 @@ class AssertTest {
         assertThrows(TooManyElementsException.class, () -> Assert.field("arr", arr).maxSize(2));
     }
 
+    @Test
+    void testArrayAsserter_noNullElement_valid() {
+        String[] arr = { "a", "b" };
+        assertDoesNotThrow(() -> Assert.field("arr", arr).noNullElement());
+    }
+
     @Test
     void testArrayAsserter_noNullElement_invalid() {
         String[] arr = { "a", null };
         assertThrows(NullElementInCollectionException.class, () -> Assert.field("arr", arr).noNullElement());
     }
 
+    @Test
+    void testCollectionAsserter_noDuplicates_valid() {
+        assertDoesNotThrow(() -> Assert.field("skus", List.of("a", "b", "c")).noDuplicates());
+        assertDoesNotThrow(() -> Assert.field("skus", List.of("a", "bb")).noDuplicatesByInt(String::length));
+    }
+
+    @Test
+    void testCollectionAsserter_noDuplicates_invalid() {
+        DuplicateElementException exception = assertThrows(DuplicateElementException.class,
+                () -> Assert.field("skus", List.of("a", "b", "c", "b")).noDuplicates());
+
+        assertEquals("skus", exception.field());
+        assertEquals(Map.of("index", "3", "firstIndex", "1"), exception.parameters());
+    }
+
+    @Test
+    void testCollectionAsserter_noDuplicatesBy_invalid() {
+        List<String> emails = List.of("a@b.io", "c@d.io", "A@B.io");
+
+        DuplicateElementException exception = assertThrows(DuplicateElementException.class,
+                () -> Assert.field("emails", emails).noDuplicatesBy(email -> email.toLowerCase(Locale.ROOT)));
+
+        assertEquals(Map.of("index", "2", "firstIndex", "0"), exception.parameters());
+    }
+
+    @Test
+    void testCollectionAsserter_noDuplicatesByLong_invalid() {
+        List<String> skus = List.of("1", "2", "2");
+
+        assertThrows(DuplicateElementException.class,
+                () -> Assert.field("skus", skus).noDuplicatesByLong(Long::parseLong));
+        assertThrows(NullElementInCollectionException.class,
+                () -> Assert.field("skus", Arrays.asList("1", null)).noDuplicatesByLong(Long::parseLong));
+    }
+
+    @Test
+    void testElementChecks_nullContainer() {
+        Collection<String> collection = null;
+        String[] array = null;
+        Map<String, String> map = null;
+
+        assertDoesNotThrow(() -> Assert.field("skus", collection).noNullElement().noDuplicates()
+                .noDuplicatesBy(String::trim).noDuplicatesByInt(String::length).noDuplicatesByLong(Long::parseLong)
+                .each(SKU).eachReportingAll(SKU).sorted().sorted(Comparator.reverseOrder()).strictlyIncreasing()
+                .sortedBy(String::length));
+        assertDoesNotThrow(() -> Assert.field("skus", array).noNullElement().noDuplicates()
+                .noDuplicatesBy(String::trim).noDuplicatesByInt(String::length).noDuplicatesByLong(Long::parseLong)
+                .each(SKU).eachReportingAll(SKU).sorted().sorted(Comparator.reverseOrder()).strictlyIncreasing()
+                .sortedBy(String::length));
+        assertDoesNotThrow(() -> Assert.field("skus", map).each(SKU).eachReportingAll(SKU));
+        assertDoesNotThrow(() -> Assert.field("ids", (int[]) null).noDuplicates().sorted().strictlyIncreasing());
+        assertDoesNotThrow(() -> Assert.field("ids", (long[]) null).noDuplicates().sorted().strictlyIncreasing()
+                .allBetween(0, 1).sumAtMost(0));
+        assertDoesNotThrow(() -> Assert.field("ratios", (double[]) null).sorted().strictlyIncreasing()
+                .allBetween(0, 1).sumAtMost(0));
+        assertDoesNotThrow(() -> Assert.field("skus", collection).allBetween(String::length, 1, 3)
+                .sumAtMost(String::length, 6));
+        assertThrows(MissingMandatoryValueException.class, () -> Assert.field("skus", collection).notNull());
+    }
+
+    @Test
+    void testArrayAsserter_noDuplicates_valid() {
+        String[] arr = { "a", "b" };
+        assertDoesNotThrow(() -> Assert.field("arr", arr).noDuplicates());
+    }
+
+    @Test
+    void testArrayAsserter_noDuplicatesByInt_invalid() {
+        String[] arr = { "a", "bb", "c" };
+        DuplicateElementException exception = assertThrows(DuplicateElementException.class,
+                () -> Assert.field("arr", arr).noDuplicatesByInt(String::length));
+
+        assertEquals(Map.of("index", "2", "firstIndex", "0"), exception.parameters());
+    }
+
+    @Test
+    void testIntArrayAsserter_noDuplicates() {
+        assertDoesNotThrow(() -> Assert.field("ids", new int[] { 1, 2, 3 }).noDuplicates());
+
+        DuplicateElementException exception = assertThrows(DuplicateElementException.class,
+                () -> Assert.field("ids", new int[] { 1, 2, -1, 2 }).noDuplicates());
+        assertEquals(Map.of("index", "3", "firstIndex", "1"), exception.parameters());
+    }
+
+    @Test
+    void testLongArrayAsserter_noDuplicates_manyValues() {
+        long[] values = new long[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) i << 32;
+        }
+        assertDoesNotThrow(() -> Assert.field("ids", values).noDuplicates());
+
+        values[9_999] = values[5_000];
+        DuplicateElementException exception = assertThrows(DuplicateElementException.class,
+                () -> Assert.field("ids", values).noDuplicates());
+        assertEquals(Map.of("index", "9999", "firstIndex", "5000"), exception.parameters());
+    }
+
+    @Test
+    void testLongArrayAsserter_noDuplicates() {
+        assertDoesNotThrow(() -> Assert.field("ids", new long[] { 0, Long.MIN_VALUE }).noDuplicates());
+        assertThrows(DuplicateElementException.class,
+                () -> Assert.field("ids", new long[] { Long.MAX_VALUE, Long.MAX_VALUE }).noDuplicates());
+    }
+
+    @Test
+    void testCollectionAsserter_sorted_valid() {
+        assertDoesNotThrow(() -> Assert.field("dates", List.of(1, 2, 2, 3)).sorted());
+        assertDoesNotThrow(() -> Assert.field("dates", List.<Integer>of()).sorted().strictlyIncreasing());
+        assertDoesNotThrow(() -> Assert.field("dates", new ArrayDeque<>(List.of(3, 2, 1)))
+                .sorted(Comparator.reverseOrder()));
+        assertDoesNotThrow(() -> Assert.field("names", Arrays.asList(null, "a"))
+                .sorted(Comparator.nullsFirst(Comparator.naturalOrder())));
+    }
+
+    @Test
+    void testCollectionAsserter_sorted_invalid() {
+        ElementOutOfOrderException exception = assertThrows(ElementOutOfOrderException.class,
+                () -> Assert.field("dates", List.of(1, 2, 4, 3)).sorted());
+
+        assertEquals("dates", exception.field());
+        assertEquals("3", exception.parameters().get("index"));
+        assertThrows(NullElementInCollectionException.class,
+                () -> Assert.field("dates", Arrays.asList(1, null)).sorted());
+    }
+
+    @Test
+    void testCollectionAsserter_strictlyIncreasing_invalid() {
+        ElementOutOfOrderException exception = assertThrows(ElementOutOfOrderException.class,
+                () -> Assert.field("cursors", List.of("a", "b", "b")).strictlyIncreasing());
+
+        assertEquals("2", exception.parameters().get("index"));
+    }
+
+    @Test
+    void testCollectionAsserter_sortedBy() {
+        assertDoesNotThrow(() -> Assert.field("names", List.of("a", "bb", "cc")).sortedBy(String::length));
+
+        ElementOutOfOrderException exception = assertThrows(ElementOutOfOrderException.class,
+                () -> Assert.field("names", List.of("a", "bbb", "cc")).sortedBy(String::length));
+        assertEquals("2", exception.parameters().get("index"));
+    }
+
+    @Test
+    void testSortedBy_nullKey() {
+        MissingMandatoryValueException exception = assertThrows(MissingMandatoryValueException.class,
+                () -> Assert.field("names", List.of("a", "b")).sortedBy(name -> name.equals("a") ? null : name));
+        String[] arr = { "a", "b" };
+
+        assertEquals("names[0]", exception.field());
+        assertThrows(MissingMandatoryValueException.class,
+                () -> Assert.field("arr", arr).sortedBy(name -> name.equals("b") ? null : name));
+    }
+
+    @Test
+    void testArrayAsserter_sorted() {
+        String[] sorted = { "a", "b", "b" };
+        String[] unsorted = { "b", "a" };
+
+        assertDoesNotThrow(() -> Assert.field("arr", sorted).sorted());
+        assertDoesNotThrow(() -> Assert.field("arr", unsorted).sorted(Comparator.reverseOrder()));
+        assertDoesNotThrow(() -> Assert.field("arr", sorted).sortedBy(String::length));
+        assertThrows(ElementOutOfOrderException.class, () -> Assert.field("arr", sorted).strictlyIncreasing());
+
+        ElementOutOfOrderException exception = assertThrows(ElementOutOfOrderException.class,
+                () -> Assert.field("arr", unsorted).sorted());
+        assertEquals("1", exception.parameters().get("index"));
+    }
+
+    @Test
+    void testPrimitiveArrayAsserter_sorted() {
+        assertDoesNotThrow(() -> Assert.field("ints", new int[] { 1, 1, 2 }).sorted());
+        assertDoesNotThrow(() -> Assert.field("longs", new long[] { -1, 1, 1 }).sorted());
+        assertDoesNotThrow(() -> Assert.field("doubles", new double[] { 0.5, 0.5, 1 }).sorted());
+
+        assertThrows(ElementOutOfOrderException.class, () -> Assert.field("ints", new int[] { 2, 1 }).sorted());
+        assertThrows(ElementOutOfOrderException.class, () -> Assert.field("longs", new long[] { 2, 1 }).sorted());
+        assertThrows(ElementOutOfOrderException.class,
+                () -> Assert.field("doubles", new double[] { 1, Double.NaN }).sorted());
+
+        ElementOutOfOrderException first = assertThrows(ElementOutOfOrderException.class,
+                () -> Assert.field("doubles", new double[] { Double.NaN, 1 }).sorted());
+        assertEquals("0", first.parameters().get("index"));
+        assertThrows(ElementOutOfOrderException.class,
+                () -> Assert.field("doubles", new double[] { Double.NaN }).sorted());
+        assertThrows(ElementOutOfOrderException.class,
+                () -> Assert.field("doubles", new double[] { Double.NaN }).strictlyIncreasing());
+    }
+
+    // ElementRule
+    private static final ElementRule<String> SKU = (field, element) -> Assert.field(field, element).notBlank()
+            .maxLength(3);
+
+    @Test
+    void testCollectionAsserter_each_valid() {
+        assertDoesNotThrow(() -> Assert.field("skus", List.of("a", "bc")).each(SKU));
+        assertDoesNotThrow(() -> Assert.field("skus", (Collection<String>) null).each(SKU));
+    }
+
+    @Test
+    void testCollectionAsserter_each_invalid() {
+        StringTooLongException exception = assertThrows(StringTooLongException.class,
+                () -> Assert.field("skus", List.of("a", "bcde", "")).each(SKU));
+
+        assertEquals("skus[1]", exception.field());
+    }
+
+    @Test
+    void testCollectionAsserter_eachReportingAll_invalid() {
+        InvalidElementsException exception = assertThrows(InvalidElementsException.class,
+                () -> Assert.field("skus", List.of("a", "bcde", " ")).eachReportingAll(SKU));
+
+        assertEquals(AssertionErrorType.INVALID_ELEMENTS, exception.type());
+        assertEquals(2, exception.errors().size());
+        assertEquals("skus[1]", exception.errors().get(0).field());
+        assertEquals(MissingMandatoryValueException.class, exception.errors().get(1).getClass());
+        assertEquals("skus[2]", exception.errors().get(1).field());
+        assertEquals(Map.of("count", "2", "reported", "2"), exception.parameters());
+    }
+
+    @Test
+    void testCollectionAsserter_eachReportingAll_capped() {
+        List<String> skus = Collections.nCopies(1_000, "toolong");
+
+        InvalidElementsException capped = assertThrows(InvalidElementsException.class,
+                () -> Assert.field("skus", skus).eachReportingAll(SKU));
+        InvalidElementsException custom = assertThrows(InvalidElementsException.class,
+                () -> Assert.field("skus", skus).eachReportingAll(SKU, 3));
+
+        assertEquals(1_000, capped.count());
+        assertEquals(100, capped.errors().size());
+        assertEquals("skus[99]", capped.errors().get(99).field());
+        assertTrue(capped.getMessage().endsWith("; ..."));
+        assertTrue(capped.getMessage().length() < 2_000);
+        assertEquals(Map.of("count", "1000", "reported", "3"), custom.parameters());
+        assertThrows(IllegalArgumentException.class, () -> Assert.field("skus", skus).eachReportingAll(SKU, 0));
+    }
+
+    @Test
+    void testCollectionAsserter_eachReportingAll_checksOncePastMaxErrors() {
+        List<String> skus = Collections.nCopies(10, "toolong");
+        List<String> fields = new ArrayList<>();
+        ElementRule<String> rule = (field, element) -> {
+            fields.add(field);
+            SKU.check(field, element);
+        };
+
+        InvalidElementsException exception = assertThrows(InvalidElementsException.class,
+                () -> Assert.field("skus", skus).eachReportingAll(rule, 3));
+
+        assertEquals(10, exception.count());
+        assertEquals(13, fields.size());
+        assertEquals(List.of("skus", "skus[0]", "skus", "skus[1]", "skus", "skus[2]", "skus"), fields.subList(0, 7));
+    }
+
+    @Test
+    void testArrayAsserter_each_invalid() {
+        String[] arr = { "a", null };
+        MissingMandatoryValueException exception = assertThrows(MissingMandatoryValueException.class,
+                () -> Assert.field("arr", arr).each(SKU));
+
+        assertEquals("arr[1]", exception.field());
+    }
+
+    @Test
+    void testArrayAsserter_eachReportingAll_valid() {
+        String[] arr = { "a", "b" };
+        assertDoesNotThrow(() -> Assert.field("arr", arr).eachReportingAll(SKU));
+    }
+
+    @Test
+    void testMapAsserter_each_valid() {
+        assertDoesNotThrow(() -> Assert.field("prices", Map.of("EUR", 10L))
+                .each((field, price) -> Assert.field(field, price).positive()));
+    }
+
+    @Test
+    void testMapAsserter_each_invalid() {
+        NumberValueTooLowException exception = assertThrows(NumberValueTooLowException.class,
+                () -> Assert.field("prices", Map.of("EUR", -1L))
+                        .each((field, price) -> Assert.field(field, price).positive()));
+
+        assertEquals("prices[EUR]", exception.field());
+    }
+
+    @Test
+    void testMapAsserter_eachReportingAll_invalid() {
+        InvalidElementsException exception = assertThrows(InvalidElementsException.class,
+                () -> Assert.field("prices", Map.of("EUR", -1L))
+                        .eachReportingAll((field, price) -> Assert.field(field, price).positive()));
+
+        assertEquals("prices[EUR]", exception.errors().get(0).field());
+    }
+
     // UUIDAsserter
     @Test
     void testUUIDAsserter_isNotNil_valid() {
@@ -382,4 +1091,661 @@ class AssertTest {
         assertThrows(NotAfterTimeException.class, () -> Assert.field("date", past).inFuture());
     }
 
-}
\ No newline at end of file
+    // Primitive array aggregates
+    @Test
+    void testIntArrayAsserter_allBetween_valid() {
+        assertDoesNotThrow(() -> Assert.field("samples", new int[] { 1, 5, 10 }).allBetween(1, 10));
+    }
+
+    @Test
+    void testIntArrayAsserter_allBetween_invalid() {
+        NumberValueTooHighException exception = assertThrows(NumberValueTooHighException.class,
+                () -> Assert.field("samples", new int[] { 1, 11, 5 }).allBetween(1, 10));
+        assertEquals("1", exception.parameters().get("index"));
+    }
+
+    @Test
+    void testIntArrayAsserter_nullArray() {
+        int[] samples = null;
+        assertDoesNotThrow(() -> Assert.field("samples", samples).allBetween(0, 1).sumAtMost(0));
+        assertThrows(MissingMandatoryValueException.class, () -> Assert.field("samples", samples).meanBetween(0, 1));
+        assertThrows(MissingMandatoryValueException.class, () -> Assert.field("samples", samples).notNull());
+    }
+
+    @Test
+    void testLongArrayAsserter_sumAtMost_valid() {
+        assertDoesNotThrow(() -> Assert.field("amounts", new long[] { Long.MAX_VALUE, Long.MAX_VALUE, -Long.MAX_VALUE })
+                .sumAtMost(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testLongArrayAsserter_sumAtMost_invalid() {
+        NumberValueTooHighException exception = assertThrows(NumberValueTooHighException.class,
+                () -> Assert.field("amounts", new long[] { Long.MAX_VALUE, Long.MAX_VALUE }).sumAtMost(Long.MAX_VALUE));
+        assertEquals("18446744073709551614", exception.parameters().get("value"));
+    }
+
+    @Test
+    void testLongArrayAsserter_meanBetween_valid() {
+        assertDoesNotThrow(() -> Assert.field("amounts", new long[] { Long.MAX_VALUE, Long.MAX_VALUE })
+                .meanBetween(9.2e18, 9.3e18));
+    }
+
+    @Test
+    void testLongArrayAsserter_meanBetween_empty() {
+        assertThrows(MissingMandatoryValueException.class,
+                () -> Assert.field("amounts", new long[0]).meanBetween(0, 1));
+    }
+
+    @Test
+    void testDoubleArrayAsserter_sumAtMost_compensated() {
+        double[] values = { 1, 1e100, 1, -1e100 };
+        assertDoesNotThrow(() -> Assert.field("values", values).sumAtMost(2));
+        assertThrows(NumberValueTooHighException.class, () -> Assert.field("values", values).sumAtMost(1.5));
+    }
+
+    @Test
+    void testDoubleArrayAsserter_sumAtMost_overflow() {
+        double[] values = { Double.MAX_VALUE, Double.MAX_VALUE };
+        assertThrows(NumberValueTooHighException.class, () -> Assert.field("values", values).sumAtMost(1.0));
+        assertThrows(NumberValueTooHighException.class,
+                () -> Assert.field("values", new double[] { 1, Double.NaN }).sumAtMost(10));
+    }
+
+    @Test
+    void testDoubleArrayAsserter_allBetween_nan() {
+        NumberValueTooLowException exception = assertThrows(NumberValueTooLowException.class,
+                () -> Assert.field("values", new double[] { 0.5, Double.NaN }).allBetween(0, 1));
+        assertEquals("1", exception.parameters().get("index"));
+        assertThrows(NumberValueTooLowException.class,
+                () -> Assert.field("values", new double[] { 1, Double.NaN }).meanBetween(0, 1));
+    }
+
+    @Test
+    void testDoubleArrayAsserter_meanBetween_invalid() {
+        assertThrows(NumberValueTooLowException.class,
+                () -> Assert.field("values", new double[] { 1, 2, 3 }).meanBetween(2.5, 3));
+    }
+
+    @Test
+    void testStrictlyIncreasing_valid() {
+        assertDoesNotThrow(() -> Assert.field("ids", new int[] { 1, 2, 3 }).strictlyIncreasing());
+        assertDoesNotThrow(() -> Assert.field("ids", new long[0]).strictlyIncreasing());
+    }
+
+    @Test
+    void testStrictlyIncreasing_invalid() {
+        ElementOutOfOrderException exception = assertThrows(ElementOutOfOrderException.class,
+                () -> Assert.field("ids", new long[] { 1, 2, 2 }).strictlyIncreasing());
+        assertEquals(Map.of("index", "2"), exception.parameters());
+        assertThrows(ElementOutOfOrderException.class,
+                () -> Assert.field("values", new double[] { 1, Double.NaN }).strictlyIncreasing());
+    }
+
+    @Test
+    void testCollectionAsserter_aggregates_valid() {
+        List<String> words = List.of("a", "bb", "ccc");
+        assertDoesNotThrow(() -> Assert.field("words", words)
+                .allBetween(String::length, 1, 3)
+                .sumAtMost(String::length, 6)
+                .meanBetween(String::length, 2, 2));
+    }
+
+    @Test
+    void testCollectionAsserter_aggregates_invalid() {
+        List<String> words = Arrays.asList("a", "bb", "ccc");
+        NumberValueTooLowException exception = assertThrows(NumberValueTooLowException.class,
+                () -> Assert.field("words", words).allBetween(String::length, 2, 3));
+        assertEquals("0", exception.parameters().get("index"));
+        assertThrows(NumberValueTooHighException.class,
+                () -> Assert.field("words", words).sumAtMost(String::length, 5));
+        assertThrows(NullElementInCollectionException.class,
+                () -> Assert.field("words", Arrays.asList("a", null)).meanBetween(String::length, 0, 1));
+    }
+
+    // Clock
+    @Test
+    void testUseClock_instant() {
+        Instant now = Instant.parse("2026-03-01T10:00:00Z");
+        Assert.useClock(Clock.fixed(now, ZoneOffset.UTC));
+
+        assertDoesNotThrow(() -> Assert.field("date", now).inPast().inFuture());
+        assertThrows(NotBeforeTimeException.class, () -> Assert.field("date", now.plusNanos(1)).inPast());
+        assertThrows(NotAfterTimeException.class, () -> Assert.field("date", now.minusNanos(1)).inFuture());
+    }
+
+    @Test
+    void testUseClock_localDate() {
+        Assert.useClock(Clock.fixed(Instant.parse("2026-03-01T23:30:00Z"), ZoneOffset.ofHours(2)));
+
+        LocalDate today = LocalDate.of(2026, 3, 2);
+        assertDoesNotThrow(() -> Assert.field("date", today).inPast().inFuture());
+        assertThrows(RequiredValueException.class, () -> Assert.field("date", today.plusDays(1)).inPast());
+        assertThrows(RequiredValueException.class, () -> Assert.field("date", today.minusDays(1)).inFuture());
+    }
+
+    @Test
+    void testUseClock_null() {
+        assertThrows(MissingMandatoryValueException.class, () -> Assert.useClock(null));
+    }
+
+    @Test
+    void testCoarseClock() {
+        CoarseClock clock = CoarseClock.systemUTC();
+        long before = System.currentTimeMillis();
+        long deadline = before + 10_000;
+        while (clock.millis() < before && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+
+        long millis = clock.millis();
+        assertTrue(millis >= before);
+        assertTrue(clock.millis() >= millis);
+        assertTrue(clock.instant().toEpochMilli() >= millis);
+        assertEquals(ZoneOffset.UTC, clock.getZone());
+        assertEquals(ZoneOffset.ofHours(1), clock.withZone(ZoneOffset.ofHours(1)).getZone());
+
+        Assert.useClock(clock);
+        assertDoesNotThrow(() -> Assert.field("date", Instant.now().minusSeconds(1)).inPast());
+    }
+
+    @Test
+    void testCoarseClock_stop() {
+        CoarseClock clock = CoarseClock.systemUTC();
+        CoarseClock.stop();
+
+        long before = System.currentTimeMillis();
+        assertTrue(clock.millis() >= before);
+        assertTrue(clock.instant().toEpochMilli() >= before);
+
+        long deadline = before + 10_000;
+        while (coarseClockThreadAlive() && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertFalse(coarseClockThreadAlive());
+
+        assertEquals(clock, CoarseClock.systemUTC());
+        assertTrue(coarseClockThreadAlive());
+    }
+
+    private static boolean coarseClockThreadAlive() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .anyMatch(thread -> thread.getName().equals("pure-assert-coarse-clock"));
+    }
+
+    @Test
+    void testLocalDateAsserter_todayChangesAtZoneMidnight() {
+        ZoneOffset zone = ZoneOffset.ofHours(-5);
+        LocalDate date = LocalDate.of(2026, 3, 1);
+        Instant midnight = date.plusDays(1).atStartOfDay(zone).toInstant();
+
+        Assert.useClock(Clock.fixed(midnight.minusMillis(1), zone));
+        assertDoesNotThrow(() -> Assert.field("date", date).inFuture());
+        assertThrows(RequiredValueException.class, () -> Assert.field("date", date.plusDays(1)).inPast());
+
+        Assert.useClock(Clock.fixed(midnight, zone));
+        assertThrows(RequiredValueException.class, () -> Assert.field("date", date).inFuture());
+        assertDoesNotThrow(() -> Assert.field("date", date.plusDays(1)).inPast());
+    }
+
+    // Epoch asserters
+    @Test
+    void testEpochMillisAsserter_valid() {
+        assertDoesNotThrow(() -> Assert.epochMillis("timestamp", 1_000)
+                .after(999)
+                .afterOrAt(1_000)
+                .before(1_001)
+                .beforeOrAt(1_000)
+                .inPast());
+    }
+
+    @Test
+    void testEpochMillisAsserter_invalid() {
+        NotAfterTimeException exception = assertThrows(NotAfterTimeException.class,
+                () -> Assert.epochMillis("timestamp", 1_000).after(1_000));
+        assertEquals("Time 1970-01-01T00:00:01Z in \"timestamp\" must be strictly after "
+                + "1970-01-01T00:00:01Z but wasn't", exception.getMessage());
+        assertThrows(NotBeforeTimeException.class, () -> Assert.epochMillis("timestamp", 1_000).beforeOrAt(999));
+    }
+
+    @Test
+    void testEpochMillisAsserter_clock() {
+        Assert.useClock(Clock.fixed(Instant.ofEpochMilli(5_000), ZoneOffset.UTC));
+
+        assertDoesNotThrow(() -> Assert.epochMillis("timestamp", 5_000).inPast().inFuture());
+        assertThrows(NotBeforeTimeException.class, () -> Assert.epochMillis("timestamp", 5_001).inPast());
+        assertThrows(NotAfterTimeException.class, () -> Assert.epochMillis("timestamp", 4_999).inFuture());
+    }
+
+    @Test
+    void testEpochNanosAsserter_valid() {
+        assertDoesNotThrow(() -> Assert.epochNanos("timestamp", -1).after(-2).before(0).inPast());
+    }
+
+    @Test
+    void testEpochNanosAsserter_invalid() {
+        NotBeforeTimeException exception = assertThrows(NotBeforeTimeException.class,
+                () -> Assert.epochNanos("timestamp", -1).before(-1));
+        assertTrue(exception.getMessage().startsWith("Time 1969-12-31T23:59:59.999999999Z"));
+    }
+
+    @Test
+    void testEpochNanosAsserter_clock() {
+        Assert.useClock(Clock.fixed(Instant.ofEpochSecond(5, 10), ZoneOffset.UTC));
+
+        assertDoesNotThrow(() -> Assert.epochNanos("timestamp", 5_000_000_010L).inPast().inFuture());
+        assertThrows(NotBeforeTimeException.class, () -> Assert.epochNanos("timestamp", 5_000_000_011L).inPast());
+    }
+
+    @Test
+    void testEpochNanosAsserter_clockOutOfRange() {
+        Assert.useClock(Clock.fixed(Instant.parse("2300-01-01T00:00:00Z"), ZoneOffset.UTC));
+        assertDoesNotThrow(() -> Assert.epochNanos("timestamp", Long.MAX_VALUE - 1).inPast());
+        assertThrows(NotAfterTimeException.class, () -> Assert.epochNanos("timestamp", 0).inFuture());
+
+        Assert.useClock(Clock.fixed(Instant.parse("1600-01-01T00:00:00Z"), ZoneOffset.UTC));
+        assertDoesNotThrow(() -> Assert.epochNanos("timestamp", Long.MIN_VALUE + 1).inFuture());
+        assertThrows(NotBeforeTimeException.class, () -> Assert.epochNanos("timestamp", 0).inPast());
+    }
+
+    // Time window
+    @Test
+    void testInstantAsserter_within_valid() {
+        Instant now = Instant.parse("2026-03-01T10:00:00Z");
+        Assert.useClock(Clock.fixed(now, ZoneOffset.UTC));
+
+        Duration window = Duration.ofMinutes(5);
+        Duration skew = Duration.ofSeconds(30);
+        assertDoesNotThrow(() -> Assert.field("sentAt", now.minus(window)).within(window, skew));
+        assertDoesNotThrow(() -> Assert.field("sentAt", now.plus(skew)).within(window, skew));
+        assertDoesNotThrow(() -> Assert.field("sentAt", now).within(window));
+        assertDoesNotThrow(() -> Assert.field("sentAt", Instant.MIN)
+                .within(Duration.ofSeconds(Long.MAX_VALUE, 999_999_999)));
+    }
+
+    @Test
+    void testInstantAsserter_within_invalid() {
+        Instant now = Instant.parse("2026-03-01T10:00:00Z");
+        Assert.useClock(Clock.fixed(now, ZoneOffset.UTC));
+
+        Duration window = Duration.ofMinutes(5);
+        Duration skew = Duration.ofSeconds(30);
+        OutsideTimeWindowException exception = assertThrows(OutsideTimeWindowException.class,
+                () -> Assert.field("sentAt", now.minus(window).minusNanos(1)).within(window, skew));
+        assertEquals(Map.of("from", "2026-03-01T09:55:00Z", "to", "2026-03-01T10:00:30Z"), exception.parameters());
+        assertThrows(OutsideTimeWindowException.class,
+                () -> Assert.field("sentAt", now.plus(skew).plusNanos(1)).within(window, skew));
+        assertThrows(OutsideTimeWindowException.class, () -> Assert.field("sentAt", now.plusNanos(1)).within(window));
+        assertThrows(IllegalArgumentException.class,
+                () -> Assert.field("sentAt", now).within(window, Duration.ofSeconds(-1)));
+        assertThrows(MissingMandatoryValueException.class, () -> Assert.field("sentAt", now).within(null));
+    }
+
+    @Test
+    void testEpochMillisAsserter_within() {
+        Assert.useClock(Clock.fixed(Instant.ofEpochMilli(10_000), ZoneOffset.UTC));
+
+        assertDoesNotThrow(() -> Assert.epochMillis("sentAt", 5_000).within(Duration.ofSeconds(5), Duration.ZERO));
+        assertDoesNotThrow(() -> Assert.epochMillis("sentAt", 11_000).within(Duration.ZERO, Duration.ofSeconds(1)));
+        assertDoesNotThrow(() -> Assert.epochMillis("sentAt", Long.MIN_VALUE)
+                .within(Duration.ofSeconds(Long.MAX_VALUE, 999_999_999)));
+
+        OutsideTimeWindowException exception = assertThrows(OutsideTimeWindowException.class,
+                () -> Assert.epochMillis("sentAt", 4_999).within(Duration.ofSeconds(5)));
+        assertEquals(Map.of("from", "1970-01-01T00:00:05Z", "to", "1970-01-01T00:00:10Z"), exception.parameters());
+        assertThrows(OutsideTimeWindowException.class,
+                () -> Assert.epochMillis("sentAt", 11_001).within(Duration.ZERO, Duration.ofSeconds(1)));
+    }
+
+    // ISO-8601 strings
+    @Test
+    void testStringAsserter_isoInstant_valid() {
+        for (String value : List.of("2026-03-01T10:15:30Z", "2026-03-01T10:15:30.1Z", "2026-03-01T10:15:30.123456789Z",
+                "2026-03-01T11:15:30+01:00", "1969-12-31T23:59:59.999Z", "2024-02-29T00:00:00-18:00",
+                "0000-01-01T00:00:00Z", "9999-12-31T23:59:59.999999999+18:00")) {
+            long expected = OffsetDateTime.parse(value).toInstant().toEpochMilli();
+            assertEquals(expected, Assert.field("date", value).isoInstant().value(), value);
+        }
+    }
+
+    @Test
+    void testStringAsserter_isoInstant_invalid() {
+        for (String value : List.of("", "2026-03-01", "2026-03-01t10:15:30Z", "2026-03-01T10:15:30z",
+                "2026-03-01T10:15:30", "2026-03-01T24:00:00Z", "2026-03-01T10:60:30Z", "2026-03-01T10:15:60Z",
+                "2026-03-01T10:15:30.Z", "2026-03-01T10:15:30.1234567890Z", "2026-03-01T10:15:30+1:00",
+                "2026-03-01T10:15:30+0100", "2026-03-01T10:15:30+18:01", "2023-02-29T10:15:30Z",
+                "+2026-03-01T10:15:30Z", "2026-3-01T10:15:30Z", "2026-03-01T10:15:30Z ", "2026-03-01T1a:15:30Z")) {
+            assertThrows(MalformedValueException.class, () -> Assert.field("date", value).isoInstant(), value);
+        }
+        String nullValue = null;
+        assertThrows(MissingMandatoryValueException.class, () -> Assert.field("date", nullValue).isoInstant());
+    }
+
+    @Test
+    void testStringAsserter_isoInstant_chained() {
+        Assert.useClock(Clock.fixed(Instant.parse("2026-03-01T10:00:00Z"), ZoneOffset.UTC));
+
+        assertDoesNotThrow(() -> Assert.field("date", "2026-03-01T09:59:00Z").isoInstant().inPast());
+        assertThrows(NotBeforeTimeException.class,
+                () -> Assert.field("date", "2026-03-01T10:00:00.001Z").isoInstant().inPast());
+    }
+
+    @Test
+    void testStringAsserter_isoDate_valid() {
+        for (String value : List.of("2026-03-01", "2024-02-29", "2000-02-29", "1969-12-31", "0000-01-01",
+                "9999-12-31", "1600-02-29")) {
+            assertEquals(LocalDate.parse(value).toEpochDay(), Assert.field("date", value).isoDate().value(), value);
+        }
+    }
+
+    @Test
+    void testStringAsserter_isoDate_invalid() {
+        for (String value : List.of("2026-3-01", "2026-13-01", "2026-00-10", "2026-04-31", "2023-02-29",
+                "1900-02-29", "2026-01-00", "2026/01/01", "2026-01-01T", "20260101")) {
+            MalformedValueException exception = assertThrows(MalformedValueException.class,
+                    () -> Assert.field("date", value).isoDate(), value);
+            assertEquals("ISO-8601 date", exception.parameters().get("format"));
+        }
+    }
+
+    @Test
+    void testEpochDayAsserter() {
+        Assert.useClock(Clock.fixed(Instant.parse("2026-03-01T10:00:00Z"), ZoneOffset.UTC));
+        long today = LocalDate.of(2026, 3, 1).toEpochDay();
+
+        assertDoesNotThrow(() -> Assert.field("date", "2026-03-01").isoDate().inPast().inFuture()
+                .after(today - 1).before(today + 1));
+        assertThrows(RequiredValueException.class, () -> Assert.field("date", "2026-03-02").isoDate().inPast());
+        assertThrows(RequiredValueException.class, () -> Assert.field("date", "2026-02-28").isoDate().inFuture());
+        assertThrows(RequiredValueException.class, () -> Assert.field("date", "2026-03-01").isoDate().after(today));
+        assertThrows(RequiredValueException.class, () -> Assert.field("date", "2026-03-01").isoDate().before(today));
+    }
+
+    // Date-time asserters
+    @Test
+    void testOffsetDateTimeAsserter() {
+        OffsetDateTime date = OffsetDateTime.parse("2026-03-01T10:00:00+01:00");
+        OffsetDateTime sameInstant = OffsetDateTime.parse("2026-03-01T09:00:00Z");
+
+        assertDoesNotThrow(() -> Assert.field("date", date)
+                .afterOrAt(sameInstant)
+                .beforeOrAt(sameInstant)
+                .after(sameInstant.minusNanos(1))
+                .before(sameInstant.plusNanos(1)));
+        NotAfterTimeException exception = assertThrows(NotAfterTimeException.class,
+                () -> Assert.field("date", date).after(sameInstant));
+        assertTrue(exception.getMessage().startsWith("Time 2026-03-01T10:00+01:00 in \"date\""));
+        assertThrows(NotBeforeTimeException.class, () -> Assert.field("date", date).before(sameInstant));
+        assertThrows(MissingMandatoryValueException.class, () -> Assert.field("date", date).after(null));
+    }
+
+    @Test
+    void testOffsetDateTimeAsserter_clock() {
+        Assert.useClock(Clock.fixed(Instant.parse("2026-03-01T09:00:00Z"), ZoneOffset.UTC));
+        OffsetDateTime now = OffsetDateTime.parse("2026-03-01T10:00:00+01:00");
+
+        assertDoesNotThrow(() -> Assert.field("date", now).inPast().inFuture());
+        assertThrows(NotBeforeTimeException.class, () -> Assert.field("date", now.plusNanos(1)).inPast());
+        assertThrows(NotAfterTimeException.class, () -> Assert.field("date", now.minusNanos(1)).inFuture());
+    }
+
+    @Test
+    void testZonedDateTimeAsserter() {
+        Assert.useClock(Clock.fixed(Instant.parse("2026-03-01T09:00:00Z"), ZoneOffset.UTC));
+        ZonedDateTime now = ZonedDateTime.of(2026, 3, 1, 10, 0, 0, 0, ZoneId.of("Europe/Paris"));
+
+        assertDoesNotThrow(() -> Assert.field("date", now).inPast().inFuture().after(now.minusSeconds(1)));
+        assertThrows(NotBeforeTimeException.class, () -> Assert.field("date", now.plusNanos(1)).inPast());
+        assertThrows(NotBeforeTimeException.class,
+                () -> Assert.field("date", now).beforeOrAt(now.withZoneSameInstant(ZoneOffset.UTC).minusNanos(1)));
+    }
+
+    @Test
+    void testLocalDateTimeAsserter_clock() {
+        ZoneId paris = ZoneId.of("Europe/Paris");
+        Assert.useClock(Clock.fixed(Instant.parse("2026-07-01T09:00:00Z"), paris));
+        LocalDateTime now = LocalDateTime.of(2026, 7, 1, 11, 0);
+
+        assertDoesNotThrow(() -> Assert.field("date", now).inPast().inFuture());
+        NotBeforeTimeException exception = assertThrows(NotBeforeTimeException.class,
+                () -> Assert.field("date", now.plusNanos(1)).inPast());
+        assertTrue(exception.getMessage().endsWith("must be before 2026-07-01T11:00 but wasn't"));
+        assertThrows(NotAfterTimeException.class, () -> Assert.field("date", now.minusNanos(1)).inFuture());
+
+        Assert.useClock(Clock.fixed(Instant.parse("2026-12-01T09:00:00Z"), paris));
+        assertThrows(NotAfterTimeException.class,
+                () -> Assert.field("date", LocalDateTime.of(2026, 12, 1, 9, 59)).inFuture());
+    }
+
+    @Test
+    void testLocalDateTimeAsserter_comparisons() {
+        LocalDateTime date = LocalDateTime.of(2026, 3, 1, 10, 0);
+
+        assertDoesNotThrow(() -> Assert.field("date", date).after(date.minusNanos(1)).beforeOrAt(date).afterOrAt(date));
+        assertThrows(NotAfterTimeException.class, () -> Assert.field("date", date).after(date));
+        assertThrows(NotBeforeTimeException.class, () -> Assert.field("date", date).before(date));
+        LocalDateTime nullDate = null;
+        assertThrows(MissingMandatoryValueException.class, () -> Assert.field("date", nullDate).inPast());
+    }
+
+    // Durations
+    @Test
+    void testDurationAsserter_valid() {
+        assertDoesNotThrow(() -> Assert.field("timeout", Duration.ofSeconds(30))
+                .strictlyPositive()
+                .min(Duration.ofSeconds(30))
+                .max(Duration.ofSeconds(30)));
+        assertDoesNotThrow(() -> Assert.field("timeout", Duration.ZERO).positive());
+    }
+
+    @Test
+    void testDurationAsserter_invalid() {
+        DurationTooLongException exception = assertThrows(DurationTooLongException.class,
+                () -> Assert.field("timeout", Duration.ofMinutes(5).plusNanos(1)).max(Duration.ofMinutes(5)));
+        assertEquals(Map.of("max", "PT5M", "value", "PT5M0.000000001S"), exception.parameters());
+        assertThrows(DurationTooShortException.class, () -> Assert.field("timeout", Duration.ZERO).strictlyPositive());
+        assertThrows(DurationTooShortException.class, () -> Assert.field("timeout", Duration.ofNanos(-1)).positive());
+        Duration nullDuration = null;
+        assertThrows(MissingMandatoryValueException.class, () -> Assert.field("timeout", nullDuration).positive());
+    }
+
+    @Test
+    void testPeriodAsserter() {
+        assertDoesNotThrow(() -> Assert.field("retention", Period.ofMonths(1))
+                .strictlyPositive()
+                .min(Period.ofDays(30))
+                .max(Period.ofDays(31)));
+        assertDoesNotThrow(() -> Assert.field("retention", Period.ofYears(1))
+                .min(Period.ofMonths(12))
+                .max(Period.ofMonths(12)));
+
+        DurationTooShortException exception = assertThrows(DurationTooShortException.class,
+                () -> Assert.field("retention", Period.ofMonths(1)).min(Period.ofDays(31)));
+        assertEquals(Map.of("min", "P31D", "value", "P1M"), exception.parameters());
+        assertThrows(DurationTooLongException.class,
+                () -> Assert.field("retention", Period.ofYears(11)).max(Period.ofYears(10)));
+        assertThrows(DurationTooShortException.class, () -> Assert.field("retention", Period.ZERO).strictlyPositive());
+        assertThrows(DurationTooShortException.class, () -> Assert.field("retention", Period.ofDays(-1)).positive());
+    }
+
+    @Test
+    void testPeriodAsserter_strictlyPositiveOnEstimatedLength() {
+        assertDoesNotThrow(() -> Assert.field("retention", Period.of(0, 1, -30)).strictlyPositive());
+
+        DurationTooShortException exception = assertThrows(DurationTooShortException.class,
+                () -> Assert.field("retention", Period.of(0, 1, -31)).strictlyPositive());
+        assertEquals(Map.of("min", "PT54S", "value", "P1M-31D"), exception.parameters());
+    }
+
+    @Test
+    void testDurationMillisAsserter() {
+        assertDoesNotThrow(() -> Assert.durationMillis("ttl", 1_500)
+                .strictlyPositive()
+                .min(1_500)
+                .max(1_500)
+                .min(Duration.ofMillis(1_500))
+                .max(Duration.ofSeconds(1, 500_000_000)));
+
+        DurationTooLongException exception = assertThrows(DurationTooLongException.class,
+                () -> Assert.durationMillis("ttl", 1_500).max(Duration.ofSeconds(1, 499_999_999)));
+        assertEquals(Map.of("max", "PT1.499999999S", "value", "PT1.5S"), exception.parameters());
+        assertThrows(DurationTooShortException.class, () -> Assert.durationMillis("ttl", -1).positive());
+        assertThrows(DurationTooShortException.class, () -> Assert.durationMillis("ttl", -1).min(Duration.ofNanos(-1)));
+        assertThrows(DurationTooLongException.class, () -> Assert.durationMillis("ttl", 2).max(1));
+    }
+
+    // UUID strings
+    @Test
+    void testStringAsserter_uuid_valid() {
+        for (int i = 0; i < 100; i++) {
+            UUID uuid = UUID.randomUUID();
+            assertEquals(uuid, Assert.field("id", uuid.toString()).uuid().isVersion(4).value());
+            assertEquals(uuid, Assert.field("id", uuid.toString().toUpperCase()).uuid().value());
+        }
+        assertThrows(UUIDIsNilException.class,
+                () -> Assert.field("id", "00000000-0000-0000-0000-000000000000").uuid().isNotNil());
+    }
+
+    @Test
+    void testStringAsserter_uuid_invalid() {
+        for (String value : List.of("", "1-2-3-4-5", "123e4567-e89b-12d3-a456-42661417400",
+                "123e4567e89b12d3a456426614174000", "123e4567-e89b-12d3-a456-4266141740000",
+                "123e4567-e89b-12d3-a456.426614174000",
+                "123e4567-e89b-12d3-a456-42661417400g", "{23e4567-e89b-12d3-a456-426614174000",
+                "123e4567-e89b-12d3-a456-42661417400\u0660")) {
+            MalformedValueException exception = assertThrows(MalformedValueException.class,
+                    () -> Assert.field("id", value).uuid(), value);
+            assertEquals(Map.of("format", "UUID"), exception.parameters());
+        }
+    }
+
+    @Test
+    void testUuidBytes() {
+        UUID uuid = UUID.randomUUID();
+        byte[] bytes = uuid.toString().getBytes(StandardCharsets.US_ASCII);
+        assertEquals(uuid, Assert.uuid("id", bytes).isNotNil().value());
+
+        ByteBuffer heap = ByteBuffer.allocate(40).put((byte) ' ').put(bytes);
+        heap.flip().position(1);
+        assertEquals(uuid, Assert.uuid("id", heap).value());
+        assertEquals(1, heap.position());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(36).put(bytes).flip();
+        assertEquals(uuid, Assert.uuid("id", direct).value());
+
+        bytes[8] = '_';
+        assertThrows(MalformedValueException.class, () -> Assert.uuid("id", bytes));
+        assertThrows(MalformedValueException.class, () -> Assert.uuid("id", ByteBuffer.wrap(bytes)));
+        assertThrows(MalformedValueException.class, () -> Assert.uuid("id", new byte[] { (byte) 0xC3, (byte) 0xA9 }));
+        byte[] nullBytes = null;
+        assertThrows(MissingMandatoryValueException.class, () -> Assert.uuid("id", nullBytes));
+    }
+
+    @Test
+    void testUuidBytes_longInputIsTruncatedInMessage() {
+        byte[] input = "0".repeat(1_000_000).getBytes(StandardCharsets.US_ASCII);
+        String expected = "The value \"%s... (1000000 bytes)\" in field \"id\" is not a valid UUID"
+                .formatted("0".repeat(36));
+
+        assertEquals(expected, assertThrows(MalformedValueException.class, () -> Assert.uuid("id", input))
+                .getMessage());
+        assertEquals(expected,
+                assertThrows(MalformedValueException.class, () -> Assert.uuid("id", ByteBuffer.wrap(input)))
+                        .getMessage());
+    }
+
+    // UUID v7
+    private static UUID uuidV7(long timestamp, long counter) {
+        return new UUID(timestamp << 16 | 0x7000 | counter, 0x8000_0000_0000_0000L | counter);
+    }
+
+    @Test
+    void testUUIDAsserter_isVersion_extended() {
+        UUID v7 = uuidV7(1_700_000_000_000L, 1);
+        assertDoesNotThrow(() -> Assert.field("id", v7).isVersion(7));
+        assertDoesNotThrow(() -> Assert.field("id", new UUID(0x8000, 1)).isVersion(8));
+        assertDoesNotThrow(() -> Assert.field("id", "1ec9414c-232a-6b00-b3c8-9f6bdeced846").uuid().isVersion(6));
+        assertThrows(UUIDVersionMismatchException.class, () -> Assert.field("id", v7).isVersion(6));
+        assertThrows(IllegalArgumentException.class, () -> Assert.field("id", v7).isVersion(9));
+    }
+
+    @Test
+    void testUUIDAsserter_issuedAfter() {
+        UUID v7 = uuidV7(1_700_000_000_000L, 1);
+        assertDoesNotThrow(() -> Assert.field("id", v7).issuedAfter(Instant.ofEpochMilli(1_699_999_999_999L)));
+        assertThrows(NotAfterTimeException.class,
+                () -> Assert.field("id", v7).issuedAfter(Instant.ofEpochMilli(1_700_000_000_000L)));
+        assertThrows(UUIDVersionMismatchException.class,
+                () -> Assert.field("id", UUID.randomUUID()).issuedAfter(Instant.EPOCH));
+    }
+
+    @Test
+    void testUUIDAsserter_issuedWithin() {
+        Assert.useClock(Clock.fixed(Instant.ofEpochMilli(1_700_000_000_000L), ZoneOffset.UTC));
+
+        assertDoesNotThrow(() -> Assert.field("id", uuidV7(1_699_999_999_000L, 1)).issuedWithin(Duration.ofSeconds(1)));
+        assertDoesNotThrow(() -> Assert.field("id", uuidV7(1_700_000_000_100L, 1))
+                .issuedWithin(Duration.ofSeconds(1), Duration.ofMillis(100)));
+        OutsideTimeWindowException exception = assertThrows(OutsideTimeWindowException.class,
+                () -> Assert.field("id", uuidV7(1_699_999_998_999L, 1)).issuedWithin(Duration.ofSeconds(1)));
+        assertEquals(Map.of("from", "2023-11-14T22:13:19Z", "to", "2023-11-14T22:13:20Z"), exception.parameters());
+        assertThrows(OutsideTimeWindowException.class,
+                () -> Assert.field("id", uuidV7(1_700_000_000_001L, 1)).issuedWithin(Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void testUUIDAsserter_isAfter() {
+        UUID previous = uuidV7(1_700_000_000_000L, 1);
+        assertDoesNotThrow(() -> Assert.field("id", uuidV7(1_700_000_000_000L, 2)).isAfter(previous));
+        assertDoesNotThrow(() -> Assert.field("id", new UUID(-1, 0)).isAfter(new UUID(Long.MAX_VALUE, -1)));
+
+        UUIDOutOfOrderException exception = assertThrows(UUIDOutOfOrderException.class,
+                () -> Assert.field("id", previous).isAfter(previous));
+        assertEquals(Map.of("previous", previous.toString()), exception.parameters());
+        assertThrows(UUIDOutOfOrderException.class, () -> Assert.field("id", new UUID(0, -1)).isAfter(new UUID(1, 0)));
+    }
+
+    // UUID collections
+    @Test
+    void testUUIDCollectionAsserter_valid() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(UUID.randomUUID());
+        }
+
+        assertDoesNotThrow(() -> Assert.uuids("ids", ids).notEmpty().maxSize(10_000).allValid(4));
+        assertDoesNotThrow(() -> Assert.uuids("ids", List.of()).allValid(7));
+    }
+
+    @Test
+    void testUUIDCollectionAsserter_invalid() {
+        UUID first = UUID.randomUUID();
+        UUID nil = new UUID(0, 0);
+
+        DuplicateElementException duplicate = assertThrows(DuplicateElementException.class,
+                () -> Assert.uuids("ids", List.of(first, UUID.randomUUID(), new UUID(first.getMostSignificantBits(),
+                        first.getLeastSignificantBits()))).noDuplicates());
+        assertEquals(Map.of("index", "2", "firstIndex", "0"), duplicate.parameters());
+
+        UUIDIsNilException nilException = assertThrows(UUIDIsNilException.class,
+                () -> Assert.uuids("ids", List.of(first, nil)).allValid(4));
+        assertEquals("ids[1]", nilException.field());
+        assertDoesNotThrow(() -> Assert.uuids("ids", List.of(first, nil)).noDuplicates());
+
+        assertThrows(UUIDVersionMismatchException.class,
+                () -> Assert.uuids("ids", List.of(first, uuidV7(1, 1))).allVersion(4));
+        assertThrows(NullElementInCollectionException.class,
+                () -> Assert.uuids("ids", Arrays.asList(first, null)).noNullElement());
+        assertThrows(TooManyElementsException.class, () -> Assert.uuids("ids", List.of(first, nil)).maxSize(1));
+        assertThrows(IllegalArgumentException.class, () -> Assert.uuids("ids", List.of(first)).allVersion(0));
+    }
+
+    @Test
+    void testUUIDCollectionAsserter_nullCollection() {
+        assertDoesNotThrow(() -> Assert.uuids("ids", null).noNullElement().noNil().allVersion(4).noDuplicates()
+                .allValid(7));
+        assertThrows(MissingMandatoryValueException.class, () -> Assert.uuids("ids", null).notNull());
+        assertThrows(MissingMandatoryValueException.class, () -> Assert.uuids("ids", null).notEmpty());
+    }
+
+}
@@ -0,0 +1,108 @@
+package io.github.sympol.pure.asserts;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Timed harness comparing {@code noNullElement()} with the stream lookup it
+ * replaced, on collections and arrays from 0 to 1M elements without null.
+ *
+ * <p>
+ * It is not run by the tests (surefire only runs {@code *Test} classes), run it
+ * after {@code mvn test-compile} with:
+ * </p>
+ *
+ * <pre>
+ * <code>
+ * java -cp target/classes:target/test-classes io.github.sympol.pure.asserts.NullElementsBenchmark
+ * </code>
+ * </pre>
+ *
+ * <p>
+ * Each case is warmed up then measured for a fixed time, printing the mean
+ * time of a check in nanoseconds. This is a rough comparison, not a JMH
+ * benchmark: run it on an idle machine and compare orders of magnitude.
+ * </p>
+ */
+public final class NullElementsBenchmark {
+
+    private static final int[] SIZES = { 0, 1, 10, 1_000, 1_000_000 };
+    private static final long WARMUP_NANOS = 500_000_000L;
+    private static final long MEASURE_NANOS = 1_000_000_000L;
+
+    private static volatile boolean sink;
+
+    private NullElementsBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        System.out.printf("%-12s %10s %16s %16s%n", "type", "size", "stream (ns)", "noNullElement (ns)");
+
+        for (int size : SIZES) {
+            List<String> elements = elements(size);
+
+            run("ArrayList", size, new ArrayList<>(elements));
+            run("LinkedList", size, new LinkedList<>(elements));
+            run("HashSet", size, new HashSet<>(elements));
+            run("List.copyOf", size, List.copyOf(elements));
+            run("Set.copyOf", size, Set.copyOf(elements));
+
+            String[] array = elements.toArray(String[]::new);
+            report("array", size, measure(() -> Stream.of(array).anyMatch(Objects::isNull)),
+                    measure(() -> checked(() -> Assert.field("values", array).noNullElement())));
+        }
+    }
+
+    private static List<String> elements(int size) {
+        List<String> elements = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            elements.add(String.valueOf(i));
+        }
+
+        return elements;
+    }
+
+    private static void run(String type, int size, Collection<String> collection) {
+        report(type, size, measure(() -> collection.stream().anyMatch(Objects::isNull)),
+                measure(() -> checked(() -> Assert.field("values", collection).noNullElement())));
+    }
+
+    private static boolean checked(Runnable check) {
+        check.run();
+
+        return false;
+    }
+
+    private static double measure(BooleanSupplier check) {
+        loop(check, WARMUP_NANOS);
+
+        return loop(check, MEASURE_NANOS);
+    }
+
+    private static double loop(BooleanSupplier check, long duration) {
+        long start = System.nanoTime();
+        long end = start + duration;
+        long iterations = 0;
+        long now;
+
+        do {
+            sink = check.getAsBoolean();
+            iterations++;
+            now = System.nanoTime();
+        } while (now < end);
+
+        return (double) (now - start) / iterations;
+    }
+
+    private static void report(String type, int size, double stream, double noNullElement) {
+        System.out.printf("%-12s %10d %16.1f %16.1f%n", type, size, stream, noNullElement);
+    }
+}